@@ -0,0 +1,102 @@
+/*
+ * @(#) CallerBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.Logger;
+import io.jstuff.log.LoggerFactory;
+
+/**
+ * Benchmarks of the determination of the calling class name by the no-argument forms of
+ * {@link LoggerFactory#getLogger()}.  The {@code throwableStackTrace} benchmark reproduces the original
+ * implementation, which materialised the full stack trace on every call, for comparison.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CallerBenchmark {
+
+    private static final String logPackageName = LoggerFactory.logPackageName;
+
+    private final Logger logger = new LevelLogger("benchmark", Level.INFO);
+    private final LoggerFactory<Logger> loggerFactory = new LoggerFactory<Logger>() {
+        @Override
+        public Logger getLogger(String name, Level level, Clock clock) {
+            return name == null ? null : logger;
+        }
+    };
+
+    @Benchmark
+    public String throwableStackTrace() {
+        return legacyCallerInfo().getClassName();
+    }
+
+    @Benchmark
+    public String callerInfo() {
+        return LoggerFactory.callerInfo().getClassName();
+    }
+
+    @Benchmark
+    public Logger getLoggerDynamic() {
+        return loggerFactory.getLogger();
+    }
+
+    @Benchmark
+    public Logger getLoggerByClass() {
+        return loggerFactory.getLogger(CallerBenchmark.class);
+    }
+
+    private static StackTraceElement legacyCallerInfo() {
+        StackTraceElement[] callStack = (new Throwable()).getStackTrace();
+        int packageNameLength = logPackageName.length();
+        for (int i = 1, n = callStack.length; i < n; i++) {
+            StackTraceElement element = callStack[i];
+            String className = element.getClassName();
+            if (className.lastIndexOf('.') != packageNameLength || !className.startsWith(logPackageName))
+                return element;
+        }
+        return new StackTraceElement("unknown", "unknown", null, -1);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * @(#) ClockBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.CachedClock;
+import io.jstuff.log.LoggerFactory;
+import io.jstuff.log.MonotonicClock;
+
+/**
+ * Benchmarks comparing the cost of obtaining a timestamp from the system clock (as used by default by
+ * {@link LoggerFactory}), from a {@link CachedClock} and from a {@link MonotonicClock}.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ClockBenchmark {
+
+    private final Clock systemClock = LoggerFactory.systemClock;
+    private final CachedClock cachedClock = new CachedClock();
+    private final MonotonicClock monotonicClock = new MonotonicClock();
+
+    @TearDown
+    public void tearDown() {
+        cachedClock.close();
+    }
+
+    @Benchmark
+    public Instant systemClockInstant() {
+        return systemClock.instant();
+    }
+
+    @Benchmark
+    public Instant cachedClockInstant() {
+        return cachedClock.instant();
+    }
+
+    @Benchmark
+    public Instant monotonicClockInstant() {
+        return monotonicClock.instant();
+    }
+
+    @Benchmark
+    public long monotonicClockEpochNanos() {
+        return monotonicClock.epochNanos();
+    }
+
+    @Benchmark
+    public long systemClockMillis() {
+        return systemClock.millis();
+    }
+
+    @Benchmark
+    public long cachedClockMillis() {
+        return cachedClock.millis();
+    }
+
+}
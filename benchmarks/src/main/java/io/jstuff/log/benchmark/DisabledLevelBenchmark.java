@@ -0,0 +1,144 @@
+/*
+ * @(#) DisabledLevelBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.Logger;
+
+/**
+ * Benchmarks of the disabled-level path through the default methods of {@link Logger}.  The {@link Logger} is set to
+ * {@code INFO}, so all trace and debug calls are discarded; the interesting numbers are the time per operation and
+ * (with the GC profiler) the allocation rate of the {@link java.util.function.Supplier} forms.  The benchmarks with
+ * the prefix {@code threshold} use an {@link io.jstuff.log.AbstractLogger AbstractLogger} for comparison.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DisabledLevelBenchmark {
+
+    private final Logger logger = new LevelLogger("benchmark", Level.INFO);
+    private final Logger thresholdLogger = new ThresholdLogger("benchmark", Level.INFO);
+    private Level traceLevel = Level.TRACE;
+    private String text = "text";
+    private int value = 42;
+    private long latency = 123456789L;
+
+    @Benchmark
+    public void baseline() {
+        // empty - measures the benchmark harness overhead
+    }
+
+    @Benchmark
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
+    }
+
+    @Benchmark
+    public boolean isEnabledLevel() {
+        return logger.isEnabled(traceLevel);
+    }
+
+    @Benchmark
+    public void traceObject() {
+        logger.trace(text);
+    }
+
+    @Benchmark
+    public void debugSupplierNonCapturing() {
+        logger.debug(() -> "constant message");
+    }
+
+    @Benchmark
+    public void debugSupplierCapturing() {
+        int v = value;
+        logger.debug(() -> "value " + v);
+    }
+
+    @Benchmark
+    public void debugPattern() {
+        logger.debug("text {}", text);
+    }
+
+    @Benchmark
+    public void debugPatternBoxed() {
+        logger.debug("latency {}", (Object)latency);
+    }
+
+    @Benchmark
+    public void debugPatternLong() {
+        logger.debug("latency {}", latency);
+    }
+
+    @Benchmark
+    public void logLevelObject() {
+        logger.log(traceLevel, text);
+    }
+
+    @Benchmark
+    public void logLevelSupplierCapturing() {
+        int v = value;
+        logger.log(traceLevel, () -> "value " + v);
+    }
+
+    @Benchmark
+    public boolean thresholdIsTraceEnabled() {
+        return thresholdLogger.isTraceEnabled();
+    }
+
+    @Benchmark
+    public boolean thresholdIsEnabledLevel() {
+        return thresholdLogger.isEnabled(traceLevel);
+    }
+
+    @Benchmark
+    public void thresholdDebugSupplierCapturing() {
+        int v = value;
+        thresholdLogger.debug(() -> "value " + v);
+    }
+
+    @Benchmark
+    public void thresholdLogLevelObject() {
+        thresholdLogger.log(traceLevel, text);
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * @(#) FileChannelBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.FileChannelLoggerFactory;
+import io.jstuff.log.Logger;
+
+/**
+ * Benchmarks of {@link FileChannelLoggerFactory}, compared with the approach of simple logging implementations: a
+ * {@link PrintStream} (which synchronizes on each call) writing to a buffered file.  Use the JMH {@code -t} option to
+ * run with multiple threads.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FileChannelBenchmark {
+
+    private static final String name = "io.jstuff.log.benchmark.FileChannelBenchmark";
+
+    private Path directory;
+    private FileChannelLoggerFactory loggerFactory;
+    private Logger logger;
+    private PrintStream printStream;
+    private final String text = "The quick brown fox jumps over the lazy dog";
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("benchmark");
+        loggerFactory = new FileChannelLoggerFactory(directory.resolve("channel.log"));
+        logger = loggerFactory.getLogger(name);
+        printStream = new PrintStream(new BufferedOutputStream(
+                new FileOutputStream(directory.resolve("stream.log").toFile()), 8192), false, "UTF-8");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        loggerFactory.close();
+        printStream.close();
+        Files.delete(directory.resolve("channel.log"));
+        Files.delete(directory.resolve("stream.log"));
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void fileChannel() {
+        logger.info(text);
+    }
+
+    @Benchmark
+    public void synchronizedPrintStream() {
+        printStream.println(Instant.now() + " INFO " + name + ' ' + text);
+    }
+
+}
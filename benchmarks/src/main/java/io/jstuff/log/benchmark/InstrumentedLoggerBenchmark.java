@@ -0,0 +1,105 @@
+/*
+ * @(#) InstrumentedLoggerBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.InstrumentedLogger;
+import io.jstuff.log.InstrumentedLoggerFactory;
+import io.jstuff.log.Level;
+import io.jstuff.log.Logger;
+
+/**
+ * Benchmarks of the overhead of {@link InstrumentedLogger}, compared with the uninstrumented {@link Logger}, for
+ * enabled and disabled calls, on a single thread and on all available processors sharing the same {@link Logger}
+ * (and therefore the same counters).
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InstrumentedLoggerBenchmark {
+
+    private final Logger plainLogger = new ThresholdLogger("benchmark", Level.INFO);
+    private final Logger instrumentedLogger =
+            new InstrumentedLoggerFactory<>((name, level, clock) -> new ThresholdLogger(name, level))
+                    .getLogger("benchmark", Level.INFO);
+    private final String text = "text";
+
+    @Benchmark
+    public void plainDisabled() {
+        plainLogger.debug(text);
+    }
+
+    @Benchmark
+    public void instrumentedDisabled() {
+        instrumentedLogger.debug(text);
+    }
+
+    @Benchmark
+    public void plainEnabled() {
+        plainLogger.info(text);
+    }
+
+    @Benchmark
+    public void instrumentedEnabled() {
+        instrumentedLogger.info(text);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void plainDisabledContended() {
+        plainLogger.debug(text);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void instrumentedDisabledContended() {
+        instrumentedLogger.debug(text);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void instrumentedEnabledContended() {
+        instrumentedLogger.info(text);
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * @(#) LevelLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.Logger;
+
+/**
+ * A minimal {@link Logger} implementation for use in benchmarks.  Like most real implementations, it holds its level
+ * in a field and tests it before producing output, but it relies on the default methods of {@link Logger} for
+ * everything else.  Output is stored in a volatile field, so that it can not be eliminated as dead code.
+ *
+ * @author  Peter Wall
+ */
+public class LevelLogger implements Logger {
+
+    private final String name;
+    private Level level;
+    private volatile Object output;
+
+    public LevelLogger(String name, Level level) {
+        this.name = name;
+        this.level = level;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Level getLevel() {
+        return level;
+    }
+
+    @Override
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    @Override
+    public void trace(Object message) {
+        if (isTraceEnabled())
+            output = message;
+    }
+
+    @Override
+    public void debug(Object message) {
+        if (isDebugEnabled())
+            output = message;
+    }
+
+    @Override
+    public void info(Object message) {
+        if (isInfoEnabled())
+            output = message;
+    }
+
+    @Override
+    public void warn(Object message) {
+        if (isWarnEnabled())
+            output = message;
+    }
+
+    @Override
+    public void error(Object message) {
+        if (isErrorEnabled())
+            output = message;
+    }
+
+    @Override
+    public void error(Throwable throwable, Object message) {
+        if (isErrorEnabled())
+            output = message;
+    }
+
+    public Object getOutput() {
+        return output;
+    }
+
+}
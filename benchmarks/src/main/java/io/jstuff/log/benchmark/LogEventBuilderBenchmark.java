@@ -0,0 +1,78 @@
+/*
+ * @(#) LogEventBuilderBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.LogEventBuilder;
+import io.jstuff.log.Logger;
+
+/**
+ * Benchmarks of structured logging using {@link LogEventBuilder}, with the level disabled (returning the no-op
+ * builder) and enabled (using the reusable thread-local builder), compared with the equivalent string concatenation.
+ * Run with the GC profiler to see the allocation rate of each form.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LogEventBuilderBenchmark {
+
+    private final Logger logger = new LevelLogger("benchmark", Level.INFO);
+    private String userId = "u123";
+    private long latency = 123456789L;
+
+    @Benchmark
+    public void builderDisabled() {
+        logger.atDebug().add("userId", userId).add("latencyNs", latency).message("done").emit();
+    }
+
+    @Benchmark
+    public void builderEnabled() {
+        logger.atInfo().add("userId", userId).add("latencyNs", latency).message("done").emit();
+    }
+
+    @Benchmark
+    public void concatenationEnabled() {
+        logger.info("done userId=" + userId + " latencyNs=" + latency);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * @(#) MappedFileBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.EventEncoder;
+import io.jstuff.log.Logger;
+import io.jstuff.log.MappedFileLoggerFactory;
+
+/**
+ * Benchmarks of {@link MappedFileLoggerFactory}: the cost of encoding an event with {@link EventEncoder}, and of
+ * encoding and writing it to a memory-mapped file.  Use the JMH {@code -t} option to run with multiple threads.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MappedFileBenchmark {
+
+    private Path directory;
+    private MappedFileLoggerFactory loggerFactory;
+    private Logger logger;
+    private final ThreadLocal<EventEncoder> encoders = ThreadLocal.withInitial(EventEncoder::new);
+    private final long epochNanos = System.currentTimeMillis() * 1_000_000L;
+    private final String text = "The quick brown fox jumps over the lazy dog";
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("benchmark");
+        loggerFactory = new MappedFileLoggerFactory(directory, "benchmark", 256 * 1024 * 1024, Duration.ofSeconds(1));
+        logger = loggerFactory.getLogger("io.jstuff.log.benchmark.MappedFileBenchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        loggerFactory.close();
+        for (Path path : Files.newDirectoryStream(directory))
+            Files.delete(path);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public int encode() {
+        EventEncoder encoder = encoders.get();
+        encoder.encode("io.jstuff.log.benchmark.MappedFileBenchmark", io.jstuff.log.Level.INFO, epochNanos, null,
+                text);
+        return encoder.getLength();
+    }
+
+    @Benchmark
+    public void write() {
+        logger.info(text);
+    }
+
+}
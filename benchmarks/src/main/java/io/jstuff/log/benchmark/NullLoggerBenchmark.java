@@ -0,0 +1,126 @@
+/*
+ * @(#) NullLoggerBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.Logger;
+import io.jstuff.log.NullLogger;
+import io.jstuff.log.NullLoggerFactory;
+
+/**
+ * Benchmarks of {@link NullLogger}, for comparison with {@link DisabledLevelBenchmark}.  Each of the logging calls
+ * should be removed entirely by the JIT compiler, giving the same time as the empty {@code baseline} benchmark.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NullLoggerBenchmark {
+
+    private final NullLoggerFactory nullLoggerFactory = new NullLoggerFactory();
+    private final Logger logger = nullLoggerFactory.getLogger("benchmark");
+    private final Throwable throwable = new RuntimeException();
+    private Instant time = Instant.now();
+    private Level traceLevel = Level.TRACE;
+    private String text = "text";
+    private int value = 42;
+
+    @Benchmark
+    public void baseline() {
+        // empty - for comparison
+    }
+
+    @Benchmark
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
+    }
+
+    @Benchmark
+    public void traceObject() {
+        logger.trace(text);
+    }
+
+    @Benchmark
+    public void debugSupplierCapturing() {
+        int v = value;
+        logger.debug(() -> "value " + v);
+    }
+
+    @Benchmark
+    public void logLevelSupplierCapturing() {
+        int v = value;
+        logger.log(traceLevel, () -> "value " + v);
+    }
+
+    @Benchmark
+    public void infoInstant() {
+        logger.info(time, text);
+    }
+
+    @Benchmark
+    public void errorInstantThrowable() {
+        logger.error(time, throwable, text);
+    }
+
+    @Benchmark
+    public void logInstantLevelSupplierCapturing() {
+        int v = value;
+        logger.log(time, traceLevel, () -> "value " + v);
+    }
+
+    @Benchmark
+    public void debugPattern() {
+        logger.debug("value {} {}", text, value);
+    }
+
+    @Benchmark
+    public void atInfoBuilder() {
+        logger.atInfo().add("value", value).message(text).emit();
+    }
+
+    @Benchmark
+    public Logger getLogger() {
+        return nullLoggerFactory.getLogger("benchmark");
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * @(#) ThresholdLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.time.Instant;
+
+import io.jstuff.log.AbstractLogger;
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerFactory;
+
+/**
+ * A minimal {@link AbstractLogger} implementation for use in benchmarks.  Output is stored in a volatile field, so
+ * that it can not be eliminated as dead code.
+ *
+ * @author  Peter Wall
+ */
+public class ThresholdLogger extends AbstractLogger {
+
+    private volatile Object output;
+
+    public ThresholdLogger(String name, Level level) {
+        super(name, level, LoggerFactory.systemClock);
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        output = message;
+    }
+
+    public Object getOutput() {
+        return output;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * @(#) ThrowableFormatterBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.ThrowableFormatter;
+
+/**
+ * Benchmarks of the formatting of a repeated failure with a deep stack trace: {@link ThrowableFormatter} (with and
+ * without its cache), compared with {@link Throwable#printStackTrace(PrintWriter)}.  As in a failure storm, each
+ * operation formats a different {@link Throwable} instance, all created at the same point and so having identical
+ * stack traces; there are more instances than the size of the cache.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ThrowableFormatterBenchmark {
+
+    private final ThrowableFormatter cachedFormatter = new ThrowableFormatter();
+    private final ThrowableFormatter uncachedFormatter = new ThrowableFormatter(0, ThrowableFormatter.defaultMaxDepth);
+    private final Throwable[] throwables = new Throwable[1024];
+    private int index;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < throwables.length; i++)
+            throwables[i] = createDeep(100);
+    }
+
+    @Benchmark
+    public String printStackTrace() {
+        StringWriter stringWriter = new StringWriter();
+        nextThrowable().printStackTrace(new PrintWriter(stringWriter));
+        return stringWriter.toString();
+    }
+
+    @Benchmark
+    public String formatterUncached() {
+        return uncachedFormatter.format(nextThrowable());
+    }
+
+    @Benchmark
+    public String formatterCached() {
+        return cachedFormatter.format(nextThrowable());
+    }
+
+    private Throwable nextThrowable() {
+        Throwable throwable = throwables[index];
+        index = (index + 1) & (throwables.length - 1);
+        return throwable;
+    }
+
+    private static Throwable createDeep(int depth) {
+        if (depth == 0)
+            return new RuntimeException("failure", new IllegalStateException("cause"));
+        return createDeep(depth - 1);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * @(#) VirtualThreadStreamBenchmark.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.benchmark;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jstuff.log.Logger;
+import io.jstuff.log.StreamLoggerFactory;
+
+/**
+ * Benchmarks of {@link StreamLoggerFactory} compared with a {@code synchronized} {@link PrintStream}, with 10,000
+ * virtual threads each logging 10 events.  The virtual thread executor is obtained by reflection, so that the
+ * benchmarks may be compiled for Java 8; on a Java version earlier than 21 the setup fails, and these benchmarks are
+ * reported as errors.
+ *
+ * @author  Peter Wall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VirtualThreadStreamBenchmark {
+
+    private static final int threadCount = 10_000;
+    private static final int eventsPerThread = 10;
+
+    private final Logger logger =
+            new StreamLoggerFactory(new StreamBenchmark.DiscardOutputStream()).getLogger(StreamBenchmark.name);
+    private final PrintStream printStream = new PrintStream(new StreamBenchmark.DiscardOutputStream(), true);
+    private ExecutorService executor;
+
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void stream() throws InterruptedException {
+        run(() -> {
+            for (int i = 0; i < eventsPerThread; i++)
+                logger.info(StreamBenchmark.text);
+        });
+    }
+
+    @Benchmark
+    public void synchronizedPrintStream() throws InterruptedException {
+        run(() -> {
+            for (int i = 0; i < eventsPerThread; i++)
+                printStream.println(Instant.now() + " INFO " + StreamBenchmark.name + ' ' + StreamBenchmark.text);
+        });
+    }
+
+    private void run(Runnable task) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executor.execute(() -> {
+                task.run();
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+
+}
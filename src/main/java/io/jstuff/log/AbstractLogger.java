@@ -0,0 +1,1775 @@
+/*
+ * @(#) AbstractLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A skeleton implementation of the {@link Logger} interface.  The level is held as a volatile {@code int} threshold,
+ * so that the test of whether a level is enabled is a single field read and comparison, and all of the logging
+ * functions (including the {@link Instant}, {@link Supplier} and message pattern forms) are funnelled into a single
+ * abstract {@link #write(Level, Instant, Throwable, Object) write()} function.
+ *
+ * <p>Before a message is formatted, or a {@link Supplier} is invoked, each logging function calls
+ * {@link #isAllowed(Level) isAllowed()}, so that an implementation which may discard events at an enabled level (for
+ * example, to limit the rate of output) need override only that function to avoid the cost of creating the message.
+ * </p>
+ *
+ * @author  Peter Wall
+ */
+public abstract class AbstractLogger implements Logger {
+
+    private static final Level[] levels = Level.values();
+    private static final int TRACE = Level.TRACE.ordinal();
+    private static final int DEBUG = Level.DEBUG.ordinal();
+    private static final int INFO = Level.INFO.ordinal();
+    private static final int WARN = Level.WARN.ordinal();
+    private static final int ERROR = Level.ERROR.ordinal();
+
+    private final String name;
+    private volatile int threshold;
+    private volatile Clock clock;
+
+    /**
+     * Construct an {@code AbstractLogger} with the specified name, level and clock.
+     *
+     * @param   name    the name
+     * @param   level   the initial {@link Level}
+     * @param   clock   the {@link Clock}
+     */
+    protected AbstractLogger(String name, Level level, Clock clock) {
+        this.name = Objects.requireNonNull(name, "Logger name must not be null");
+        threshold = Objects.requireNonNull(level, "Level must not be null").ordinal();
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+    }
+
+    /**
+     * Output a log event.  This is called by all of the logging functions, after the level has been checked and
+     * {@link #isAllowed(Level) isAllowed()} has returned {@code true} (and any {@link Supplier} has been invoked).
+     *
+     * @param   level       the {@link Level}
+     * @param   time        the time, or {@code null} if no time was specified (the implementation should use the
+     *                      {@link Clock} in that case)
+     * @param   throwable   the {@link Throwable}, or {@code null}
+     * @param   message     the message
+     */
+    protected abstract void write(Level level, Instant time, Throwable throwable, Object message);
+
+    /**
+     * Output a log event with a message supplied by a {@link Supplier} function.  This is called by the logging
+     * functions that take a {@link Supplier}, after the level has been checked and {@link #isAllowed(Level)
+     * isAllowed()} has returned {@code true}; the default implementation invokes the {@link Supplier} and calls
+     * {@link #write(Level, Instant, Throwable, Object) write()}.
+     *
+     * @param   level           the {@link Level}
+     * @param   time            the time, or {@code null} if no time was specified
+     * @param   throwable       the {@link Throwable}, or {@code null}
+     * @param   messageSupplier the message supplier
+     */
+    protected void writeSupplied(Level level, Instant time, Throwable throwable, Supplier<Object> messageSupplier) {
+        write(level, time, throwable, messageSupplier.get());
+    }
+
+    /**
+     * Output a log event with the time specified as a number of nanoseconds since the epoch.  This is called by the
+     * logging functions that take a {@code long} time, after the level has been checked; the default implementation
+     * converts the time to an {@link Instant} and calls {@link #write(Level, Instant, Throwable, Object) write()}.  An
+     * implementation that can make use of the primitive time may override this to avoid the allocation.
+     *
+     * @param   level       the {@link Level}
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   throwable   the {@link Throwable}, or {@code null}
+     * @param   message     the message
+     */
+    protected void write(Level level, long epochNanos, Throwable throwable, Object message) {
+        write(level, Instant.ofEpochSecond(0, epochNanos), throwable, message);
+    }
+
+    /**
+     * Output a log event with the time specified as a number of nanoseconds since the epoch, and a message supplied by
+     * a {@link Supplier} function.  The default implementation converts the time to an {@link Instant} and calls
+     * {@link #writeSupplied(Level, Instant, Throwable, Supplier) writeSupplied()}.
+     *
+     * @param   level           the {@link Level}
+     * @param   epochNanos      the time in nanoseconds since the epoch
+     * @param   throwable       the {@link Throwable}, or {@code null}
+     * @param   messageSupplier the message supplier
+     */
+    protected void writeSupplied(Level level, long epochNanos, Throwable throwable,
+            Supplier<Object> messageSupplier) {
+        writeSupplied(level, Instant.ofEpochSecond(0, epochNanos), throwable, messageSupplier);
+    }
+
+    /**
+     * Test whether an event at an enabled level is to be output.  This is called by all of the logging functions,
+     * after the level has been checked, and before the message is formatted or any {@link Supplier} is invoked; if it
+     * returns {@code true}, the event is then passed to {@link #write(Level, Instant, Throwable, Object) write()} (or
+     * {@link #writeSupplied(Level, Instant, Throwable, Supplier) writeSupplied()}).  The default implementation returns
+     * {@code true}; an implementation that may discard events (for example, to limit the rate of output) may override
+     * it.
+     *
+     * @param   level   the {@link Level}
+     * @return          {@code true} if the event is to be output
+     */
+    protected boolean isAllowed(Level level) {
+        return true;
+    }
+
+    /**
+     * Get the name associated with this {@code Logger}.
+     *
+     * @return      the name
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the minimum level to be output by this {@code Logger}.
+     *
+     * @return      the {@link Level}
+     */
+    @Override
+    public Level getLevel() {
+        return levels[threshold];
+    }
+
+    /**
+     * Set the minimum level to be output by this {@code Logger}.
+     *
+     * @param   level   the new {@link Level}
+     */
+    @Override
+    public void setLevel(Level level) {
+        threshold = Objects.requireNonNull(level, "Level must not be null").ordinal();
+    }
+
+    /**
+     * Get the {@link Clock} used by this {@code Logger}.
+     *
+     * @return      the {@link Clock}
+     */
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Set the {@link Clock} used by this {@code Logger}.
+     *
+     * @param   clock   the new {@link Clock}
+     */
+    @Override
+    public void setClock(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+    }
+
+    /**
+     * Output a trace message, if trace output is enabled.
+     *
+     * @param   message     the message
+     */
+    @Override
+    public void trace(Object message) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, message);
+    }
+
+    /**
+     * Output a trace message, specifying the time as an {@link Instant}, if trace output is enabled.
+     *
+     * @param   time        the time
+     * @param   message     the message
+     */
+    @Override
+    public void trace(Instant time, Object message) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, time, null, message);
+    }
+
+    /**
+     * Output a debug message, if debug output is enabled.
+     *
+     * @param   message     the message
+     */
+    @Override
+    public void debug(Object message) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, message);
+    }
+
+    /**
+     * Output a debug message, specifying the time as an {@link Instant}, if debug output is enabled.
+     *
+     * @param   time        the time
+     * @param   message     the message
+     */
+    @Override
+    public void debug(Instant time, Object message) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, time, null, message);
+    }
+
+    /**
+     * Output an info message, if info output is enabled.
+     *
+     * @param   message     the message
+     */
+    @Override
+    public void info(Object message) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, message);
+    }
+
+    /**
+     * Output an info message, specifying the time as an {@link Instant}, if info output is enabled.
+     *
+     * @param   time        the time
+     * @param   message     the message
+     */
+    @Override
+    public void info(Instant time, Object message) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, time, null, message);
+    }
+
+    /**
+     * Output a warning message, if warn output is enabled.
+     *
+     * @param   message     the message
+     */
+    @Override
+    public void warn(Object message) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, message);
+    }
+
+    /**
+     * Output a warning message, specifying the time as an {@link Instant}, if warn output is enabled.
+     *
+     * @param   time        the time
+     * @param   message     the message
+     */
+    @Override
+    public void warn(Instant time, Object message) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, time, null, message);
+    }
+
+    /**
+     * Output an error message, if error output is enabled.
+     *
+     * @param   message     the message
+     */
+    @Override
+    public void error(Object message) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, message);
+    }
+
+    /**
+     * Output an error message, specifying the time as an {@link Instant}, if error output is enabled.
+     *
+     * @param   time        the time
+     * @param   message     the message
+     */
+    @Override
+    public void error(Instant time, Object message) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, null, message);
+    }
+
+    /**
+     * Output an error message along with a {@link Throwable}, if error output is enabled.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @param   message     the message
+     */
+    @Override
+    public void error(Throwable throwable, Object message) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, throwable, message);
+    }
+
+    /**
+     * Output an error message along with a {@link Throwable}, specifying the time as an {@link Instant}, if error
+     * output is enabled.
+     *
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable}
+     * @param   message     the message
+     */
+    @Override
+    public void error(Instant time, Throwable throwable, Object message) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, throwable, message);
+    }
+
+    /**
+     * Test whether trace output is enabled for this {@code Logger}.
+     *
+     * @return      {@code true} if trace output is enabled
+     */
+    @Override
+    public boolean isTraceEnabled() {
+        return threshold <= TRACE;
+    }
+
+    /**
+     * Test whether debug output is enabled for this {@code Logger}.
+     *
+     * @return      {@code true} if debug output is enabled
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return threshold <= DEBUG;
+    }
+
+    /**
+     * Test whether info output is enabled for this {@code Logger}.
+     *
+     * @return      {@code true} if info output is enabled
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return threshold <= INFO;
+    }
+
+    /**
+     * Test whether warn output is enabled for this {@code Logger}.
+     *
+     * @return      {@code true} if warn output is enabled
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return threshold <= WARN;
+    }
+
+    /**
+     * Test whether error output is enabled for this {@code Logger}.
+     *
+     * @return      {@code true} if error output is enabled
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return threshold <= ERROR;
+    }
+
+    /**
+     * Test whether the specified level is enabled for this {@code Logger}.
+     *
+     * @param   level   the {@link Level}
+     * @return          {@code true} if output of the specified level is enabled
+     */
+    @Override
+    public boolean isEnabled(Level level) {
+        return threshold <= level.ordinal();
+    }
+
+    /**
+     * Output a trace message supplied by a {@link Supplier} function.  The function will be called only if trace
+     * output is enabled.
+     *
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void trace(Supplier<Object> messageSupplier) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            writeSupplied(Level.TRACE, null, null, messageSupplier);
+    }
+
+    /**
+     * Output a trace message supplied by a {@link Supplier} function, specifying the time as an {@link Instant}.  The
+     * function will be called only if trace output is enabled.
+     *
+     * @param   time                the time
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void trace(Instant time, Supplier<Object> messageSupplier) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            writeSupplied(Level.TRACE, time, null, messageSupplier);
+    }
+
+    /**
+     * Output a debug message supplied by a {@link Supplier} function.  The function will be called only if debug
+     * output is enabled.
+     *
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void debug(Supplier<Object> messageSupplier) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            writeSupplied(Level.DEBUG, null, null, messageSupplier);
+    }
+
+    /**
+     * Output a debug message supplied by a {@link Supplier} function, specifying the time as an {@link Instant}.  The
+     * function will be called only if debug output is enabled.
+     *
+     * @param   time                the time
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void debug(Instant time, Supplier<Object> messageSupplier) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            writeSupplied(Level.DEBUG, time, null, messageSupplier);
+    }
+
+    /**
+     * Output an info message supplied by a {@link Supplier} function.  The function will be called only if info
+     * output is enabled.
+     *
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void info(Supplier<Object> messageSupplier) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            writeSupplied(Level.INFO, null, null, messageSupplier);
+    }
+
+    /**
+     * Output an info message supplied by a {@link Supplier} function, specifying the time as an {@link Instant}.  The
+     * function will be called only if info output is enabled.
+     *
+     * @param   time                the time
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void info(Instant time, Supplier<Object> messageSupplier) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            writeSupplied(Level.INFO, time, null, messageSupplier);
+    }
+
+    /**
+     * Output a warning message supplied by a {@link Supplier} function.  The function will be called only if warn
+     * output is enabled.
+     *
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void warn(Supplier<Object> messageSupplier) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            writeSupplied(Level.WARN, null, null, messageSupplier);
+    }
+
+    /**
+     * Output a warning message supplied by a {@link Supplier} function, specifying the time as an {@link Instant}.  The
+     * function will be called only if warn output is enabled.
+     *
+     * @param   time                the time
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void warn(Instant time, Supplier<Object> messageSupplier) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            writeSupplied(Level.WARN, time, null, messageSupplier);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function.  The function will be called only if error
+     * output is enabled.
+     *
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void error(Supplier<Object> messageSupplier) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            writeSupplied(Level.ERROR, null, null, messageSupplier);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function, specifying the time as an {@link Instant}.  The
+     * function will be called only if error output is enabled.
+     *
+     * @param   time                the time
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void error(Instant time, Supplier<Object> messageSupplier) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            writeSupplied(Level.ERROR, time, null, messageSupplier);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function, along with a {@link Throwable}.  The function
+     * will be called only if error output is enabled.
+     *
+     * @param   throwable           the {@link Throwable}
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void error(Throwable throwable, Supplier<Object> messageSupplier) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            writeSupplied(Level.ERROR, null, throwable, messageSupplier);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function, specifying the time as an {@link Instant},
+     * along with a {@link Throwable}.  The function will be called only if error output is enabled.
+     *
+     * @param   time                the time
+     * @param   throwable           the {@link Throwable}
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void error(Instant time, Throwable throwable, Supplier<Object> messageSupplier) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            writeSupplied(Level.ERROR, time, throwable, messageSupplier);
+    }
+
+    /**
+     * Output a message with a variable level, if that level is enabled.
+     *
+     * @param   level       the {@link Level}
+     * @param   message     the message
+     */
+    @Override
+    public void log(Level level, Object message) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, message);
+    }
+
+    /**
+     * Output a message with a variable level, specifying the time as an {@link Instant}, if that level is enabled.
+     *
+     * @param   time        the time
+     * @param   level       the {@link Level}
+     * @param   message     the message
+     */
+    @Override
+    public void log(Instant time, Level level, Object message) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, time, null, message);
+    }
+
+    /**
+     * Output a message supplied by a {@link Supplier} function, with a variable level.  The function will be called
+     * only if the level is enabled.
+     *
+     * @param   level               the {@link Level}
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void log(Level level, Supplier<Object> messageSupplier) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            writeSupplied(level, null, null, messageSupplier);
+    }
+
+    /**
+     * Output a message supplied by a {@link Supplier} function, with a variable level, specifying the time as an
+     * {@link Instant}.  The function will be called only if the level is enabled.
+     *
+     * @param   time                the time
+     * @param   level               the {@link Level}
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void log(Instant time, Level level, Supplier<Object> messageSupplier) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            writeSupplied(level, time, null, messageSupplier);
+    }
+
+    /**
+     * Output a trace message, specifying the time as a number of nanoseconds since the epoch, if trace output is
+     * enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    @Override
+    public void traceAt(long epochNanos, Object message) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, epochNanos, null, message);
+    }
+
+    /**
+     * Output a trace message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The function will be called only if trace output is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void traceAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            writeSupplied(Level.TRACE, epochNanos, null, messageSupplier);
+    }
+
+    /**
+     * Output a debug message, specifying the time as a number of nanoseconds since the epoch, if debug output is
+     * enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    @Override
+    public void debugAt(long epochNanos, Object message) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, epochNanos, null, message);
+    }
+
+    /**
+     * Output a debug message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The function will be called only if debug output is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void debugAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            writeSupplied(Level.DEBUG, epochNanos, null, messageSupplier);
+    }
+
+    /**
+     * Output an info message, specifying the time as a number of nanoseconds since the epoch, if info output is
+     * enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    @Override
+    public void infoAt(long epochNanos, Object message) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, epochNanos, null, message);
+    }
+
+    /**
+     * Output an info message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The function will be called only if info output is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void infoAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            writeSupplied(Level.INFO, epochNanos, null, messageSupplier);
+    }
+
+    /**
+     * Output a warning message, specifying the time as a number of nanoseconds since the epoch, if warn output is
+     * enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    @Override
+    public void warnAt(long epochNanos, Object message) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, epochNanos, null, message);
+    }
+
+    /**
+     * Output a warning message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The function will be called only if warn output is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void warnAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            writeSupplied(Level.WARN, epochNanos, null, messageSupplier);
+    }
+
+    /**
+     * Output an error message, specifying the time as a number of nanoseconds since the epoch, if error output is
+     * enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    @Override
+    public void errorAt(long epochNanos, Object message) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, epochNanos, null, message);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The function will be called only if error output is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void errorAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            writeSupplied(Level.ERROR, epochNanos, null, messageSupplier);
+    }
+
+    /**
+     * Output an error message along with a {@link Throwable}, specifying the time as a number of nanoseconds since the
+     * epoch, if error output is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   throwable   the {@link Throwable}
+     * @param   message     the message
+     */
+    @Override
+    public void errorAt(long epochNanos, Throwable throwable, Object message) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, epochNanos, throwable, message);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function, along with a {@link Throwable}, specifying the
+     * time as a number of nanoseconds since the epoch.  The function will be called only if error output is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   throwable           the {@link Throwable}
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void errorAt(long epochNanos, Throwable throwable, Supplier<Object> messageSupplier) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            writeSupplied(Level.ERROR, epochNanos, throwable, messageSupplier);
+    }
+
+    /**
+     * Output a message with a variable level, specifying the time as a number of nanoseconds since the epoch, if that
+     * level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   level       the {@link Level}
+     * @param   message     the message
+     */
+    @Override
+    public void logAt(long epochNanos, Level level, Object message) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, epochNanos, null, message);
+    }
+
+    /**
+     * Output a message supplied by a {@link Supplier} function, with a variable level, specifying the time as a number
+     * of nanoseconds since the epoch.  The function will be called only if the level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   level               the {@link Level}
+     * @param   messageSupplier     the message supplier
+     */
+    @Override
+    public void logAt(long epochNanos, Level level, Supplier<Object> messageSupplier) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            writeSupplied(level, epochNanos, null, messageSupplier);
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void trace(String pattern, Object a) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void trace(String pattern, Object a, Object b) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void trace(String pattern, Object a, Object b, Object c) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void trace(Instant time, String pattern, Object a) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, time, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void trace(Instant time, String pattern, Object a, Object b) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, time, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event
+     * is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void trace(Instant time, String pattern, Object a, Object b, Object c) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, time, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void debug(String pattern, Object a) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void debug(String pattern, Object a, Object b) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void debug(String pattern, Object a, Object b, Object c) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void debug(Instant time, String pattern, Object a) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, time, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void debug(Instant time, String pattern, Object a, Object b) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, time, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event
+     * is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void debug(Instant time, String pattern, Object a, Object b, Object c) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, time, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void info(String pattern, Object a) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void info(String pattern, Object a, Object b) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void info(String pattern, Object a, Object b, Object c) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void info(Instant time, String pattern, Object a) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, time, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void info(Instant time, String pattern, Object a, Object b) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, time, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event
+     * is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void info(Instant time, String pattern, Object a, Object b, Object c) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, time, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void warn(String pattern, Object a) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void warn(String pattern, Object a, Object b) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The
+     * message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void warn(String pattern, Object a, Object b, Object c) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void warn(Instant time, String pattern, Object a) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, time, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event
+     * is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void warn(Instant time, String pattern, Object a, Object b) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, time, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event
+     * is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void warn(Instant time, String pattern, Object a, Object b, Object c) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, time, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(String pattern, Object a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void error(String pattern, Object a, Object b) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void error(String pattern, Object a, Object b, Object c) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(Instant time, String pattern, Object a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void error(Instant time, String pattern, Object a, Object b) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant}.  The message will be formatted only if the logging level is enabled and the event
+     * is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void error(Instant time, String pattern, Object a, Object b, Object c) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}), along with a
+     * {@link Throwable}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(Throwable throwable, String pattern, Object a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, throwable, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}), along with a
+     * {@link Throwable}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void error(Throwable throwable, String pattern, Object a, Object b) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, throwable, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}), along with a
+     * {@link Throwable}.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void error(Throwable throwable, String pattern, Object a, Object b, Object c) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, throwable, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}, along with a {@link Throwable}.  The message will be formatted only if the logging
+     * level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(Instant time, Throwable throwable, String pattern, Object a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, throwable, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant}, along with a {@link Throwable}.  The message will be formatted only if the logging
+     * level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void error(Instant time, Throwable throwable, String pattern, Object a, Object b) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, throwable, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant}, along with a {@link Throwable}.  The message will be formatted only if the
+     * logging level is enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void error(Instant time, Throwable throwable, String pattern, Object a, Object b, Object c) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, time, throwable, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one argument (see {@link MessageFormatter}), with a variable level.
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void log(Level level, String pattern, Object a) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and two arguments (see {@link MessageFormatter}), with a variable
+     * level.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void log(Level level, String pattern, Object a, Object b) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a message formatted from a pattern and three arguments (see {@link MessageFormatter}), with a variable
+     * level.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void log(Level level, String pattern, Object a, Object b, Object c) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one argument (see {@link MessageFormatter}), with a variable level,
+     * specifying the time as an {@link Instant}.  The message will be formatted only if the logging level is enabled
+     * and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void log(Instant time, Level level, String pattern, Object a) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, time, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and two arguments (see {@link MessageFormatter}), with a variable
+     * level, specifying the time as an {@link Instant}.  The message will be formatted only if the logging level is
+     * enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    @Override
+    public void log(Instant time, Level level, String pattern, Object a, Object b) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, time, null, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a message formatted from a pattern and three arguments (see {@link MessageFormatter}), with a variable
+     * level, specifying the time as an {@link Instant}.  The message will be formatted only if the logging level is
+     * enabled and the event is {@link #isAllowed(Level) allowed}.
+     *
+     * @param   time        the time
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    @Override
+    public void log(Instant time, Level level, String pattern, Object a, Object b, Object c) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, time, null, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void trace(String pattern, long a) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void trace(String pattern, double a) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a character, not as its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void trace(String pattern, char a) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a {@code float}, not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void trace(String pattern, float a) {
+        if (threshold <= TRACE && isAllowed(Level.TRACE))
+            write(Level.TRACE, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void debug(String pattern, long a) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void debug(String pattern, double a) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a character, not as its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void debug(String pattern, char a) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a {@code float}, not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void debug(String pattern, float a) {
+        if (threshold <= DEBUG && isAllowed(Level.DEBUG))
+            write(Level.DEBUG, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void info(String pattern, long a) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void info(String pattern, double a) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a character, not as its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void info(String pattern, char a) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a {@code float}, not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void info(String pattern, float a) {
+        if (threshold <= INFO && isAllowed(Level.INFO))
+            write(Level.INFO, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void warn(String pattern, long a) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void warn(String pattern, double a) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a character, not as its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void warn(String pattern, char a) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a {@code float}, not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void warn(String pattern, float a) {
+        if (threshold <= WARN && isAllowed(Level.WARN))
+            write(Level.WARN, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(String pattern, long a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(String pattern, double a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a character, not as its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(String pattern, char a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled and the event is {@link #isAllowed(Level)
+     * allowed}; the argument is output as a {@code float}, not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void error(String pattern, float a) {
+        if (threshold <= ERROR && isAllowed(Level.ERROR))
+            write(Level.ERROR, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}, and the argument is not boxed.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void log(Level level, String pattern, long a) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}, and the argument is not boxed.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void log(Level level, String pattern, double a) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}; the argument is output as a character, not as its numeric value.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void log(Level level, String pattern, char a) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled and the event is
+     * {@link #isAllowed(Level) allowed}; the argument is output as a {@code float}, not widened to {@code double}.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    @Override
+    public void log(Level level, String pattern, float a) {
+        if (threshold <= level.ordinal() && isAllowed(level))
+            write(level, null, null, MessageFormatter.format(pattern, a));
+    }
+
+}
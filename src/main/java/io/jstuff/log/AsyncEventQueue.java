@@ -0,0 +1,185 @@
+/*
+ * @(#) AsyncEventQueue.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free queue of log events, used by {@link AsyncLoggerFactory}.  The event fields are held in
+ * preallocated parallel arrays, and each slot has a sequence number which indicates whether it is available for
+ * writing or for reading (the algorithm is that of Dmitry Vyukov's bounded MPMC queue).  Any number of threads may add
+ * events concurrently; events are normally removed by a single consumer thread, but removal is also safe from other
+ * threads (this is used to implement the drop-oldest overflow policy).
+ *
+ * @author  Peter Wall
+ */
+final class AsyncEventQueue {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final Logger[] loggers;
+    private final Level[] levels;
+    private final Instant[] times;
+    private final Throwable[] throwables;
+    private final Object[] messages;
+    private final AtomicLong tail;
+    private final AtomicLong head;
+
+    /**
+     * Construct an {@code AsyncEventQueue} with the specified capacity, which must be a power of two.
+     *
+     * @param   capacity    the capacity
+     */
+    AsyncEventQueue(int capacity) {
+        mask = capacity - 1;
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++)
+            sequences.lazySet(i, i);
+        loggers = new Logger[capacity];
+        levels = new Level[capacity];
+        times = new Instant[capacity];
+        throwables = new Throwable[capacity];
+        messages = new Object[capacity];
+        tail = new AtomicLong();
+        head = new AtomicLong();
+    }
+
+    /**
+     * Add an event to the queue.
+     *
+     * @param   logger      the {@link Logger} to which the event is to be delivered
+     * @param   level       the {@link Level}
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable} (may be {@code null})
+     * @param   message     the message
+     * @return              {@code true} if the event was added, {@code false} if the queue is full
+     */
+    boolean offer(Logger logger, Level level, Instant time, Throwable throwable, Object message) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int)position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1))
+                    break;
+                position = tail.get();
+            }
+            else if (difference < 0)
+                return false;
+            else
+                position = tail.get();
+        }
+        loggers[index] = logger;
+        levels[index] = level;
+        times[index] = time;
+        throwables[index] = throwable;
+        messages[index] = message;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Remove the oldest event from the queue, copying its fields to the supplied {@link Event} (if not
+     * {@code null}).
+     *
+     * @param   event       the {@link Event} to receive the fields, or {@code null} if the event is to be discarded
+     * @return              {@code true} if an event was removed, {@code false} if the queue is empty
+     */
+    boolean poll(Event event) {
+        long position = head.get();
+        int index;
+        while (true) {
+            index = (int)position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1))
+                    break;
+                position = head.get();
+            }
+            else if (difference < 0)
+                return false;
+            else
+                position = head.get();
+        }
+        if (event != null) {
+            event.logger = loggers[index];
+            event.level = levels[index];
+            event.time = times[index];
+            event.throwable = throwables[index];
+            event.message = messages[index];
+        }
+        loggers[index] = null;
+        levels[index] = null;
+        times[index] = null;
+        throwables[index] = null;
+        messages[index] = null;
+        sequences.lazySet(index, position + mask + 1);
+        return true;
+    }
+
+    /**
+     * Get the total number of events that have been added to the queue.
+     *
+     * @return      the number of events added
+     */
+    long addedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Test whether the queue is empty.
+     *
+     * @return      {@code true} if the queue is empty
+     */
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * A holder for the fields of an event removed from the queue.  The consumer reuses a single instance.
+     */
+    static final class Event {
+
+        Logger logger;
+        Level level;
+        Instant time;
+        Throwable throwable;
+        Object message;
+
+        void clear() {
+            logger = null;
+            level = null;
+            time = null;
+            throwable = null;
+            message = null;
+        }
+
+    }
+
+}
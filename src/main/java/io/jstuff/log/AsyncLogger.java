@@ -0,0 +1,91 @@
+/*
+ * @(#) AsyncLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * A {@link Logger} returned by {@link AsyncLoggerFactory}.  Each log event is captured (with the time taken from the
+ * {@link Clock} at the time of the call, unless a time is specified explicitly) and added to the queue of the
+ * {@link AsyncLoggerFactory}, to be output to the wrapped {@link Logger} by a separate thread.
+ *
+ * <p>The level test is performed in the calling thread, so a {@link java.util.function.Supplier} is invoked (and a
+ * parameterised message is formatted) only if the level is enabled, and before the event is queued.  The message is
+ * converted to a {@link String} at the same time, so an object whose state changes after the call (a
+ * {@link StringBuilder}, for example) is output as it was when the event was logged.</p>
+ *
+ * @author  Peter Wall
+ */
+public class AsyncLogger extends AbstractLogger {
+
+    private final AsyncLoggerFactory asyncLoggerFactory;
+    private final Logger logger;
+
+    AsyncLogger(AsyncLoggerFactory asyncLoggerFactory, Logger logger) {
+        super(logger.getName(), logger.getLevel(), logger.getClock());
+        this.asyncLoggerFactory = asyncLoggerFactory;
+        this.logger = logger;
+    }
+
+    /**
+     * Get the wrapped {@link Logger}.
+     *
+     * @return      the {@link Logger}
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Set the minimum level to be output by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   level   the new {@link Level}
+     */
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        logger.setLevel(level);
+    }
+
+    /**
+     * Set the {@link Clock} used by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   clock   the new {@link Clock}
+     */
+    @Override
+    public void setClock(Clock clock) {
+        super.setClock(clock);
+        logger.setClock(clock);
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        asyncLoggerFactory.enqueue(logger, level, time != null ? time : getClock().instant(), throwable,
+                String.valueOf(message));
+    }
+
+}
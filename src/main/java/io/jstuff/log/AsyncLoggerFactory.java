@@ -0,0 +1,276 @@
+/*
+ * @(#) AsyncLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and returns {@link AsyncLogger}s which add each
+ * log event to a preallocated lock-free queue, from which a single consumer thread outputs the events to the wrapped
+ * {@link Logger}s.  The events are output using the functions that take a time, so the original time of each event is
+ * preserved (if the wrapped {@link Logger} makes use of it).
+ *
+ * <p>When the queue is full, the action taken depends on the {@link OverflowPolicy}.</p>
+ *
+ * <p>The consumer thread is a daemon thread; the {@link #close()} function should be called to output any remaining
+ * events and stop the thread.  Events logged after {@link #close()} has been called are output synchronously.</p>
+ *
+ * <p>An exception or error thrown by a wrapped {@link Logger} is ignored, so that it does not stop the consumer
+ * thread; if the thread has stopped nevertheless, events that would wait for space in the queue are output
+ * synchronously.</p>
+ *
+ * @author  Peter Wall
+ */
+public class AsyncLoggerFactory implements LoggerFactory<AsyncLogger>, AutoCloseable {
+
+    /**
+     * The action to be taken when an event is logged and the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait until there is space in the queue. */
+        BLOCK,
+        /** Discard the new event. */
+        DROP_NEWEST,
+        /** Discard the oldest event in the queue to make room for the new event. */
+        DROP_OLDEST,
+        /** Output the new event synchronously in the calling thread. */
+        SYNC_FALLBACK
+    }
+
+    public static final int defaultCapacity = 8192;
+
+    private static final long maxParkNanos = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoggerFactory<?> loggerFactory;
+    private final OverflowPolicy overflowPolicy;
+    private final AsyncEventQueue queue;
+    private final AtomicLong completedCount;
+    private final LongAdder droppedCount;
+    private final LongAdder synchronousCount;
+    private final BackgroundWorker<AsyncLogger> worker;
+    private volatile boolean consumerWaiting;
+
+    /**
+     * Construct an {@code AsyncLoggerFactory} with the default capacity and the {@link OverflowPolicy#BLOCK BLOCK}
+     * overflow policy.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     */
+    public AsyncLoggerFactory(LoggerFactory<?> loggerFactory) {
+        this(loggerFactory, defaultCapacity, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Construct an {@code AsyncLoggerFactory} with the specified capacity and overflow policy.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   capacity        the capacity of the queue (will be rounded up to a power of two, minimum 2)
+     * @param   overflowPolicy  the {@link OverflowPolicy}
+     * @throws  LoggerException if the capacity is not positive, or is greater than 2<sup>30</sup>
+     */
+    public AsyncLoggerFactory(LoggerFactory<?> loggerFactory, int capacity, OverflowPolicy overflowPolicy) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "OverflowPolicy must not be null");
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new LoggerException("Capacity must be in the range 1..2^30");
+        queue = new AsyncEventQueue(capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1);
+        completedCount = new AtomicLong();
+        droppedCount = new LongAdder();
+        synchronousCount = new LongAdder();
+        worker = new BackgroundWorker<>(AsyncLoggerFactory.class, this::consume);
+    }
+
+    /**
+     * Get an {@link AsyncLogger} wrapping a {@link Logger} with the specified name, level and clock obtained from the
+     * wrapped {@link LoggerFactory}.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link AsyncLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public AsyncLogger getLogger(String name, Level level, Clock clock) {
+        return new AsyncLogger(this, loggerFactory.getLogger(name, level, clock));
+    }
+
+    /**
+     * Get the default {@link Level} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        return loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the {@link OverflowPolicy}.
+     *
+     * @return      the {@link OverflowPolicy}
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Get the number of events discarded because the queue was full.
+     *
+     * @return      the number of events discarded
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Get the number of events output synchronously because the queue was full.
+     *
+     * @return      the number of events output synchronously
+     */
+    public long getSynchronousCount() {
+        return synchronousCount.sum();
+    }
+
+    /**
+     * Wait until all events added to the queue before this call have been output (or discarded).
+     */
+    public void flush() {
+        long target = queue.addedCount();
+        while (completedCount.get() < target && worker.isAlive()) {
+            worker.wake();
+            LockSupport.parkNanos(this, maxParkNanos / 10);
+        }
+    }
+
+    /**
+     * Output all remaining events, and stop the consumer thread.
+     */
+    @Override
+    public void close() {
+        worker.close(() -> drain(new AsyncEventQueue.Event()));
+    }
+
+    void enqueue(Logger logger, Level level, Instant time, Throwable throwable, String message) {
+        if (worker.isClosed()) {
+            output(logger, level, time, throwable, message);
+            return;
+        }
+        if (!queue.offer(logger, level, time, throwable, message)) {
+            if (worker.isWorkerThread()) {
+                // a Logger called by the consumer thread is itself logging - waiting would never end
+                output(logger, level, time, throwable, message);
+                return;
+            }
+            switch (overflowPolicy) {
+            case BLOCK:
+                do {
+                    if (worker.isClosed() || !worker.isAlive()) {
+                        output(logger, level, time, throwable, message);
+                        return;
+                    }
+                    worker.wake();
+                    LockSupport.parkNanos(this, maxParkNanos / 10);
+                } while (!queue.offer(logger, level, time, throwable, message));
+                break;
+            case DROP_NEWEST:
+                droppedCount.increment();
+                return;
+            case DROP_OLDEST:
+                do {
+                    if (queue.poll(null)) {
+                        droppedCount.increment();
+                        completedCount.incrementAndGet();
+                    }
+                } while (!queue.offer(logger, level, time, throwable, message));
+                break;
+            case SYNC_FALLBACK:
+                synchronousCount.increment();
+                output(logger, level, time, throwable, message);
+                return;
+            }
+        }
+        if (worker.isClosed()) {
+            // the factory was closed after the test above - the final drain may already have run
+            drain(new AsyncEventQueue.Event());
+        }
+        else if (consumerWaiting)
+            worker.wake();
+    }
+
+    private void consume(BackgroundWorker<AsyncLogger> worker) {
+        AsyncEventQueue.Event event = new AsyncEventQueue.Event();
+        while (!worker.isClosed()) {
+            if (!drain(event)) {
+                consumerWaiting = true;
+                if (queue.isEmpty() && !worker.isClosed())
+                    LockSupport.parkNanos(this, maxParkNanos);
+                consumerWaiting = false;
+            }
+        }
+        drain(event);
+    }
+
+    private boolean drain(AsyncEventQueue.Event event) {
+        boolean found = false;
+        while (queue.poll(event)) {
+            found = true;
+            try {
+                output(event.logger, event.level, event.time, event.throwable, event.message);
+            }
+            catch (Throwable ignore) {
+                // a failing Logger must not stop the consumer thread
+            }
+            event.clear();
+            completedCount.incrementAndGet();
+        }
+        return found;
+    }
+
+    private static void output(Logger logger, Level level, Instant time, Throwable throwable, Object message) {
+        if (throwable != null)
+            logger.error(time, throwable, message);
+        else
+            logger.log(time, level, message);
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * @(#) BackgroundWorker.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The background thread, and the set of {@link Logger}s it services, used by the decorating {@link LoggerFactory}
+ * implementations that need to do work outside the logging calls ({@link AsyncLoggerFactory},
+ * {@link DeduplicatingLoggerFactory} and {@link RateLimitedLoggerFactory}).
+ *
+ * <p>The thread is a daemon thread, named after the owning class with a sequence number.  The {@link Logger}s are held
+ * by weak reference, keyed on name, level and {@link Clock}, so that a second request for the same {@link Logger}
+ * returns the same instance while it is still referenced, and a {@link Logger} that is no longer referenced may be
+ * garbage collected.</p>
+ *
+ * @author  Peter Wall
+ * @param   <L>     the {@link Logger} type
+ */
+final class BackgroundWorker<L extends Logger> {
+
+    private static final ClassValue<AtomicInteger> threadNumbers = new ClassValue<AtomicInteger>() {
+        @Override
+        protected AtomicInteger computeValue(Class<?> type) {
+            return new AtomicInteger();
+        }
+    };
+
+    private final WeakValueCache<LoggerKey, L> loggers;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Create a {@code BackgroundWorker} and start its thread.  The task should return when {@link #isClosed()} returns
+     * {@code true} (the thread is unparked when the worker is closed).
+     *
+     * @param   owner   the owning class (used to name the thread)
+     * @param   task    the task to be run by the thread
+     */
+    BackgroundWorker(Class<?> owner, Consumer<BackgroundWorker<L>> task) {
+        loggers = new WeakValueCache<>();
+        thread = new Thread(() -> task.accept(this),
+                owner.getSimpleName() + '-' + threadNumbers.get(owner).incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Create a {@code BackgroundWorker} whose thread performs the specified action on each of its {@link Logger}s at
+     * the specified interval, until it is closed.
+     *
+     * @param   owner           the owning class (used to name the thread)
+     * @param   intervalNanos   the interval, in nanoseconds
+     * @param   action          the action
+     * @param   <L>             the {@link Logger} type
+     * @return                  the {@code BackgroundWorker}
+     */
+    static <L extends Logger> BackgroundWorker<L> periodic(Class<?> owner, long intervalNanos,
+            Consumer<? super L> action) {
+        return new BackgroundWorker<>(owner, worker -> {
+            while (!worker.closed) {
+                LockSupport.parkNanos(worker, intervalNanos);
+                if (!worker.closed)
+                    worker.forEachLogger(action);
+            }
+        });
+    }
+
+    /**
+     * Get the {@link Logger} with the specified name, level and {@link Clock}, creating it using the specified
+     * {@link Supplier} if there is no such {@link Logger} (or it has been garbage collected).
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @param   creator the {@link Supplier} to create the {@link Logger}
+     * @return          the {@link Logger}
+     */
+    L getLogger(String name, Level level, Clock clock, Supplier<? extends L> creator) {
+        return loggers.computeIfAbsent(new LoggerKey(name, level, clock), key -> creator.get());
+    }
+
+    /**
+     * Perform the specified action on each of the {@link Logger}s.  An exception thrown by the action (for example,
+     * from a failing wrapped {@link Logger}) does not prevent the action being performed on the others.
+     *
+     * @param   action  the action
+     */
+    void forEachLogger(Consumer<? super L> action) {
+        loggers.forEach(logger -> {
+            try {
+                action.accept(logger);
+            }
+            catch (RuntimeException ignore) {
+                // the wrapped Logger failed - continue with the others
+            }
+        });
+    }
+
+    /**
+     * Test whether the worker has been closed.
+     *
+     * @return      {@code true} if {@link #close(Runnable)} has been called
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Test whether the current thread is the worker thread.
+     *
+     * @return      {@code true} if the current thread is the worker thread
+     */
+    boolean isWorkerThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Test whether the worker thread is still running.
+     *
+     * @return      {@code true} if the worker thread is alive
+     */
+    boolean isAlive() {
+        return thread.isAlive();
+    }
+
+    /**
+     * Unpark the worker thread.
+     */
+    void wake() {
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Close the worker: wake the thread and wait for it to end, then run the specified final action in the calling
+     * thread.  If the calling thread is interrupted while waiting, the wait continues, and the interrupt status is
+     * restored afterwards.
+     *
+     * @param   finalAction the final action
+     */
+    void close(Runnable finalAction) {
+        closed = true;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            finalAction.run();
+        }
+        finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class LoggerKey {
+
+        private final String name;
+        private final Level level;
+        private final Clock clock;
+
+        private LoggerKey(String name, Level level, Clock clock) {
+            this.name = name;
+            this.level = level;
+            this.clock = clock;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other)
+                return true;
+            if (!(other instanceof LoggerKey))
+                return false;
+            LoggerKey otherKey = (LoggerKey)other;
+            return Objects.equals(name, otherKey.name) && level == otherKey.level &&
+                    Objects.equals(clock, otherKey.clock);
+        }
+
+        @Override
+        public int hashCode() {
+            return (Objects.hashCode(name) * 31 + Objects.hashCode(level)) * 31 + Objects.hashCode(clock);
+        }
+
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * @(#) CachedClock.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link Clock} that returns a cached time, updated by a background thread at a specified resolution.  The
+ * {@link #instant()} and {@link #millis()} functions read a preallocated {@link Instant} from a volatile field, so they
+ * do not allocate or make a system call; the time returned may be behind the true time by up to the resolution (plus
+ * any delay in scheduling the background thread).
+ *
+ * <p>The background thread is a daemon thread; the {@link #close()} function stops it, after which the underlying
+ * {@link Clock} is used directly.  A {@code CachedClock} obtained from {@link #withZone(ZoneId)} shares the background
+ * thread of the original.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class CachedClock extends Clock implements AutoCloseable {
+
+    public static final Duration defaultResolution = Duration.ofMillis(1);
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final Ticker ticker;
+    private final ZoneId zone;
+
+    /**
+     * Construct a {@code CachedClock} using the system clock in the default time zone, with the default resolution
+     * (1 millisecond).
+     */
+    public CachedClock() {
+        this(LoggerFactory.systemClock, defaultResolution);
+    }
+
+    /**
+     * Construct a {@code CachedClock} using the system clock in the default time zone, with the specified resolution.
+     *
+     * @param   resolution  the interval between updates
+     * @throws  LoggerException if the resolution is not positive
+     */
+    public CachedClock(Duration resolution) {
+        this(LoggerFactory.systemClock, resolution);
+    }
+
+    /**
+     * Construct a {@code CachedClock} using the specified underlying {@link Clock} (and its time zone), with the
+     * specified resolution.
+     *
+     * @param   clock       the underlying {@link Clock}
+     * @param   resolution  the interval between updates
+     * @throws  LoggerException if the resolution is not positive
+     */
+    public CachedClock(Clock clock, Duration resolution) {
+        Objects.requireNonNull(clock, "Clock must not be null");
+        Objects.requireNonNull(resolution, "Resolution must not be null");
+        if (resolution.isNegative() || resolution.isZero())
+            throw new LoggerException("Resolution must be positive");
+        ticker = new Ticker(clock, resolution.toNanos());
+        zone = clock.getZone();
+    }
+
+    private CachedClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    /**
+     * Get the time zone.
+     *
+     * @return      the {@link ZoneId}
+     */
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Get a {@code CachedClock} with the specified time zone, sharing the background thread of this clock.
+     *
+     * @param   zone    the {@link ZoneId}
+     * @return          the {@code CachedClock}
+     */
+    @Override
+    public CachedClock withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "Zone must not be null");
+        return zone.equals(this.zone) ? this : new CachedClock(ticker, zone);
+    }
+
+    /**
+     * Get the current cached time.
+     *
+     * @return      the time, as an {@link Instant}
+     */
+    @Override
+    public Instant instant() {
+        Ticker t = ticker;
+        return t.running ? t.instant : t.clock.instant();
+    }
+
+    /**
+     * Get the current cached time in milliseconds since the epoch.
+     *
+     * @return      the time in milliseconds
+     */
+    @Override
+    public long millis() {
+        Ticker t = ticker;
+        return t.running ? t.instant.toEpochMilli() : t.clock.millis();
+    }
+
+    /**
+     * Get the resolution (the interval between updates).
+     *
+     * @return      the resolution
+     */
+    public Duration getResolution() {
+        return Duration.ofNanos(ticker.resolutionNanos);
+    }
+
+    /**
+     * Stop the background thread.  Subsequent calls will use the underlying {@link Clock} directly.
+     */
+    @Override
+    public void close() {
+        ticker.stop();
+    }
+
+    @Override
+    public String toString() {
+        return "CachedClock[" + zone + ']';
+    }
+
+    /**
+     * The shared state of a {@code CachedClock} and its time zone variants, along with the background thread.
+     */
+    private static final class Ticker implements Runnable {
+
+        private final Clock clock;
+        private final long resolutionNanos;
+        private final Thread thread;
+        private volatile Instant instant;
+        private volatile boolean running;
+
+        private Ticker(Clock clock, long resolutionNanos) {
+            this.clock = clock;
+            this.resolutionNanos = resolutionNanos;
+            instant = clock.instant();
+            running = true;
+            thread = new Thread(this, "CachedClock-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                LockSupport.parkNanos(this, resolutionNanos);
+                instant = clock.instant();
+            }
+        }
+
+        private void stop() {
+            running = false;
+            LockSupport.unpark(thread);
+        }
+
+    }
+
+}
@@ -0,0 +1,338 @@
+/*
+ * @(#) CachingLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and caches the {@link Logger}s it creates, so that
+ * a repeated request for a {@link Logger} with the same name, level and clock returns the same instance.  A cache hit
+ * costs a single map lookup; the name is validated, and the wrapped {@link LoggerFactory} is invoked, only on a cache
+ * miss.
+ *
+ * <p>Because the cached {@link Logger}s are shared, a change made to one (for example, by {@link Logger#setLevel})
+ * will be seen by all users of that {@link Logger}.</p>
+ *
+ * <p>The cache may optionally be bounded in size (entries are evicted in approximately the order in which they were
+ * added), and it may optionally hold {@link Logger}s by weak reference, so that a {@link Logger} that is no longer
+ * referenced elsewhere may be garbage collected.</p>
+ *
+ * <p>When the cache is bounded, each addition of a name is given a sequence number, recorded both in the cache entry
+ * and in a queue of insertions.  Eviction takes the oldest insertion from the queue, and removes the entry only if it
+ * still has the same sequence number, so a name that has been removed and added again since the insertion was queued
+ * is not evicted prematurely.  An insertion that no longer matches its entry is simply discarded from the queue (the
+ * queue is compacted if such insertions accumulate), so no operation needs to search the queue.</p>
+ *
+ * @author  Peter Wall
+ * @param   <L>     the {@link Logger} type
+ */
+public class CachingLoggerFactory<L extends Logger> implements LoggerFactory<L> {
+
+    private final LoggerFactory<L> loggerFactory;
+    private final int maximumSize;
+    private final ConcurrentHashMap<String, Entry<L>> cache;
+    private final ConcurrentLinkedQueue<Insertion> insertionOrder;
+    private final AtomicInteger insertionCount;
+    private final AtomicLong nextSequence;
+    private final ReferenceQueue<L> referenceQueue;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    /**
+     * Construct a {@code CachingLoggerFactory} with an unbounded cache holding strong references.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     */
+    public CachingLoggerFactory(LoggerFactory<L> loggerFactory) {
+        this(loggerFactory, 0, false);
+    }
+
+    /**
+     * Construct a {@code CachingLoggerFactory} with the specified options.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   maximumSize     the maximum number of names to be held in the cache (zero means unbounded)
+     * @param   weakReferences  if {@code true}, the cached {@link Logger}s are held by weak reference
+     * @throws  LoggerException if the maximum size is negative
+     */
+    public CachingLoggerFactory(LoggerFactory<L> loggerFactory, int maximumSize, boolean weakReferences) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        if (maximumSize < 0)
+            throw new LoggerException("Maximum size must not be negative");
+        this.maximumSize = maximumSize;
+        cache = new ConcurrentHashMap<>();
+        insertionOrder = maximumSize > 0 ? new ConcurrentLinkedQueue<>() : null;
+        insertionCount = new AtomicInteger();
+        nextSequence = new AtomicLong();
+        referenceQueue = weakReferences ? new ReferenceQueue<>() : null;
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+    }
+
+    /**
+     * Get a {@link Logger} with the specified name, level and clock, returning a cached instance if one exists.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link Logger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public L getLogger(String name, Level level, Clock clock) {
+        if (name != null) {
+            L logger = find(cache.get(name), level, clock);
+            if (logger != null) {
+                hitCount.increment();
+                return logger;
+            }
+        }
+        missCount.increment();
+        LoggerFactory.validateLoggerName(name);
+        L newLogger = loggerFactory.getLogger(name, level, clock);
+        if (referenceQueue != null)
+            expungeStaleEntries();
+        Entry<L> head = cache.compute(name, (k, h) -> {
+            Entry<L> live = Entry.prune(h);
+            if (find(live, level, clock) != null)
+                return live;
+            long sequence;
+            if (live != null)
+                sequence = live.sequence;
+            else {
+                // a new name, or one whose Loggers have all been collected - it is now the most recently added
+                sequence = nextSequence.incrementAndGet();
+                if (insertionOrder != null) {
+                    insertionOrder.add(new Insertion(k, sequence));
+                    insertionCount.incrementAndGet();
+                }
+            }
+            return new Entry<>(level, clock, newLogger, referenceQueue, k, sequence, live);
+        });
+        if (insertionOrder != null)
+            evict();
+        L logger = find(head, level, clock);
+        return logger != null ? logger : newLogger;
+    }
+
+    /**
+     * Get the default {@link Level} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        return loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the wrapped {@link LoggerFactory}.
+     *
+     * @return      the {@link LoggerFactory}
+     */
+    public LoggerFactory<L> getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Get the number of requests satisfied from the cache.
+     *
+     * @return      the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Get the number of requests that required a new {@link Logger} to be created.
+     *
+     * @return      the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Get the number of names currently held in the cache.
+     *
+     * @return      the number of names
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Remove all entries from the cache.  The hit and miss counts are not affected.
+     */
+    public void clear() {
+        cache.clear();
+        if (insertionOrder != null) {
+            while (insertionOrder.poll() != null)
+                insertionCount.decrementAndGet();
+        }
+    }
+
+    private void evict() {
+        while (cache.size() > maximumSize) {
+            Insertion eldest = insertionOrder.poll();
+            if (eldest == null)
+                break;
+            insertionCount.decrementAndGet();
+            cache.computeIfPresent(eldest.name, (k, h) -> h.sequence == eldest.sequence ? null : h);
+        }
+        int count = insertionCount.get();
+        if (count - maximumSize > maximumSize) {
+            // insertions for names removed (or removed and added again) have accumulated - requeue the live ones
+            for (int i = 0; i < count; i++) {
+                Insertion insertion = insertionOrder.poll();
+                if (insertion == null)
+                    break;
+                Entry<L> entry = cache.get(insertion.name);
+                if (entry != null && entry.sequence == insertion.sequence)
+                    insertionOrder.add(insertion);
+                else
+                    insertionCount.decrementAndGet();
+            }
+        }
+    }
+
+    private void expungeStaleEntries() {
+        Object reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            cache.computeIfPresent(((LoggerReference<?>)reference).name, (k, h) -> Entry.prune(h));
+        }
+    }
+
+    private static <L> L find(Entry<L> entry, Level level, Clock clock) {
+        while (entry != null) {
+            if (entry.level == level && Objects.equals(entry.clock, clock)) {
+                L logger = entry.get();
+                if (logger != null)
+                    return logger;
+            }
+            entry = entry.next;
+        }
+        return null;
+    }
+
+    /**
+     * A cache entry.  Entries are immutable; entries for the same name but different level or clock are chained, and
+     * share the sequence number of the insertion of the name.
+     *
+     * @param   <L>     the {@link Logger} type
+     */
+    private static final class Entry<L> {
+
+        private final Level level;
+        private final Clock clock;
+        private final L logger;
+        private final LoggerReference<L> reference;
+        private final long sequence;
+        private final Entry<L> next;
+
+        private Entry(Level level, Clock clock, L logger, LoggerReference<L> reference, long sequence,
+                Entry<L> next) {
+            this.level = level;
+            this.clock = clock;
+            this.logger = logger;
+            this.reference = reference;
+            this.sequence = sequence;
+            this.next = next;
+        }
+
+        private Entry(Level level, Clock clock, L logger, ReferenceQueue<L> queue, String name, long sequence,
+                Entry<L> next) {
+            this(level, clock, queue == null ? logger : null,
+                    queue == null ? null : new LoggerReference<>(logger, queue, name), sequence, prune(next));
+        }
+
+        private L get() {
+            return reference != null ? reference.get() : logger;
+        }
+
+        private static <L> Entry<L> prune(Entry<L> entry) {
+            if (entry == null)
+                return null;
+            Entry<L> next = prune(entry.next);
+            if (entry.reference != null && entry.reference.get() == null)
+                return next;
+            return next == entry.next ? entry : new Entry<>(entry.level, entry.clock, entry.logger, entry.reference,
+                    entry.sequence, next);
+        }
+
+    }
+
+    /**
+     * The insertion of a name into the cache, used to determine the order of eviction.
+     */
+    private static final class Insertion {
+
+        private final String name;
+        private final long sequence;
+
+        private Insertion(String name, long sequence) {
+            this.name = name;
+            this.sequence = sequence;
+        }
+
+    }
+
+    /**
+     * A weak reference to a {@link Logger}, retaining the name so that the cache entry may be removed when the
+     * {@link Logger} is garbage collected.
+     *
+     * @param   <L>     the {@link Logger} type
+     */
+    private static final class LoggerReference<L> extends WeakReference<L> {
+
+        private final String name;
+
+        private LoggerReference(L logger, ReferenceQueue<L> queue, String name) {
+            super(logger, queue);
+            this.name = name;
+        }
+
+    }
+
+}
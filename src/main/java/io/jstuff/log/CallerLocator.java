@@ -0,0 +1,117 @@
+/*
+ * @(#) CallerLocator.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+/**
+ * Locate the caller of a {@link LoggerFactory} function.  This is the Java 8 version, which uses the class context of
+ * a {@link SecurityManager} to find the calling class (falling back to the stack trace of a {@link Throwable} if that
+ * is not available); the multi-release JAR also contains a Java 9 version which uses {@code StackWalker}.
+ *
+ * <p>{@link SecurityManager#getClassContext()} is the only standard way on Java 8 to obtain the classes on the stack
+ * without the cost of a {@link StackTraceElement} for every frame.  {@link SecurityManager} is deprecated for removal
+ * from Java 17 onwards (JEP 411), and this version is not loaded only on Java 8: it is also used on later versions
+ * when the classes are not loaded from the multi-release JAR (for example, by the Maven Surefire plugin from the
+ * {@code target/classes} directory, or from a shaded or otherwise repackaged JAR that does not preserve the
+ * multi-release layout).  The use is therefore confined to this class, the subclass is never installed as the system
+ * {@link SecurityManager}, and if the {@link SecurityManager} constructor throws an exception, the {@link Throwable}
+ * stack trace is used instead.</p>
+ *
+ * @author  Peter Wall
+ */
+final class CallerLocator {
+
+    /** The number of frames to skip: this function, {@link LoggerFactory#callerInfo()} and its immediate caller. */
+    static final int skipFrames = 3;
+
+    private static final ClassContext classContext = ClassContext.create();
+
+    private CallerLocator() {}
+
+    /**
+     * Get the caller information in the form of a {@link StackTraceElement}.  The first frame that is not in the
+     * logging package (after the skipped frames) is returned.
+     *
+     * @return      the {@link StackTraceElement} for the caller
+     */
+    static StackTraceElement callerInfo() {
+        StackTraceElement[] callStack = (new Throwable()).getStackTrace();
+        for (int i = skipFrames, n = callStack.length; i < n; i++) {
+            StackTraceElement element = callStack[i];
+            if (!LogPackage.contains(element.getClassName()))
+                return element;
+        }
+        return LogPackage.unknownCaller;
+    }
+
+    /**
+     * Get the {@link Logger} name for the caller, that is, the name of the first class on the stack that is not in the
+     * logging package.  This does not create a {@link StackTraceElement} for any frame, and the test of whether a
+     * class is in the logging package is cached for each class.
+     *
+     * @return      the {@link Logger} name
+     */
+    static String callerName() {
+        if (classContext != null) {
+            for (Class<?> callerClass : classContext.getClassContext()) {
+                if (!LogPackage.contains(callerClass))
+                    return callerClass.getName();
+            }
+            return LogPackage.unknownCallerName;
+        }
+        for (StackTraceElement element : (new Throwable()).getStackTrace()) {
+            String className = element.getClassName();
+            if (!LogPackage.contains(className))
+                return className;
+        }
+        return LogPackage.unknownCallerName;
+    }
+
+    /**
+     * A {@link SecurityManager} used only to gain access to the {@link SecurityManager#getClassContext()} function,
+     * which returns the classes on the stack without creating a {@link StackTraceElement} for each frame.  It is never
+     * installed as the system {@link SecurityManager}, so it does not depend on the deprecated security policy
+     * mechanism, only on the (protected) class context function.
+     */
+    @SuppressWarnings("removal")
+    private static final class ClassContext extends SecurityManager {
+
+        @Override
+        protected Class<?>[] getClassContext() {
+            return super.getClassContext();
+        }
+
+        private static ClassContext create() {
+            try {
+                return new ClassContext();
+            }
+            catch (RuntimeException ignore) {
+                return null;
+            }
+        }
+
+    }
+
+}
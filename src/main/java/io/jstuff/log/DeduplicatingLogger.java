@@ -0,0 +1,200 @@
+/*
+ * @(#) DeduplicatingLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link Logger} returned by {@link DeduplicatingLoggerFactory}.  Each event is identified by its level, its message
+ * (compared using {@code equals()}) and the class of its {@link Throwable}, if any.  The first occurrence of an event
+ * is output to the wrapped {@link Logger}; further occurrences within the time window (measured using the
+ * {@link Clock} of the {@code Logger}) are counted, and when the window closes, a single line of the form
+ * "{@code message (repeated N times)}" is output.
+ *
+ * <p>Events are tracked in a small fixed-size table, indexed by a hash of the event; a different event with the same
+ * hash displaces the existing entry (after outputting its repeat count, if any).  Each logging call checks one
+ * further entry of the table, and the {@link DeduplicatingLoggerFactory} periodically checks every entry, so that the
+ * counts for windows that have closed are output even if no further events are logged; {@link #flush()} outputs all
+ * outstanding counts.</p>
+ *
+ * @author  Peter Wall
+ */
+public class DeduplicatingLogger extends AbstractLogger {
+
+    private static final long closed = Long.MIN_VALUE;
+
+    private final Logger logger;
+    private final long windowMillis;
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final AtomicInteger sweepIndex;
+
+    DeduplicatingLogger(Logger logger, long windowMillis, int tableSize) {
+        super(logger.getName(), logger.getLevel(), logger.getClock());
+        this.logger = logger;
+        this.windowMillis = windowMillis;
+        table = new AtomicReferenceArray<>(tableSize);
+        mask = tableSize - 1;
+        sweepIndex = new AtomicInteger();
+    }
+
+    /**
+     * Get the wrapped {@link Logger}.
+     *
+     * @return      the {@link Logger}
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Set the minimum level to be output by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   level   the new {@link Level}
+     */
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        logger.setLevel(level);
+    }
+
+    /**
+     * Set the {@link Clock} used by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   clock   the new {@link Clock}
+     */
+    @Override
+    public void setClock(Clock clock) {
+        super.setClock(clock);
+        logger.setClock(clock);
+    }
+
+    /**
+     * Output the repeat counts for all events currently being tracked, and clear the table.
+     */
+    public void flush() {
+        for (int i = 0, n = table.length(); i < n; i++) {
+            Entry entry = table.getAndSet(i, null);
+            if (entry != null)
+                close(entry);
+        }
+    }
+
+    /**
+     * Output the repeat counts for all events whose time window has closed, and remove them from the table.
+     */
+    void expire() {
+        long now = getClock().millis();
+        for (int i = 0, n = table.length(); i < n; i++)
+            expire(i, now);
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        long now = time != null ? time.toEpochMilli() : getClock().millis();
+        Class<?> throwableClass = throwable != null ? throwable.getClass() : null;
+        int hash = level.ordinal() * 31 + Objects.hashCode(message) + Objects.hashCode(throwableClass);
+        int index = (hash ^ (hash >>> 16)) & mask;
+        while (true) {
+            Entry entry = table.get(index);
+            if (entry != null && entry.matches(level, throwableClass, message) && now - entry.start < windowMillis) {
+                if (entry.repeats.getAndIncrement() >= 0)
+                    break;
+                // entry has been closed by another thread - replace it
+            }
+            if (table.compareAndSet(index, entry, new Entry(level, throwableClass, message, now))) {
+                if (entry != null)
+                    close(entry);
+                output(level, time, throwable, message);
+                break;
+            }
+        }
+        sweep(now);
+    }
+
+    private void sweep(long now) {
+        expire(sweepIndex.getAndIncrement() & mask, now);
+    }
+
+    private void expire(int index, long now) {
+        Entry entry = table.get(index);
+        if (entry != null && now - entry.start >= windowMillis && table.compareAndSet(index, entry, null))
+            close(entry);
+    }
+
+    private void close(Entry entry) {
+        long repeats = entry.repeats.getAndSet(closed);
+        if (repeats > 0)
+            logger.log(entry.level, entry.message + (repeats == 1 ? " (repeated 1 time)" :
+                    " (repeated " + repeats + " times)"));
+    }
+
+    private void output(Level level, Instant time, Throwable throwable, Object message) {
+        if (throwable != null) {
+            if (time != null)
+                logger.error(time, throwable, message);
+            else
+                logger.error(throwable, message);
+        }
+        else if (time != null)
+            logger.log(time, level, message);
+        else
+            logger.log(level, message);
+    }
+
+    /**
+     * An entry in the table.  The fields identifying the event are immutable; the repeat count is set to a large
+     * negative value when the entry is closed, so that a concurrent increment may be detected.
+     */
+    private static final class Entry {
+
+        private final Level level;
+        private final Class<?> throwableClass;
+        private final Object message;
+        private final long start;
+        private final AtomicLong repeats;
+
+        private Entry(Level level, Class<?> throwableClass, Object message, long start) {
+            this.level = level;
+            this.throwableClass = throwableClass;
+            this.message = message;
+            this.start = start;
+            repeats = new AtomicLong();
+        }
+
+        private boolean matches(Level level, Class<?> throwableClass, Object message) {
+            return this.level == level && this.throwableClass == throwableClass &&
+                    Objects.equals(this.message, message);
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * @(#) DeduplicatingLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and returns {@link DeduplicatingLogger}s which
+ * collapse repeated occurrences of the same event within a time window into a single line with a repeat count.
+ *
+ * <p>A daemon thread checks the {@link DeduplicatingLogger}s created by this factory at intervals (the window, or one
+ * second if that is shorter) and outputs the repeat counts for windows that have closed, so that a summary is not held
+ * back until the next event is logged.  The {@link #close()} function outputs all outstanding repeat counts and stops
+ * the thread.</p>
+ *
+ * <p>The {@link DeduplicatingLogger}s are held by weak reference, keyed on name, level and {@link Clock}: while a
+ * {@link DeduplicatingLogger} is still referenced, a further request for the same name, level and {@link Clock}
+ * returns the same instance, so that repeated events from all users of the name are collapsed together.</p>
+ *
+ * @author  Peter Wall
+ */
+public class DeduplicatingLoggerFactory implements LoggerFactory<DeduplicatingLogger>, AutoCloseable {
+
+    public static final int defaultTableSize = 64;
+
+    private static final long maxSweepMillis = 1000;
+
+    private final LoggerFactory<?> loggerFactory;
+    private final long windowMillis;
+    private final int tableSize;
+    private final BackgroundWorker<DeduplicatingLogger> worker;
+
+    /**
+     * Construct a {@code DeduplicatingLoggerFactory} with the specified window and the default table size.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   window          the time window within which repeated events are suppressed
+     */
+    public DeduplicatingLoggerFactory(LoggerFactory<?> loggerFactory, Duration window) {
+        this(loggerFactory, window, defaultTableSize);
+    }
+
+    /**
+     * Construct a {@code DeduplicatingLoggerFactory} with the specified window and table size.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   window          the time window within which repeated events are suppressed
+     * @param   tableSize       the number of distinct events tracked by each {@link Logger} (will be rounded up to a
+     *                          power of two)
+     * @throws  LoggerException if the window is not positive or is less than 1 millisecond, or the table size is
+     *          outside the range 1..2^16
+     */
+    public DeduplicatingLoggerFactory(LoggerFactory<?> loggerFactory, Duration window, int tableSize) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        Objects.requireNonNull(window, "Window must not be null");
+        if (window.isNegative() || window.isZero())
+            throw new LoggerException("Window must be positive");
+        if (window.compareTo(Duration.ofMillis(1)) < 0)
+            throw new LoggerException("Window must be at least 1 millisecond");
+        if (tableSize < 1 || tableSize > 1 << 16)
+            throw new LoggerException("Table size must be in the range 1..2^16");
+        windowMillis = window.toMillis();
+        this.tableSize = tableSize == 1 ? 1 : Integer.highestOneBit(tableSize - 1) << 1;
+        worker = BackgroundWorker.periodic(DeduplicatingLoggerFactory.class,
+                TimeUnit.MILLISECONDS.toNanos(Math.min(windowMillis, maxSweepMillis)), DeduplicatingLogger::expire);
+    }
+
+    /**
+     * Get a {@link DeduplicatingLogger} with the specified name, level and clock.  If a {@link DeduplicatingLogger}
+     * with the same name, level and clock has already been created by this factory, and is still referenced, that
+     * instance is returned.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link DeduplicatingLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public DeduplicatingLogger getLogger(String name, Level level, Clock clock) {
+        return worker.getLogger(name, level, clock,
+                () -> new DeduplicatingLogger(loggerFactory.getLogger(name, level, clock), windowMillis, tableSize));
+    }
+
+    /**
+     * Get the default {@link Level} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        return loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the wrapped {@link LoggerFactory}.
+     *
+     * @return      the {@link LoggerFactory}
+     */
+    public LoggerFactory<?> getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Get the time window, in milliseconds.
+     *
+     * @return      the time window
+     */
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * Output the repeat counts for all events currently being tracked by the {@link DeduplicatingLogger}s created by
+     * this factory.
+     */
+    public void flush() {
+        worker.forEachLogger(DeduplicatingLogger::flush);
+    }
+
+    /**
+     * Stop the sweep thread, and output all outstanding repeat counts.  After this function has been called, repeat
+     * counts are output only when a later event is logged, or when {@link #flush()} or
+     * {@link DeduplicatingLogger#flush()} is called.
+     */
+    @Override
+    public void close() {
+        worker.close(this::flush);
+    }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * @(#) EventEncoder.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An encoder that converts a log event to a line of UTF-8 text, in a reusable byte array, for use by {@link Logger}
+ * implementations that write to a file or stream.  The format of the line is:
+ * <pre>
+ *     2025-07-18T02:20:24.123Z INFO Name message
+ * </pre>
+ * The time is output in UTC, with millisecond precision unless the time has a non-zero sub-millisecond part, in which
+ * case it is output with nanosecond precision.  If the event includes a {@link Throwable}, the stack trace (formatted
+ * by a {@link ThrowableFormatter}) follows on subsequent lines.
+ *
+ * <p>An {@code EventEncoder} is not thread-safe; it is intended to be held per thread (or pooled), and reused for each
+ * event, so that encoding an event does not (apart from the conversion of a non-{@link CharSequence} message to a
+ * string) allocate.  The buffer grows as required, but if it has grown beyond {@link #maxRetainedCapacity} (or the
+ * initial capacity, if greater) it is replaced by a buffer of the initial capacity before the next event is encoded,
+ * so that a single large event does not cause a large buffer to be retained indefinitely.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class EventEncoder {
+
+    public static final int defaultInitialCapacity = 256;
+    public static final int maxRetainedCapacity = 8192;
+
+    private static final long nanosPerSecond = 1_000_000_000L;
+    private static final int secondsPerDay = 86400;
+
+    private final ThrowableFormatter throwableFormatter;
+    private final int initialCapacity;
+    private final int retainedCapacity;
+    private StringBuilder throwableText;
+    private byte[] buffer;
+    private int length;
+
+    /**
+     * Construct an {@code EventEncoder} with the default initial capacity.
+     */
+    public EventEncoder() {
+        this(defaultInitialCapacity);
+    }
+
+    /**
+     * Construct an {@code EventEncoder} with the specified initial capacity, using the default
+     * {@link ThrowableFormatter}.  The buffer will grow as required.
+     *
+     * @param   initialCapacity the initial capacity of the buffer
+     * @throws  LoggerException if the initial capacity is not positive
+     */
+    public EventEncoder(int initialCapacity) {
+        this(initialCapacity, ThrowableFormatter.defaultFormatter);
+    }
+
+    /**
+     * Construct an {@code EventEncoder} with the specified initial capacity and {@link ThrowableFormatter}.  The buffer
+     * will grow as required.
+     *
+     * @param   initialCapacity     the initial capacity of the buffer
+     * @param   throwableFormatter  the {@link ThrowableFormatter}
+     * @throws  LoggerException if the initial capacity is not positive
+     */
+    public EventEncoder(int initialCapacity, ThrowableFormatter throwableFormatter) {
+        if (initialCapacity <= 0)
+            throw new LoggerException("Initial capacity must be positive");
+        this.throwableFormatter = Objects.requireNonNull(throwableFormatter, "ThrowableFormatter must not be null");
+        this.initialCapacity = initialCapacity;
+        retainedCapacity = Math.max(initialCapacity, maxRetainedCapacity);
+        throwableText = new StringBuilder();
+        buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Encode an event, replacing any previous content of the buffer.
+     *
+     * @param   name        the {@link Logger} name
+     * @param   level       the {@link Level}
+     * @param   epochNanos  the time of the event, in nanoseconds since the epoch
+     * @param   throwable   the {@link Throwable} (may be {@code null})
+     * @param   message     the message
+     */
+    public void encode(String name, Level level, long epochNanos, Throwable throwable, Object message) {
+        length = 0;
+        if (buffer.length > retainedCapacity)
+            buffer = new byte[initialCapacity];
+        appendTime(epochNanos);
+        append(' ');
+        appendASCII(level.name());
+        append(' ');
+        appendASCII(name);
+        append(' ');
+        appendUTF8(message instanceof CharSequence ? (CharSequence)message : String.valueOf(message));
+        append('\n');
+        if (throwable != null)
+            appendThrowable(throwable);
+    }
+
+    /**
+     * Get the buffer holding the encoded event.  Only the first {@link #getLength()} bytes are valid, and the content
+     * will be overwritten by the next call to {@link #encode(String, Level, long, Throwable, Object)}.
+     *
+     * @return      the buffer
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Get the length of the encoded event.
+     *
+     * @return      the length in bytes
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Copy the encoded event to a {@link ByteBuffer}, at its current position.
+     *
+     * @param   byteBuffer  the {@link ByteBuffer}
+     */
+    public void copyTo(ByteBuffer byteBuffer) {
+        byteBuffer.put(buffer, 0, length);
+    }
+
+    /**
+     * Write the encoded event to an {@link OutputStream}.
+     *
+     * @param   outputStream    the {@link OutputStream}
+     * @throws  IOException     on any error writing to the {@link OutputStream}
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, length);
+    }
+
+    /**
+     * Convert an {@link Instant} to a number of nanoseconds since the epoch.
+     *
+     * @param   instant     the {@link Instant}
+     * @return              the number of nanoseconds since the epoch
+     */
+    public static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * nanosPerSecond + instant.getNano();
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void appendTime(long epochNanos) {
+        long seconds = Math.floorDiv(epochNanos, nanosPerSecond);
+        int nanos = (int)Math.floorMod(epochNanos, nanosPerSecond);
+        long days = Math.floorDiv(seconds, secondsPerDay);
+        int secondOfDay = (int)Math.floorMod(seconds, secondsPerDay);
+        // civil date from days since epoch (proleptic Gregorian calendar)
+        long z = days + 719468;
+        long era = Math.floorDiv(z, 146097);
+        int dayOfEra = (int)(z - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        appendYear(year);
+        append('-');
+        appendDigits(month, 2);
+        append('-');
+        appendDigits(day, 2);
+        append('T');
+        appendDigits(secondOfDay / 3600, 2);
+        append(':');
+        appendDigits(secondOfDay / 60 % 60, 2);
+        append(':');
+        appendDigits(secondOfDay % 60, 2);
+        append('.');
+        if (nanos % 1_000_000 == 0)
+            appendDigits(nanos / 1_000_000, 3);
+        else
+            appendDigits(nanos, 9);
+        append('Z');
+    }
+
+    /**
+     * Append the year, in the form used by {@link Instant#toString()}: four digits for years 0 to 9999, and otherwise
+     * a sign followed by at least four digits.  (The range of a {@code long} number of nanoseconds since the epoch is
+     * the years 1677 to 2262, but the year is not assumed to fit in four digits.)
+     */
+    private void appendYear(long year) {
+        if (year >= 0 && year <= 9999) {
+            appendDigits((int)year, 4);
+            return;
+        }
+        append(year < 0 ? '-' : '+');
+        long absYear = Math.abs(year);
+        int digits = 4;
+        for (long limit = 10000; absYear >= limit && digits < 18; limit *= 10)
+            digits++;
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte)('0' + absYear % 10);
+            absYear /= 10;
+        }
+        length += digits;
+    }
+
+    private void appendThrowable(Throwable throwable) {
+        if (throwableText.capacity() > retainedCapacity)
+            throwableText = new StringBuilder();
+        else
+            throwableText.setLength(0);
+        throwableFormatter.appendTo(throwableText, throwable);
+        appendUTF8(throwableText);
+    }
+
+    private void appendDigits(int value, int digits) {
+        ensureCapacity(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte)('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    private void appendASCII(String string) {
+        int n = string.length();
+        ensureCapacity(n);
+        for (int i = 0; i < n; i++)
+            buffer[length++] = (byte)string.charAt(i);
+    }
+
+    private void appendUTF8(CharSequence charSequence) {
+        int n = charSequence.length();
+        ensureCapacity(n);
+        for (int i = 0; i < n; i++) {
+            char ch = charSequence.charAt(i);
+            if (ch < 0x80)
+                append(ch);
+            else if (ch < 0x800) {
+                append(0xC0 | ch >> 6);
+                append(0x80 | ch & 0x3F);
+            }
+            else if (Character.isHighSurrogate(ch) && i + 1 < n &&
+                    Character.isLowSurrogate(charSequence.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, charSequence.charAt(++i));
+                append(0xF0 | codePoint >> 18);
+                append(0x80 | codePoint >> 12 & 0x3F);
+                append(0x80 | codePoint >> 6 & 0x3F);
+                append(0x80 | codePoint & 0x3F);
+            }
+            else if (Character.isSurrogate(ch))
+                append('?');
+            else {
+                append(0xE0 | ch >> 12);
+                append(0x80 | ch >> 6 & 0x3F);
+                append(0x80 | ch & 0x3F);
+            }
+        }
+    }
+
+    private void append(int b) {
+        if (length == buffer.length)
+            ensureCapacity(1);
+        buffer[length++] = (byte)b;
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = length + extra;
+        if (required > buffer.length) {
+            byte[] newBuffer = new byte[Math.max(required, buffer.length * 2)];
+            System.arraycopy(buffer, 0, newBuffer, 0, length);
+            buffer = newBuffer;
+        }
+    }
+
+}
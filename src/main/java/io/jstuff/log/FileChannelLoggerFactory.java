@@ -0,0 +1,426 @@
+/*
+ * @(#) FileChannelLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link LoggerFactory} that returns {@link FileChannelLogger}s, which write events (encoded by an
+ * {@link EventEncoder}) to a log file through a {@link FileChannel}.  Each event is encoded in the calling thread and
+ * copied into a slot of a bounded, lock-free ring (the algorithm is that of Dmitry Vyukov's bounded MPMC queue, as used
+ * by {@link AsyncLoggerFactory}); each slot has a pooled direct {@link ByteBuffer}, so logging an event does not
+ * allocate.  A single writer thread takes the events from the ring in batches, and writes each batch with one
+ * {@link FileChannel#write(ByteBuffer[], int, int) gather write}.  When the ring is full, a logging call waits until
+ * the writer thread has made space, so a slow disk slows down the logging threads rather than exhausting memory.
+ *
+ * <p>Writes are made durable by group commit: a single {@link FileChannel#force(boolean) force()} covers all the events
+ * written since the previous one, and is performed when the number of bytes written since the last force reaches
+ * {@code commitBytes}, when the oldest event not yet forced is {@code commitLatency} old, or when a thread is waiting
+ * for its events to be committed.  If {@code awaitCommit} is set, each logging call waits until its event has been
+ * forced to disk; threads logging at the same time share the cost of a single force.  The {@link #flush()} function
+ * waits until all events logged before the call have been forced to disk.</p>
+ *
+ * <p>The writer thread is a daemon thread; the {@link #close()} function should be called to write and force any
+ * remaining events, stop the thread and close the file.  Events logged by calls that were already in progress when
+ * {@link #close()} was called are written before the file is closed; events logged after that are discarded.</p>
+ *
+ * @author  Peter Wall
+ */
+public class FileChannelLoggerFactory implements LoggerFactory<FileChannelLogger>, AutoCloseable {
+
+    public static final int defaultCommitBytes = 1024 * 1024;
+    public static final Duration defaultCommitLatency = Duration.ofSeconds(1);
+    public static final int defaultCapacity = 4096;
+    /** The maximum number of buffers in a gather write (the usual value of {@code IOV_MAX}). */
+    public static final int maxBatchEvents = 1024;
+
+    private static final int initialSlotBufferSize = 256;
+    private static final long maxParkNanos = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final ByteBuffer emptyBuffer = ByteBuffer.allocate(0);
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int commitBytes;
+    private final long commitLatencyNanos;
+    private final boolean awaitCommit;
+    private final ThreadLocal<EventEncoder> encoders = ThreadLocal.withInitial(EventEncoder::new);
+    private final ThreadLocal<Waiter> waiters = ThreadLocal.withInitial(Waiter::new);
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final ByteBuffer[] slotBuffers;
+    private final boolean[] slotEmpty;
+    private final Waiter[] slotWaiters;
+    private final AtomicLong tail;
+    private final AtomicInteger activeCount;
+    private final Thread writerThread;
+    private volatile boolean writerWaiting;
+    private volatile boolean closed;
+    private volatile IOException lastException;
+
+    /**
+     * Construct a {@code FileChannelLoggerFactory} with the default commit size (1MB) and latency (1 second), not
+     * waiting for commit.
+     *
+     * @param   path    the path of the log file (events will be appended if the file exists)
+     * @throws  LoggerException if the file can not be opened
+     */
+    public FileChannelLoggerFactory(Path path) {
+        this(path, defaultCommitBytes, defaultCommitLatency, false);
+    }
+
+    /**
+     * Construct a {@code FileChannelLoggerFactory} with the specified commit triggers and the default capacity.
+     *
+     * @param   path            the path of the log file (events will be appended if the file exists)
+     * @param   commitBytes     the number of bytes written that will cause a force to disk
+     * @param   commitLatency   the maximum time an event may wait before being forced to disk
+     * @param   awaitCommit     if {@code true}, each logging call waits until its event has been forced to disk
+     * @throws  LoggerException if the commit size is not positive, the commit latency is negative, or the file can not
+     *                          be opened
+     */
+    public FileChannelLoggerFactory(Path path, int commitBytes, Duration commitLatency, boolean awaitCommit) {
+        this(path, commitBytes, commitLatency, awaitCommit, defaultCapacity);
+    }
+
+    /**
+     * Construct a {@code FileChannelLoggerFactory} with the specified commit triggers and capacity.
+     *
+     * @param   path            the path of the log file (events will be appended if the file exists)
+     * @param   commitBytes     the number of bytes written that will cause a force to disk
+     * @param   commitLatency   the maximum time an event may wait before being forced to disk
+     * @param   awaitCommit     if {@code true}, each logging call waits until its event has been forced to disk
+     * @param   capacity        the number of events that may be waiting to be written (will be rounded up to a power
+     *                          of two, minimum 2)
+     * @throws  LoggerException if the commit size is not positive, the commit latency is negative, the capacity is
+     *                          outside the range 1..2^20, or the file can not be opened
+     */
+    public FileChannelLoggerFactory(Path path, int commitBytes, Duration commitLatency, boolean awaitCommit,
+            int capacity) {
+        this.path = Objects.requireNonNull(path, "Path must not be null");
+        if (commitBytes <= 0)
+            throw new LoggerException("Commit bytes must be positive");
+        this.commitBytes = commitBytes;
+        if (commitLatency.isNegative())
+            throw new LoggerException("Commit latency must not be negative");
+        commitLatencyNanos = commitLatency.toNanos();
+        this.awaitCommit = awaitCommit;
+        if (capacity <= 0 || capacity > 1 << 20)
+            throw new LoggerException("Capacity must be in the range 1..2^20");
+        int slots = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = slots - 1;
+        sequences = new AtomicLongArray(slots);
+        for (int i = 0; i < slots; i++)
+            sequences.lazySet(i, i);
+        slotBuffers = new ByteBuffer[slots];
+        slotEmpty = new boolean[slots];
+        slotWaiters = new Waiter[slots];
+        tail = new AtomicLong();
+        activeCount = new AtomicInteger();
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        catch (IOException e) {
+            throw new LoggerException("Error opening log file", e);
+        }
+        writerThread = new Thread(this::runWriter, "FileChannelLoggerFactory-" + threadNumber.incrementAndGet());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Get a {@link FileChannelLogger} with the specified name, level and clock.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link FileChannelLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public FileChannelLogger getLogger(String name, Level level, Clock clock) {
+        LoggerFactory.validateLoggerName(name);
+        return new FileChannelLogger(this, name, level, clock);
+    }
+
+    /**
+     * Get the path of the log file.
+     *
+     * @return      the path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get the capacity of the ring of events waiting to be written.
+     *
+     * @return      the capacity
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Get the most recent exception encountered by the writer thread, or {@code null} if there has been none.
+     *
+     * @return      the exception
+     */
+    public IOException getLastException() {
+        return lastException;
+    }
+
+    /**
+     * Wait until all events logged before this call have been written and forced to disk.
+     *
+     * @throws  LoggerException if an error occurred writing the events
+     */
+    public void flush() {
+        enqueue(null, true);
+    }
+
+    /**
+     * Write and force to disk any remaining events (including those from logging calls in progress), stop the writer
+     * thread and close the file.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            }
+            catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            lastException = e;
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    void write(String name, Level level, long epochNanos, Throwable throwable, Object message) {
+        if (closed)
+            return;
+        EventEncoder encoder = encoders.get();
+        encoder.encode(name, level, epochNanos, throwable, message);
+        enqueue(encoder, awaitCommit);
+    }
+
+    /**
+     * Copy an encoded event (or, if the encoder is {@code null}, an empty marker) into the next slot of the ring,
+     * waiting for space if the ring is full, and optionally wait for it to be committed.  The count of active calls is
+     * incremented before {@code closed} is tested, so that the writer thread does not finish while an event accepted
+     * here is still to be added.
+     */
+    private void enqueue(EventEncoder encoder, boolean wait) {
+        activeCount.incrementAndGet();
+        Waiter waiter = null;
+        try {
+            if (closed)
+                return;
+            long position = claim();
+            if (position < 0)
+                return;
+            int index = (int)position & mask;
+            if (encoder == null)
+                slotEmpty[index] = true;
+            else {
+                slotEmpty[index] = false;
+                ByteBuffer slotBuffer = slotBuffers[index];
+                int length = encoder.getLength();
+                if (slotBuffer == null || slotBuffer.capacity() < length) {
+                    slotBuffer = ByteBuffer.allocateDirect(length <= initialSlotBufferSize ? initialSlotBufferSize :
+                            Integer.highestOneBit(length - 1) << 1);
+                    slotBuffers[index] = slotBuffer;
+                }
+                slotBuffer.clear();
+                encoder.copyTo(slotBuffer);
+                slotBuffer.flip();
+            }
+            if (wait) {
+                waiter = waiters.get();
+                waiter.committed = false;
+                waiter.failed = false;
+            }
+            slotWaiters[index] = waiter;
+            sequences.lazySet(index, position + 1);
+            if (wait || writerWaiting)
+                LockSupport.unpark(writerThread);
+        }
+        finally {
+            activeCount.decrementAndGet();
+        }
+        if (waiter != null) {
+            while (!waiter.committed && writerThread.isAlive())
+                LockSupport.parkNanos(this, maxParkNanos);
+            if (waiter.failed)
+                throw new LoggerException("Error writing log file", lastException);
+        }
+    }
+
+    private long claim() {
+        long position = tail.get();
+        while (true) {
+            long difference = sequences.get((int)position & mask) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1))
+                    return position;
+                position = tail.get();
+            }
+            else if (difference < 0) {
+                // the ring is full - wait for the writer thread to make space
+                if (!writerThread.isAlive())
+                    return -1;
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(this, maxParkNanos / 10);
+                position = tail.get();
+            }
+            else
+                position = tail.get();
+        }
+    }
+
+    private void runWriter() {
+        int slots = mask + 1;
+        int maxBatch = Math.min(maxBatchEvents, slots);
+        ByteBuffer[] buffers = new ByteBuffer[maxBatch];
+        Waiter[] batchWaiters = new Waiter[maxBatch];
+        long position = 0;
+        long uncommittedBytes = 0;
+        long firstUncommittedNanos = 0;
+        while (true) {
+            boolean done = closed && activeCount.get() == 0;
+            long bytes = 0;
+            int n = 0;
+            int waiterCount = 0;
+            while (n < maxBatch) {
+                int index = (int)(position + n) & mask;
+                if (sequences.get(index) != position + n + 1)
+                    break;
+                ByteBuffer buffer = slotEmpty[index] ? emptyBuffer : slotBuffers[index];
+                buffers[n++] = buffer;
+                bytes += buffer.remaining();
+                Waiter waiter = slotWaiters[index];
+                if (waiter != null) {
+                    batchWaiters[waiterCount++] = waiter;
+                    slotWaiters[index] = null;
+                }
+            }
+            boolean failed = false;
+            if (n > 0) {
+                try {
+                    writeFully(buffers, n, bytes);
+                }
+                catch (IOException e) {
+                    lastException = e;
+                    failed = true;
+                }
+                for (int i = 0; i < n; i++) {
+                    buffers[i] = null;
+                    sequences.lazySet((int)(position + i) & mask, position + i + slots);
+                }
+                position += n;
+                if (bytes > 0) {
+                    if (uncommittedBytes == 0)
+                        firstUncommittedNanos = System.nanoTime();
+                    uncommittedBytes += bytes;
+                }
+            }
+            boolean finished = n == 0 && done;
+            if (uncommittedBytes > 0 && (waiterCount > 0 || finished || uncommittedBytes >= commitBytes ||
+                    System.nanoTime() - firstUncommittedNanos >= commitLatencyNanos)) {
+                try {
+                    channel.force(false);
+                }
+                catch (IOException e) {
+                    lastException = e;
+                    failed = true;
+                }
+                uncommittedBytes = 0;
+            }
+            for (int i = 0; i < waiterCount; i++) {
+                Waiter waiter = batchWaiters[i];
+                batchWaiters[i] = null;
+                waiter.failed = failed;
+                waiter.committed = true;
+                LockSupport.unpark(waiter.thread);
+            }
+            if (finished)
+                break;
+            if (n == 0) {
+                long parkNanos = uncommittedBytes > 0 ?
+                        commitLatencyNanos - (System.nanoTime() - firstUncommittedNanos) : maxParkNanos * 100;
+                writerWaiting = true;
+                if (sequences.get((int)position & mask) != position + 1 && !closed && parkNanos > 0)
+                    LockSupport.parkNanos(this, parkNanos);
+                writerWaiting = false;
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer[] buffers, int n, long bytes) throws IOException {
+        int offset = 0;
+        while (bytes > 0) {
+            bytes -= channel.write(buffers, offset, n - offset);
+            while (offset < n && !buffers[offset].hasRemaining())
+                offset++;
+        }
+    }
+
+    /**
+     * The state of a thread waiting for its event to be committed.  Each thread has at most one event waiting at a
+     * time, so a single instance per thread is reused.
+     */
+    private static final class Waiter {
+
+        private final Thread thread = Thread.currentThread();
+        private volatile boolean committed;
+        private volatile boolean failed;
+
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * @(#) FlightRecorderLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A {@link Logger} returned by {@link FlightRecorderLoggerFactory}.  Every event, at all levels, is recorded in the
+ * buffer of the {@link FlightRecorderLoggerFactory}; events at or above the level of this {@code Logger} are also
+ * output immediately to the wrapped {@link Logger}.
+ *
+ * <p>Because all events are recorded, the {@code isXxxxEnabled()} functions always return {@code true} (so
+ * {@link java.util.function.Supplier}s are invoked and parameterised messages are formatted for all events), while
+ * {@link #getLevel()} returns the level of events to be output immediately.</p>
+ *
+ * <p>Where no time is specified, the time of each event is taken from {@link Clock#millis()}, to avoid allocating an
+ * {@link Instant} for events that may never be output.</p>
+ *
+ * @author  Peter Wall
+ */
+public class FlightRecorderLogger extends AbstractLogger {
+
+    private static final Level[] levels = Level.values();
+
+    private final FlightRecorderLoggerFactory flightRecorderLoggerFactory;
+    private final Logger logger;
+    private volatile int outputThreshold;
+
+    FlightRecorderLogger(FlightRecorderLoggerFactory flightRecorderLoggerFactory, Logger logger, Level level) {
+        super(logger.getName(), Level.TRACE, logger.getClock());
+        this.flightRecorderLoggerFactory = flightRecorderLoggerFactory;
+        this.logger = logger;
+        outputThreshold = Objects.requireNonNull(level, "Level must not be null").ordinal();
+    }
+
+    /**
+     * Get the wrapped {@link Logger}.
+     *
+     * @return      the {@link Logger}
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Get the minimum level of events to be output immediately.
+     *
+     * @return      the {@link Level}
+     */
+    @Override
+    public Level getLevel() {
+        return levels[outputThreshold];
+    }
+
+    /**
+     * Set the minimum level of events to be output immediately.  All events are recorded, regardless of level.
+     *
+     * @param   level   the new {@link Level}
+     */
+    @Override
+    public void setLevel(Level level) {
+        outputThreshold = Objects.requireNonNull(level, "Level must not be null").ordinal();
+    }
+
+    /**
+     * Set the {@link Clock} used by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   clock   the new {@link Clock}
+     */
+    @Override
+    public void setClock(Clock clock) {
+        super.setClock(clock);
+        logger.setClock(clock);
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        long epochNanos = time != null ? time.getEpochSecond() * 1_000_000_000L + time.getNano() :
+                getClock().millis() * 1_000_000L;
+        if (record(level, epochNanos, throwable, message)) {
+            if (throwable != null) {
+                if (time != null)
+                    logger.error(time, throwable, message);
+                else
+                    logger.error(throwable, message);
+            }
+            else if (time != null)
+                logger.log(time, level, message);
+            else
+                logger.log(level, message);
+        }
+    }
+
+    @Override
+    protected void write(Level level, long epochNanos, Throwable throwable, Object message) {
+        if (record(level, epochNanos, throwable, message)) {
+            if (throwable != null)
+                logger.errorAt(epochNanos, throwable, message);
+            else
+                logger.logAt(epochNanos, level, message);
+        }
+    }
+
+    private boolean record(Level level, long epochNanos, Throwable throwable, Object message) {
+        boolean output = level.ordinal() >= outputThreshold;
+        flightRecorderLoggerFactory.record(logger, level, epochNanos, throwable, message, output);
+        if (output && level == Level.ERROR && flightRecorderLoggerFactory.isDumpOnError())
+            flightRecorderLoggerFactory.dump();
+        return output;
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * @(#) FlightRecorderLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and returns {@link FlightRecorderLogger}s which
+ * record every event, at all levels, in preallocated circular buffers shared by all the {@link Logger}s of the
+ * factory.  Events at or above the level of each {@link FlightRecorderLogger} are also output immediately to the
+ * wrapped {@link Logger}; when an event is output at {@code ERROR} level (if {@code dumpOnError} is set), or when
+ * {@link #dump()} is called, the recorded events that have not already been output are output to their wrapped
+ * {@link Logger}s, using the functions that take a time, so that the original time of each event is preserved.
+ *
+ * <p>The buffer is divided into a number of stripes, each holding the specified capacity, and each thread records its
+ * events in one stripe (the stripes are allocated to threads in rotation), so that threads on different stripes do not
+ * contend for the same counter.  Recording an event does not take a lock: a slot in the stripe is claimed by an atomic
+ * increment, and the slot is published using a sequence number, so that a dump in progress can detect (and skip) a
+ * slot that is being overwritten.  The capacity should be large enough that a stripe does not wrap around while an
+ * event is being recorded.</p>
+ *
+ * <p>A dump copies the events from the buffer while holding a lock, and outputs them after releasing it.  The events
+ * from each stripe are output in the order in which they were recorded, and the events from different stripes are
+ * merged in order of time.</p>
+ *
+ * <p>The wrapped {@link Logger}s are created with level {@code TRACE}, so that they will output all events passed to
+ * them; the level given when the {@link FlightRecorderLogger} is created controls which events are output
+ * immediately.</p>
+ *
+ * @author  Peter Wall
+ */
+public class FlightRecorderLoggerFactory implements LoggerFactory<FlightRecorderLogger> {
+
+    public static final int defaultCapacity = 4096;
+    public static final int defaultStripes =
+            Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1), 8);
+
+    private static final long writing = -1L;
+    private static final int forwardedFlag = 0x100;
+
+    private final LoggerFactory<?> loggerFactory;
+    private final boolean dumpOnError;
+    private final int mask;
+    private final Stripe[] stripes;
+    private final AtomicInteger nextStripe;
+    private final ThreadLocal<Stripe> threadStripe;
+
+    /**
+     * Construct a {@code FlightRecorderLoggerFactory} with the default capacity and number of stripes, dumping on
+     * error.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     */
+    public FlightRecorderLoggerFactory(LoggerFactory<?> loggerFactory) {
+        this(loggerFactory, defaultCapacity, defaultStripes, true);
+    }
+
+    /**
+     * Construct a {@code FlightRecorderLoggerFactory} with the specified capacity and options, and the default number
+     * of stripes.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   capacity        the number of events to be retained in each stripe (will be rounded up to a power of
+     *                          two)
+     * @param   dumpOnError     if {@code true}, the recorded events will be output when an {@code ERROR} event is
+     *                          output
+     * @throws  LoggerException if the capacity is outside the range 1..2^24
+     */
+    public FlightRecorderLoggerFactory(LoggerFactory<?> loggerFactory, int capacity, boolean dumpOnError) {
+        this(loggerFactory, capacity, defaultStripes, dumpOnError);
+    }
+
+    /**
+     * Construct a {@code FlightRecorderLoggerFactory} with the specified capacity, number of stripes and options.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   capacity        the number of events to be retained in each stripe (will be rounded up to a power of
+     *                          two)
+     * @param   stripes         the number of stripes
+     * @param   dumpOnError     if {@code true}, the recorded events will be output when an {@code ERROR} event is
+     *                          output
+     * @throws  LoggerException if the capacity is outside the range 1..2^24, or the number of stripes is outside the
+     *                          range 1..64
+     */
+    public FlightRecorderLoggerFactory(LoggerFactory<?> loggerFactory, int capacity, int stripes,
+            boolean dumpOnError) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        if (capacity < 1 || capacity > 1 << 24)
+            throw new LoggerException("Capacity must be in the range 1..2^24");
+        if (stripes < 1 || stripes > 64)
+            throw new LoggerException("Number of stripes must be in the range 1..64");
+        this.dumpOnError = dumpOnError;
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++)
+            this.stripes[i] = new Stripe(size);
+        nextStripe = new AtomicInteger();
+        threadStripe = ThreadLocal.withInitial(
+                () -> this.stripes[Math.floorMod(nextStripe.getAndIncrement(), this.stripes.length)]);
+    }
+
+    /**
+     * Get a {@link FlightRecorderLogger} with the specified name, level and clock.  The wrapped {@link Logger} is
+     * created with level {@code TRACE}.
+     *
+     * @param   name    the name
+     * @param   level   the level of events to be output immediately
+     * @param   clock   the clock
+     * @return          the {@link FlightRecorderLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public FlightRecorderLogger getLogger(String name, Level level, Clock clock) {
+        return new FlightRecorderLogger(this, loggerFactory.getLogger(name, Level.TRACE, clock), level);
+    }
+
+    /**
+     * Get the default {@link Level} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        return loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the wrapped {@link LoggerFactory}.
+     *
+     * @return      the {@link LoggerFactory}
+     */
+    public LoggerFactory<?> getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Get the number of events that each stripe of the buffer can hold.
+     *
+     * @return      the capacity
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Get the number of stripes in the buffer.
+     *
+     * @return      the number of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    /**
+     * Output all recorded events that have not already been output.  Each event is output only once, either
+     * immediately or by a dump.
+     */
+    public void dump() {
+        int n = stripes.length;
+        List<List<RecordedEvent>> snapshots = new ArrayList<>(n);
+        synchronized (this) {
+            for (Stripe stripe : stripes)
+                snapshots.add(stripe.snapshot(mask));
+        }
+        int[] positions = new int[n];
+        while (true) {
+            RecordedEvent next = null;
+            int nextStripe = 0;
+            for (int i = 0; i < n; i++) {
+                List<RecordedEvent> snapshot = snapshots.get(i);
+                if (positions[i] < snapshot.size()) {
+                    RecordedEvent event = snapshot.get(positions[i]);
+                    if (next == null || event.epochNanos < next.epochNanos) {
+                        next = event;
+                        nextStripe = i;
+                    }
+                }
+            }
+            if (next == null)
+                break;
+            positions[nextStripe]++;
+            Instant instant = Instant.ofEpochSecond(0, next.epochNanos);
+            if (next.throwable != null)
+                next.logger.error(instant, next.throwable, next.message);
+            else
+                next.logger.log(instant, next.level, next.message);
+        }
+    }
+
+    boolean isDumpOnError() {
+        return dumpOnError;
+    }
+
+    void record(Logger logger, Level level, long epochNanos, Throwable throwable, Object message, boolean forwarded) {
+        threadStripe.get().record(mask, logger, level, epochNanos, throwable, message, forwarded);
+    }
+
+    /**
+     * A stripe of the buffer.
+     */
+    private static final class Stripe {
+
+        private final AtomicLongArray sequences;
+        private final AtomicLongArray times;
+        private final AtomicIntegerArray levels;
+        private final AtomicReferenceArray<Logger> loggers;
+        private final AtomicReferenceArray<Throwable> throwables;
+        private final AtomicReferenceArray<Object> messages;
+        private final AtomicLong tail;
+        private long dumped; // guarded by the factory lock
+
+        private Stripe(int size) {
+            sequences = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++)
+                sequences.set(i, writing);
+            times = new AtomicLongArray(size);
+            levels = new AtomicIntegerArray(size);
+            loggers = new AtomicReferenceArray<>(size);
+            throwables = new AtomicReferenceArray<>(size);
+            messages = new AtomicReferenceArray<>(size);
+            tail = new AtomicLong();
+        }
+
+        private void record(int mask, Logger logger, Level level, long epochNanos, Throwable throwable,
+                Object message, boolean forwarded) {
+            long index = tail.getAndIncrement();
+            int slot = (int)index & mask;
+            sequences.set(slot, writing);
+            times.lazySet(slot, epochNanos);
+            levels.lazySet(slot, forwarded ? level.ordinal() | forwardedFlag : level.ordinal());
+            loggers.lazySet(slot, logger);
+            throwables.lazySet(slot, throwable);
+            messages.lazySet(slot, message);
+            sequences.lazySet(slot, index);
+        }
+
+        private List<RecordedEvent> snapshot(int mask) {
+            long end = tail.get();
+            long start = Math.max(dumped, end - (mask + 1));
+            List<RecordedEvent> events = new ArrayList<>((int)(end - start));
+            for (long index = start; index < end; index++) {
+                int slot = (int)index & mask;
+                if (sequences.get(slot) != index)
+                    continue;
+                int levelFlags = levels.get(slot);
+                long time = times.get(slot);
+                Logger logger = loggers.get(slot);
+                Throwable throwable = throwables.get(slot);
+                Object message = messages.get(slot);
+                if (sequences.get(slot) != index || (levelFlags & forwardedFlag) != 0)
+                    continue;
+                events.add(new RecordedEvent(logger, Level.values()[levelFlags], time, throwable, message));
+            }
+            dumped = end;
+            return events;
+        }
+
+    }
+
+    /**
+     * An event copied from the buffer by a dump.
+     */
+    private static final class RecordedEvent {
+
+        private final Logger logger;
+        private final Level level;
+        private final long epochNanos;
+        private final Throwable throwable;
+        private final Object message;
+
+        private RecordedEvent(Logger logger, Level level, long epochNanos, Throwable throwable, Object message) {
+            this.logger = logger;
+            this.level = level;
+            this.epochNanos = epochNanos;
+            this.throwable = throwable;
+            this.message = message;
+        }
+
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * @(#) InstrumentedLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Logger} returned by {@link InstrumentedLoggerFactory}.  Each logging call is counted, as output or
+ * suppressed according to the level of the wrapped {@link Logger}, and output calls are passed to the wrapped
+ * {@link Logger}.
+ *
+ * <p>The level is that of the wrapped {@link Logger}.  Suppressed calls are counted only in the logging paths (the
+ * level test in {@link #isAllowed(Level) isAllowed()} takes place before a parameterised message is formatted or a
+ * {@link Supplier} is invoked), and by the {@code atXxxx()} functions when they return a no-op builder; the
+ * {@code isXxxxEnabled()} functions simply report the state of the wrapped {@link Logger}, so a guard such as
+ * {@code if (log.isDebugEnabled())} followed by a logging call does not count the call twice.</p>
+ *
+ * @author  Peter Wall
+ */
+public class InstrumentedLogger extends AbstractLogger {
+
+    private final Logger logger;
+    private final InstrumentedLoggerFactory.Counters counters;
+
+    InstrumentedLogger(Logger logger, InstrumentedLoggerFactory.Counters counters) {
+        super(logger.getName(), Level.TRACE, logger.getClock());
+        this.logger = logger;
+        this.counters = counters;
+    }
+
+    /**
+     * Get the wrapped {@link Logger}.
+     *
+     * @return      the {@link Logger}
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Get the minimum level to be output by the wrapped {@link Logger}.
+     *
+     * @return      the {@link Level}
+     */
+    @Override
+    public Level getLevel() {
+        return logger.getLevel();
+    }
+
+    /**
+     * Set the minimum level to be output by the wrapped {@link Logger}.
+     *
+     * @param   level   the new {@link Level}
+     */
+    @Override
+    public void setLevel(Level level) {
+        logger.setLevel(level);
+    }
+
+    /**
+     * Set the {@link Clock} used by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   clock   the new {@link Clock}
+     */
+    @Override
+    public void setClock(Clock clock) {
+        super.setClock(clock);
+        logger.setClock(clock);
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return logger.isWarnEnabled();
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return logger.isErrorEnabled();
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return logger.isEnabled(level);
+    }
+
+    @Override
+    public LogEventBuilder atTrace() {
+        return atLevel(Level.TRACE);
+    }
+
+    @Override
+    public LogEventBuilder atDebug() {
+        return atLevel(Level.DEBUG);
+    }
+
+    @Override
+    public LogEventBuilder atInfo() {
+        return atLevel(Level.INFO);
+    }
+
+    @Override
+    public LogEventBuilder atWarn() {
+        return atLevel(Level.WARN);
+    }
+
+    @Override
+    public LogEventBuilder atError() {
+        return atLevel(Level.ERROR);
+    }
+
+    @Override
+    public LogEventBuilder atLevel(Level level) {
+        if (logger.isEnabled(level))
+            return ThreadLocalLogEvent.start(this, level);
+        counters.suppressed(level);
+        return LogEventBuilder.noop;
+    }
+
+    @Override
+    protected boolean isAllowed(Level level) {
+        if (logger.isEnabled(level))
+            return true;
+        counters.suppressed(level);
+        return false;
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        if (logger.isEnabled(level)) {
+            counters.emitted(level);
+            output(level, time, throwable, message);
+        }
+        else
+            counters.suppressed(level);
+    }
+
+    @Override
+    protected void writeSupplied(Level level, Instant time, Throwable throwable, Supplier<Object> messageSupplier) {
+        if (logger.isEnabled(level)) {
+            counters.emitted(level);
+            output(level, time, throwable, messageSupplier.get());
+        }
+        else
+            counters.suppressed(level);
+    }
+
+    @Override
+    protected void write(Level level, long epochNanos, Throwable throwable, Object message) {
+        if (logger.isEnabled(level)) {
+            counters.emitted(level);
+            if (throwable != null)
+                logger.errorAt(epochNanos, throwable, message);
+            else
+                logger.logAt(epochNanos, level, message);
+        }
+        else
+            counters.suppressed(level);
+    }
+
+    @Override
+    protected void writeSupplied(Level level, long epochNanos, Throwable throwable,
+            Supplier<Object> messageSupplier) {
+        if (logger.isEnabled(level)) {
+            counters.emitted(level);
+            if (throwable != null)
+                logger.errorAt(epochNanos, throwable, messageSupplier);
+            else
+                logger.logAt(epochNanos, level, messageSupplier);
+        }
+        else
+            counters.suppressed(level);
+    }
+
+    private void output(Level level, Instant time, Throwable throwable, Object message) {
+        if (throwable != null) {
+            if (time != null)
+                logger.error(time, throwable, message);
+            else
+                logger.error(throwable, message);
+        }
+        else if (time != null)
+            logger.log(time, level, message);
+        else
+            logger.log(level, message);
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * @(#) InstrumentedLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and returns {@link InstrumentedLogger}s which
+ * count the logging calls made, for each {@link Logger} name and each {@link Level}, split into those output and those
+ * suppressed by the level check.  The counters are {@link LongAdder}s, so that concurrent updates from many threads
+ * do not contend on a single memory location.
+ *
+ * <p>{@link Logger}s with the same name share the same counters.  The {@link #snapshot()} functions return the
+ * current values of the counters.</p>
+ *
+ * @author  Peter Wall
+ * @param   <L>     the {@link Logger} type of the wrapped {@link LoggerFactory}
+ */
+public class InstrumentedLoggerFactory<L extends Logger> implements LoggerFactory<InstrumentedLogger> {
+
+    private static final int numLevels = Level.values().length;
+
+    private final LoggerFactory<L> loggerFactory;
+    private final ConcurrentHashMap<String, Counters> counters;
+
+    /**
+     * Construct an {@code InstrumentedLoggerFactory}.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     */
+    public InstrumentedLoggerFactory(LoggerFactory<L> loggerFactory) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        counters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get an {@link InstrumentedLogger} with the specified name, level and clock.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link InstrumentedLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public InstrumentedLogger getLogger(String name, Level level, Clock clock) {
+        L logger = loggerFactory.getLogger(name, level, clock);
+        return new InstrumentedLogger(logger, counters.computeIfAbsent(name, k -> new Counters()));
+    }
+
+    /**
+     * Get the default {@link Level} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        return loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the wrapped {@link LoggerFactory}.
+     *
+     * @return      the {@link LoggerFactory}
+     */
+    public LoggerFactory<L> getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Get a snapshot of the counters for all {@link Logger} names.
+     *
+     * @return      a map of {@link Snapshot}s, keyed by name (in name order)
+     */
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        counters.forEach((name, c) -> result.put(name, c.snapshot(name)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Get a snapshot of the counters for the specified {@link Logger} name.
+     *
+     * @param   name    the name
+     * @return          the {@link Snapshot}, or {@code null} if no {@link Logger} has been created with that name
+     */
+    public Snapshot snapshot(String name) {
+        Counters c = counters.get(name);
+        return c == null ? null : c.snapshot(name);
+    }
+
+    /**
+     * Reset all counters to zero.  Calls made concurrently with the reset may or may not be counted.
+     */
+    public void reset() {
+        for (Counters c : counters.values())
+            c.reset();
+    }
+
+    /**
+     * The counters for a single {@link Logger} name.
+     */
+    static final class Counters {
+
+        private final LongAdder[] emitted;
+        private final LongAdder[] suppressed;
+
+        private Counters() {
+            emitted = new LongAdder[numLevels];
+            suppressed = new LongAdder[numLevels];
+            for (int i = 0; i < numLevels; i++) {
+                emitted[i] = new LongAdder();
+                suppressed[i] = new LongAdder();
+            }
+        }
+
+        void emitted(Level level) {
+            emitted[level.ordinal()].increment();
+        }
+
+        void suppressed(Level level) {
+            suppressed[level.ordinal()].increment();
+        }
+
+        private Snapshot snapshot(String name) {
+            long[] emittedCounts = new long[numLevels];
+            long[] suppressedCounts = new long[numLevels];
+            for (int i = 0; i < numLevels; i++) {
+                emittedCounts[i] = emitted[i].sum();
+                suppressedCounts[i] = suppressed[i].sum();
+            }
+            return new Snapshot(name, emittedCounts, suppressedCounts);
+        }
+
+        private void reset() {
+            for (int i = 0; i < numLevels; i++) {
+                emitted[i].reset();
+                suppressed[i].reset();
+            }
+        }
+
+    }
+
+    /**
+     * An immutable snapshot of the counters for a single {@link Logger} name.
+     */
+    public static final class Snapshot {
+
+        private final String name;
+        private final long[] emitted;
+        private final long[] suppressed;
+
+        private Snapshot(String name, long[] emitted, long[] suppressed) {
+            this.name = name;
+            this.emitted = emitted;
+            this.suppressed = suppressed;
+        }
+
+        /**
+         * Get the {@link Logger} name.
+         *
+         * @return      the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the number of calls at the specified level that were output.
+         *
+         * @param   level   the {@link Level}
+         * @return          the count
+         */
+        public long getEmitted(Level level) {
+            return emitted[level.ordinal()];
+        }
+
+        /**
+         * Get the number of calls at the specified level that were suppressed by the level check.
+         *
+         * @param   level   the {@link Level}
+         * @return          the count
+         */
+        public long getSuppressed(Level level) {
+            return suppressed[level.ordinal()];
+        }
+
+        /**
+         * Get the total number of calls (at all levels) that were output.
+         *
+         * @return          the count
+         */
+        public long getTotalEmitted() {
+            long total = 0;
+            for (long count : emitted)
+                total += count;
+            return total;
+        }
+
+        /**
+         * Get the total number of calls (at all levels) that were suppressed by the level check.
+         *
+         * @return          the count
+         */
+        public long getTotalSuppressed() {
+            long total = 0;
+            for (long count : suppressed)
+                total += count;
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(name);
+            for (Level level : Level.values()) {
+                sb.append(' ').append(level).append('=').append(emitted[level.ordinal()]).append('/')
+                        .append(suppressed[level.ordinal()]);
+            }
+            return sb.toString();
+        }
+
+    }
+
+}
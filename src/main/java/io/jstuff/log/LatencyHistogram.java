@@ -0,0 +1,216 @@
+/*
+ * @(#) LatencyHistogram.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latency values (in nanoseconds), using fixed log-linear buckets: each power of two is
+ * divided into 8 linear sub-buckets, so that a value is located to within 12.5% of its true value.  Recording a value
+ * is an atomic increment of a single array element (and, for a new maximum, an update of the maximum); it does not
+ * allocate or take a lock.
+ *
+ * <p>{@link #snapshot()} returns the current state, from which percentiles may be obtained, and
+ * {@link #snapshotAndReset()} does the same while resetting the counts, for reporting by interval.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class LatencyHistogram {
+
+    private static final int subBucketBits = 3;
+    private static final int subBuckets = 1 << subBucketBits;
+    private static final int numBuckets = (64 - subBucketBits + 1) * subBuckets;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong max;
+
+    /**
+     * Construct an empty {@code LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(numBuckets);
+        max = new AtomicLong();
+    }
+
+    /**
+     * Record a value.  Negative values are recorded as zero.
+     *
+     * @param   nanos   the value, in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+        counts.incrementAndGet(bucketIndex(nanos));
+        if (nanos > max.get())
+            max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Get a snapshot of the current state of the histogram.
+     *
+     * @return      the {@link Snapshot}
+     */
+    public Snapshot snapshot() {
+        long[] values = new long[numBuckets];
+        for (int i = 0; i < numBuckets; i++)
+            values[i] = counts.get(i);
+        return new Snapshot(values, max.get());
+    }
+
+    /**
+     * Get a snapshot of the current state of the histogram, and reset it.  Values recorded concurrently will be
+     * included in either this snapshot or the next, but the maximum may be attributed to the wrong interval.
+     *
+     * @return      the {@link Snapshot}
+     */
+    public Snapshot snapshotAndReset() {
+        long[] values = new long[numBuckets];
+        for (int i = 0; i < numBuckets; i++)
+            values[i] = counts.get(i) == 0 ? 0 : counts.getAndSet(i, 0);
+        return new Snapshot(values, max.getAndSet(0));
+    }
+
+    /**
+     * Reset the histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < numBuckets; i++)
+            counts.set(i, 0);
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < subBuckets)
+            return (int)value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int)(value >>> (exponent - subBucketBits)) & (subBuckets - 1);
+        return (exponent - subBucketBits + 1) * subBuckets + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < subBuckets)
+            return index;
+        int exponent = index / subBuckets + subBucketBits - 1;
+        int subBucket = index & (subBuckets - 1);
+        long lower = (long)(subBuckets + subBucket) << (exponent - subBucketBits);
+        return lower + (1L << (exponent - subBucketBits)) - 1;
+    }
+
+    /**
+     * An immutable snapshot of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long max;
+        private final long count;
+
+        private Snapshot(long[] counts, long max) {
+            this.counts = counts;
+            this.max = max;
+            long total = 0;
+            for (long c : counts)
+                total += c;
+            count = total;
+        }
+
+        /**
+         * Get the number of values recorded.
+         *
+         * @return      the count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Get the maximum value recorded.
+         *
+         * @return      the maximum, in nanoseconds
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Get the value at the specified percentile.  The value returned is the upper bound of the bucket containing
+         * the percentile (limited to the maximum recorded value).
+         *
+         * @param   percentile  the percentile (0.0 to 100.0)
+         * @return              the value, in nanoseconds, or zero if no values have been recorded
+         * @throws  LoggerException if the percentile is outside the range 0.0 to 100.0
+         */
+        public long getPercentile(double percentile) {
+            if (!(percentile >= 0.0 && percentile <= 100.0))
+                throw new LoggerException("Percentile must be in the range 0.0 to 100.0");
+            if (count == 0)
+                return 0;
+            long target = Math.max(1L, (long)Math.ceil(count * percentile / 100.0));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target)
+                    return Math.min(bucketUpperBound(i), max);
+            }
+            return max;
+        }
+
+        /**
+         * Get the median (50th percentile) value.
+         *
+         * @return      the value, in nanoseconds
+         */
+        public long getP50() {
+            return getPercentile(50.0);
+        }
+
+        /**
+         * Get the 99th percentile value.
+         *
+         * @return      the value, in nanoseconds
+         */
+        public long getP99() {
+            return getPercentile(99.0);
+        }
+
+        /**
+         * Get the 99.9th percentile value.
+         *
+         * @return      the value, in nanoseconds
+         */
+        public long getP999() {
+            return getPercentile(99.9);
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + " p50=" + getP50() + " p99=" + getP99() + " p999=" + getP999() + " max=" + max;
+        }
+
+    }
+
+}
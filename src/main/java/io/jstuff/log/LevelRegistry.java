@@ -0,0 +1,365 @@
+/*
+ * @(#) LevelRegistry.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A registry of {@link Level}s configured for {@link Logger} name prefixes.  Names are treated as sequences of
+ * dot-separated segments, held in a prefix trie, so that a level configured for {@code com.example.db} applies to the
+ * {@link Logger}s named {@code com.example.db} and {@code com.example.db.Connection}, but not to
+ * {@code com.example.dbx}.  The effective level for a name is the level configured for the longest matching prefix.
+ *
+ * <p>{@link Logger}s registered with the registry (usually by a {@link LevelRegistryLoggerFactory}) are held by weak
+ * reference, and when the configuration changes, the new effective level is pushed to each affected {@link Logger} by
+ * {@link Logger#setLevel}.  The level test on each logging call therefore remains a simple field read, rather than a
+ * walk of the name hierarchy.</p>
+ *
+ * <p>Where no level is configured for any prefix of a name (including the root), a registered {@link Logger} reverts
+ * to the level it was originally created with.</p>
+ *
+ * <p>A {@link Logger} registered more than once (for example, because it was obtained from a caching
+ * {@link LoggerFactory}) is held only once.  Nodes of the trie that have no configured level, no live registrations and
+ * no children are removed.  The configured levels are also held in an immutable snapshot, replaced on each change, so
+ * that {@link #getLevel(String)} does not take a lock.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class LevelRegistry {
+
+    private final Node root;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Construct a {@code LevelRegistry} with no root level.
+     */
+    public LevelRegistry() {
+        this(null);
+    }
+
+    /**
+     * Construct a {@code LevelRegistry} with the specified root level (applied to all names for which no other level
+     * is configured).
+     *
+     * @param   rootLevel   the root level (may be {@code null})
+     */
+    public LevelRegistry(Level rootLevel) {
+        root = new Node();
+        root.level = rootLevel;
+        snapshot = Snapshot.of(root, true);
+    }
+
+    /**
+     * Get the root level.
+     *
+     * @return      the root level, or {@code null} if none is configured
+     */
+    public Level getRootLevel() {
+        return snapshot.level;
+    }
+
+    /**
+     * Set the root level, and update all registered {@link Logger}s for which no other level is configured.
+     *
+     * @param   level   the new root level, or {@code null} to remove the root level
+     */
+    public synchronized void setRootLevel(Level level) {
+        root.level = level;
+        update(root, level);
+        snapshot = Snapshot.of(root, true);
+    }
+
+    /**
+     * Set the level for a name prefix, and update all registered {@link Logger}s affected by the change.
+     *
+     * @param   prefix  the name prefix (one or more complete dot-separated segments)
+     * @param   level   the new level, or {@code null} to remove the level configured for the prefix
+     * @throws  LoggerException if the prefix is {@code null} or contains illegal (non-ASCII) characters
+     */
+    public void setLevel(String prefix, Level level) {
+        setLevel(LoggerName.of(prefix), level);
+    }
+
+    /**
+     * Set the level for a name prefix, and update all registered {@link Logger}s affected by the change.
+     *
+     * @param   prefix  the name prefix, as a {@link LoggerName}
+     * @param   level   the new level, or {@code null} to remove the level configured for the prefix
+     */
+    public synchronized void setLevel(LoggerName prefix, Level level) {
+        String[] segments = prefix.segments;
+        Node[] path = new Node[segments.length + 1];
+        Node node = root;
+        path[0] = node;
+        Level inherited = root.level;
+        for (int i = 0, n = segments.length - 1; i < n; i++) {
+            node = node.child(segments[i]);
+            path[i + 1] = node;
+            if (node.level != null)
+                inherited = node.level;
+        }
+        node = node.child(segments[segments.length - 1]);
+        path[segments.length] = node;
+        node.level = level;
+        update(node, level != null ? level : inherited);
+        for (int i = segments.length; i > 0 && path[i].isEmpty(); i--)
+            path[i - 1].children.remove(segments[i - 1]);
+        snapshot = Snapshot.of(root, true);
+    }
+
+    /**
+     * Get the level configured for the longest matching prefix of a name.  The name is split into segments as it is
+     * walked, and only as far as there are configured levels to match; it is not converted to a {@link LoggerName}.
+     *
+     * @param   name    the name
+     * @return          the configured level, or {@code null} if no level is configured for any prefix of the name
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    public Level getLevel(String name) {
+        LoggerFactory.validateLoggerName(name);
+        Snapshot node = snapshot;
+        Level result = node.level;
+        int start = 0;
+        while (node.children != null) {
+            // a dot at the start of the name is not a separator (consistent with LoggerName)
+            int end = name.indexOf('.', start == 0 ? 1 : start);
+            String segment = end < 0 ? name.substring(start) : name.substring(start, end);
+            if ((node = node.children.get(segment)) == null)
+                break;
+            if (node.level != null)
+                result = node.level;
+            if (end < 0)
+                break;
+            start = end + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Get the level configured for the longest matching prefix of a name.
+     *
+     * @param   name    the name, as a {@link LoggerName}
+     * @return          the configured level, or {@code null} if no level is configured for any prefix of the name
+     */
+    public Level getLevel(LoggerName name) {
+        Snapshot node = snapshot;
+        Level result = node.level;
+        for (String segment : name.segments) {
+            if (node.children == null || (node = node.children.get(segment)) == null)
+                break;
+            if (node.level != null)
+                result = node.level;
+        }
+        return result;
+    }
+
+    /**
+     * Register a {@link Logger}, setting its level to the effective level for its name.  The {@link Logger} will be
+     * updated by any subsequent configuration change that affects it, for as long as it remains reachable.  If the
+     * {@link Logger} (the same instance) is already registered, the existing registration is retained.
+     *
+     * <p>This function is synchronized on the registry, and the check for an existing registration scans all the
+     * registrations for the name, so it is intended for use when {@link Logger}s are created (typically at startup),
+     * not on every logging call.</p>
+     *
+     * @param   logger          the {@link Logger}
+     * @param   originalLevel   the level to be used when no level is configured for any prefix of the name
+     * @param   <L>             the {@link Logger} type
+     * @return                  the {@link Logger}
+     */
+    public synchronized <L extends Logger> L register(L logger, Level originalLevel) {
+        Objects.requireNonNull(originalLevel, "Level must not be null");
+        Node node = root;
+        Level configured = root.level;
+        for (String segment : LoggerName.of(logger.getName()).segments) {
+            node = node.child(segment);
+            if (node.level != null)
+                configured = node.level;
+        }
+        node.register(logger, originalLevel);
+        Level level = configured != null ? configured : originalLevel;
+        if (logger.getLevel() != level)
+            logger.setLevel(level);
+        return logger;
+    }
+
+    /**
+     * Get the number of live {@link Logger} registrations (for diagnostic purposes).
+     *
+     * @return      the number of registrations
+     */
+    public synchronized int getRegisteredCount() {
+        return root.countRegistrations();
+    }
+
+    /**
+     * Get the number of nodes in the trie, excluding the root (for diagnostic purposes).
+     *
+     * @return      the number of nodes
+     */
+    public synchronized int getNodeCount() {
+        return root.countNodes() - 1;
+    }
+
+    private static void update(Node node, Level level) {
+        node.apply(level);
+        if (node.children != null) {
+            Iterator<Node> iterator = node.children.values().iterator();
+            while (iterator.hasNext()) {
+                Node child = iterator.next();
+                update(child, child.level != null ? child.level : level);
+                if (child.isEmpty())
+                    iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * A node in the trie, representing a single name segment.
+     */
+    private static final class Node {
+
+        private Map<String, Node> children;
+        private Level level;
+        private List<Registration> registrations;
+
+        private Node child(String segment) {
+            if (children == null)
+                children = new HashMap<>();
+            return children.computeIfAbsent(segment, k -> new Node());
+        }
+
+        private boolean isEmpty() {
+            return level == null && (registrations == null || registrations.isEmpty()) &&
+                    (children == null || children.isEmpty());
+        }
+
+        private void register(Logger logger, Level originalLevel) {
+            if (registrations == null)
+                registrations = new ArrayList<>();
+            else {
+                Iterator<Registration> iterator = registrations.iterator();
+                while (iterator.hasNext()) {
+                    Logger registered = iterator.next().get();
+                    if (registered == logger)
+                        return;
+                    if (registered == null)
+                        iterator.remove();
+                }
+            }
+            registrations.add(new Registration(logger, originalLevel));
+        }
+
+        private void apply(Level configured) {
+            if (registrations != null) {
+                registrations.removeIf(r -> {
+                    Logger logger = r.get();
+                    if (logger == null)
+                        return true;
+                    Level level = configured != null ? configured : r.originalLevel;
+                    if (logger.getLevel() != level)
+                        logger.setLevel(level);
+                    return false;
+                });
+            }
+        }
+
+        private int countRegistrations() {
+            int count = 0;
+            if (registrations != null)
+                for (Registration registration : registrations)
+                    if (registration.get() != null)
+                        count++;
+            if (children != null)
+                for (Node child : children.values())
+                    count += child.countRegistrations();
+            return count;
+        }
+
+        private int countNodes() {
+            int count = 1;
+            if (children != null)
+                for (Node child : children.values())
+                    count += child.countNodes();
+            return count;
+        }
+
+    }
+
+    /**
+     * An immutable copy of the configured levels in a branch of the trie, omitting branches with no configured level.
+     */
+    private static final class Snapshot {
+
+        private final Level level;
+        private final Map<String, Snapshot> children;
+
+        private Snapshot(Level level, Map<String, Snapshot> children) {
+            this.level = level;
+            this.children = children;
+        }
+
+        private static Snapshot of(Node node, boolean required) {
+            Map<String, Snapshot> children = null;
+            if (node.children != null) {
+                for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+                    Snapshot child = of(entry.getValue(), false);
+                    if (child != null) {
+                        if (children == null)
+                            children = new HashMap<>();
+                        children.put(entry.getKey(), child);
+                    }
+                }
+            }
+            if (node.level == null && children == null && !required)
+                return null;
+            return new Snapshot(node.level, children == null ? null : Collections.unmodifiableMap(children));
+        }
+
+    }
+
+    /**
+     * A weak reference to a registered {@link Logger}, along with the level it was created with.
+     */
+    private static final class Registration extends WeakReference<Logger> {
+
+        private final Level originalLevel;
+
+        private Registration(Logger logger, Level originalLevel) {
+            super(logger);
+            this.originalLevel = originalLevel;
+        }
+
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * @(#) LevelRegistryLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and registers the {@link Logger}s it creates with a
+ * {@link LevelRegistry}.  Each {@link Logger} is given the effective level configured in the registry for its name
+ * (or the requested level, if there is no configured level), and it will be updated when the configuration changes.
+ *
+ * <p>The {@link Logger} is always requested from the wrapped {@link LoggerFactory} with that factory's default level,
+ * and the effective level is then applied by {@link LevelRegistry#register(Logger, Level)}.  If the wrapped
+ * {@link LoggerFactory} caches by name and level (for example, a {@link CachingLoggerFactory}), repeated requests for
+ * a name therefore return the same instance, however the configuration has changed in the meantime.  (If the same
+ * cached instance is requested with different levels, the level used when no level is configured is that of the
+ * first request.)</p>
+ *
+ * <p>{@link LevelRegistry#register(Logger, Level)} is synchronized on the registry, and checks for a duplicate
+ * registration by scanning the registrations for the name, so each call takes a global lock and costs time
+ * proportional to the number of {@link Logger}s registered for the name.  That is acceptable for the usual pattern
+ * of obtaining {@link Logger}s at startup or class initialisation, but a {@link Logger} should not be requested
+ * from this factory on every logging call.</p>
+ *
+ * @author  Peter Wall
+ * @param   <L>     the {@link Logger} type
+ */
+public class LevelRegistryLoggerFactory<L extends Logger> implements LoggerFactory<L> {
+
+    private final LoggerFactory<L> loggerFactory;
+    private final LevelRegistry levelRegistry;
+
+    /**
+     * Construct a {@code LevelRegistryLoggerFactory}.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   levelRegistry   the {@link LevelRegistry}
+     */
+    public LevelRegistryLoggerFactory(LoggerFactory<L> loggerFactory, LevelRegistry levelRegistry) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        this.levelRegistry = Objects.requireNonNull(levelRegistry, "LevelRegistry must not be null");
+    }
+
+    /**
+     * Get a {@link Logger} with the specified name, level and clock, and register it with the {@link LevelRegistry}.
+     * The level will be used only if no level is configured in the registry for any prefix of the name.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link Logger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public L getLogger(String name, Level level, Clock clock) {
+        return getLogger(LoggerName.of(name), level, clock);
+    }
+
+    /**
+     * Get a {@link Logger} with the specified {@link LoggerName}, level and clock, and register it with the
+     * {@link LevelRegistry}.  The level will be used only if no level is configured in the registry for any prefix of
+     * the name.
+     *
+     * @param   loggerName  the {@link LoggerName}
+     * @param   level       the level
+     * @param   clock       the clock
+     * @return              the {@link Logger}
+     */
+    @Override
+    public L getLogger(LoggerName loggerName, Level level, Clock clock) {
+        // request with a fixed level, so that a caching factory returns the same instance after a configuration change
+        L logger = loggerFactory.getLogger(loggerName, loggerFactory.getDefaultLevel(), clock);
+        return levelRegistry.register(logger, level);
+    }
+
+    /**
+     * Get the default {@link Level}: the root level of the {@link LevelRegistry} if there is one, otherwise the default
+     * level of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        Level rootLevel = levelRegistry.getRootLevel();
+        return rootLevel != null ? rootLevel : loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the wrapped {@link LoggerFactory}.
+     *
+     * @return      the {@link LoggerFactory}
+     */
+    public LoggerFactory<L> getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Get the {@link LevelRegistry}.
+     *
+     * @return      the {@link LevelRegistry}
+     */
+    public LevelRegistry getLevelRegistry() {
+        return levelRegistry;
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * @(#) LogEventBuilder.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * A fluent builder for a structured log event, obtained from the {@link Logger#atInfo() atInfo()} (etc.) functions of
+ * {@link Logger}.  Key/value pairs are added to the event using the {@code add()} functions (primitive values are held
+ * without boxing), and the event is output by {@link #emit()}:
+ * <pre>
+ *     log.atInfo().add("userId", id).add("latencyNs", nanos).message("done").emit();
+ * </pre>
+ * When the level is disabled, the builder returned is the shared {@link #noop} instance, which ignores all values.
+ * Otherwise, the builder is an object reused by the current thread, so the builder must be used in a single chain of
+ * calls ending with {@link #emit()}, and must not be retained or passed to another thread.
+ *
+ * @author  Peter Wall
+ */
+public interface LogEventBuilder {
+
+    /** The builder returned when the level is disabled. */
+    LogEventBuilder noop = new LogEventBuilder() {};
+
+    /**
+     * Add a key/value pair with an object value.
+     *
+     * @param   key     the key
+     * @param   value   the value
+     * @return          this builder
+     */
+    default LogEventBuilder add(String key, Object value) {
+        return this;
+    }
+
+    /**
+     * Add a key/value pair with a {@code char} value (output as a character, not as its numeric value).
+     *
+     * @param   key     the key
+     * @param   value   the value
+     * @return          this builder
+     */
+    default LogEventBuilder add(String key, char value) {
+        return this;
+    }
+
+    /**
+     * Add a key/value pair with a {@code long} value (also used for {@code int}, {@code short} and {@code byte}).
+     *
+     * @param   key     the key
+     * @param   value   the value
+     * @return          this builder
+     */
+    default LogEventBuilder add(String key, long value) {
+        return this;
+    }
+
+    /**
+     * Add a key/value pair with a {@code float} value (output as a {@code float}, not widened to {@code double}).
+     *
+     * @param   key     the key
+     * @param   value   the value
+     * @return          this builder
+     */
+    default LogEventBuilder add(String key, float value) {
+        return this;
+    }
+
+    /**
+     * Add a key/value pair with a {@code double} value.
+     *
+     * @param   key     the key
+     * @param   value   the value
+     * @return          this builder
+     */
+    default LogEventBuilder add(String key, double value) {
+        return this;
+    }
+
+    /**
+     * Add a key/value pair with a {@code boolean} value.
+     *
+     * @param   key     the key
+     * @param   value   the value
+     * @return          this builder
+     */
+    default LogEventBuilder add(String key, boolean value) {
+        return this;
+    }
+
+    /**
+     * Add a key/value pair with a value supplied by a {@link Supplier} function (called only if the event is to be
+     * output).
+     *
+     * @param   key             the key
+     * @param   valueSupplier   the value supplier
+     * @return                  this builder
+     */
+    default LogEventBuilder add(String key, Supplier<Object> valueSupplier) {
+        return this;
+    }
+
+    /**
+     * Set the message.
+     *
+     * @param   message     the message
+     * @return              this builder
+     */
+    default LogEventBuilder message(Object message) {
+        return this;
+    }
+
+    /**
+     * Set the {@link Throwable} associated with the event.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @return              this builder
+     */
+    default LogEventBuilder throwable(Throwable throwable) {
+        return this;
+    }
+
+    /**
+     * Set the time of the event as an {@link Instant}.
+     *
+     * @param   time    the time
+     * @return          this builder
+     */
+    default LogEventBuilder time(Instant time) {
+        return this;
+    }
+
+    /**
+     * Set the time of the event as a number of nanoseconds since the epoch.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @return              this builder
+     */
+    default LogEventBuilder time(long epochNanos) {
+        return this;
+    }
+
+    /**
+     * Output the event.
+     */
+    default void emit() {
+        // ignore
+    }
+
+}
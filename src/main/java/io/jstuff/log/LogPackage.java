@@ -0,0 +1,72 @@
+/*
+ * @(#) LogPackage.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+/**
+ * Internal functions relating to the package containing the logging classes.  This class is shared by all versions of
+ * the stack-walking code in the multi-release JAR, so that they all use the same rules for skipping frames.
+ *
+ * @author  Peter Wall
+ */
+final class LogPackage {
+
+    static final int nameLength = LoggerFactory.logPackageName.length();
+    static final StackTraceElement unknownCaller = new StackTraceElement("unknown", "unknown", null, -1);
+    static final String unknownCallerName = unknownCaller.getClassName();
+
+    private static final ClassValue<Boolean> members = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return contains(type.getName());
+        }
+    };
+
+    private LogPackage() {}
+
+    /**
+     * Test whether the named class is a member of the logging package (but not of any sub-package).  Frames for such
+     * classes are skipped when determining the caller of a {@link LoggerFactory} function.
+     *
+     * @param   className   the fully-qualified class name
+     * @return              {@code true} if the class is in the logging package
+     */
+    static boolean contains(String className) {
+        return className.lastIndexOf('.') == nameLength && className.startsWith(LoggerFactory.logPackageName);
+    }
+
+    /**
+     * Test whether a class is a member of the logging package (but not of any sub-package).  The result is computed
+     * once per class and cached in a {@link ClassValue}, so the frames of a stack walk cost only a lookup each, rather
+     * than a scan of the class name.
+     *
+     * @param   type        the class
+     * @return              {@code true} if the class is in the logging package
+     */
+    static boolean contains(Class<?> type) {
+        return members.get(type);
+    }
+
+}
@@ -2,7 +2,7 @@
  * @(#) Logger.java
  *
  * log-front-api  Logging Interface API
- * Copyright (c) 2022, 2025 Peter Wall
+ * Copyright (c) 2022, 2025, 2026 Peter Wall
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -241,6 +241,77 @@ public interface Logger {
         return getLevel().isEnabled(level);
     }
 
+    /**
+     * Get a {@link LogEventBuilder} to build a structured trace event.  If trace output is not enabled, the shared
+     * {@link LogEventBuilder#noop no-op} builder is returned; otherwise the default implementation returns a builder
+     * reused by the current thread, which renders the event to a {@link String} and outputs it using
+     * {@link #log(Level, Object) log()}.
+     *
+     * @return      the {@link LogEventBuilder}
+     */
+    default LogEventBuilder atTrace() {
+        return isTraceEnabled() ? ThreadLocalLogEvent.start(this, Level.TRACE) : LogEventBuilder.noop;
+    }
+
+    /**
+     * Get a {@link LogEventBuilder} to build a structured debug event.  If debug output is not enabled, the shared
+     * {@link LogEventBuilder#noop no-op} builder is returned; otherwise the default implementation returns a builder
+     * reused by the current thread, which renders the event to a {@link String} and outputs it using
+     * {@link #log(Level, Object) log()}.
+     *
+     * @return      the {@link LogEventBuilder}
+     */
+    default LogEventBuilder atDebug() {
+        return isDebugEnabled() ? ThreadLocalLogEvent.start(this, Level.DEBUG) : LogEventBuilder.noop;
+    }
+
+    /**
+     * Get a {@link LogEventBuilder} to build a structured info event.  If info output is not enabled, the shared
+     * {@link LogEventBuilder#noop no-op} builder is returned; otherwise the default implementation returns a builder
+     * reused by the current thread, which renders the event to a {@link String} and outputs it using
+     * {@link #log(Level, Object) log()}.
+     *
+     * @return      the {@link LogEventBuilder}
+     */
+    default LogEventBuilder atInfo() {
+        return isInfoEnabled() ? ThreadLocalLogEvent.start(this, Level.INFO) : LogEventBuilder.noop;
+    }
+
+    /**
+     * Get a {@link LogEventBuilder} to build a structured warn event.  If warn output is not enabled, the shared
+     * {@link LogEventBuilder#noop no-op} builder is returned; otherwise the default implementation returns a builder
+     * reused by the current thread, which renders the event to a {@link String} and outputs it using
+     * {@link #log(Level, Object) log()}.
+     *
+     * @return      the {@link LogEventBuilder}
+     */
+    default LogEventBuilder atWarn() {
+        return isWarnEnabled() ? ThreadLocalLogEvent.start(this, Level.WARN) : LogEventBuilder.noop;
+    }
+
+    /**
+     * Get a {@link LogEventBuilder} to build a structured error event.  If error output is not enabled, the shared
+     * {@link LogEventBuilder#noop no-op} builder is returned; otherwise the default implementation returns a builder
+     * reused by the current thread, which renders the event to a {@link String} and outputs it using
+     * {@link #log(Level, Object) log()}.
+     *
+     * @return      the {@link LogEventBuilder}
+     */
+    default LogEventBuilder atError() {
+        return isErrorEnabled() ? ThreadLocalLogEvent.start(this, Level.ERROR) : LogEventBuilder.noop;
+    }
+
+    /**
+     * Get a {@link LogEventBuilder} to build a structured event with a variable level.  If the level is not enabled,
+     * the shared {@link LogEventBuilder#noop no-op} builder is returned.
+     *
+     * @param   level   the {@link Level}
+     * @return          the {@link LogEventBuilder}
+     */
+    default LogEventBuilder atLevel(Level level) {
+        return isEnabled(level) ? ThreadLocalLogEvent.start(this, level) : LogEventBuilder.noop;
+    }
+
     /**
      * Output a trace message supplied by a {@link Supplier} function.  The function will be called only if the logging
      * level is enabled.
@@ -488,4 +559,1089 @@ public interface Logger {
         }
     }
 
+    /**
+     * Output a trace message, specifying the time as a number of nanoseconds since the epoch.  The default
+     * implementation converts the time to an {@link Instant} only if the logging level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    default void traceAt(long epochNanos, Object message) {
+        if (isTraceEnabled())
+            trace(Instant.ofEpochSecond(0, epochNanos), message);
+    }
+
+    /**
+     * Output a trace message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The default implementation converts the time to an {@link Instant}, and calls the function,
+     * only if the logging level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    default void traceAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (isTraceEnabled())
+            trace(Instant.ofEpochSecond(0, epochNanos), messageSupplier);
+    }
+
+    /**
+     * Output a debug message, specifying the time as a number of nanoseconds since the epoch.  The default
+     * implementation converts the time to an {@link Instant} only if the logging level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    default void debugAt(long epochNanos, Object message) {
+        if (isDebugEnabled())
+            debug(Instant.ofEpochSecond(0, epochNanos), message);
+    }
+
+    /**
+     * Output a debug message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The default implementation converts the time to an {@link Instant}, and calls the function,
+     * only if the logging level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    default void debugAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (isDebugEnabled())
+            debug(Instant.ofEpochSecond(0, epochNanos), messageSupplier);
+    }
+
+    /**
+     * Output an info message, specifying the time as a number of nanoseconds since the epoch.  The default
+     * implementation converts the time to an {@link Instant} only if the logging level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    default void infoAt(long epochNanos, Object message) {
+        if (isInfoEnabled())
+            info(Instant.ofEpochSecond(0, epochNanos), message);
+    }
+
+    /**
+     * Output an info message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The default implementation converts the time to an {@link Instant}, and calls the function,
+     * only if the logging level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    default void infoAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (isInfoEnabled())
+            info(Instant.ofEpochSecond(0, epochNanos), messageSupplier);
+    }
+
+    /**
+     * Output a warning message, specifying the time as a number of nanoseconds since the epoch.  The default
+     * implementation converts the time to an {@link Instant} only if the logging level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    default void warnAt(long epochNanos, Object message) {
+        if (isWarnEnabled())
+            warn(Instant.ofEpochSecond(0, epochNanos), message);
+    }
+
+    /**
+     * Output a warning message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The default implementation converts the time to an {@link Instant}, and calls the function,
+     * only if the logging level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    default void warnAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (isWarnEnabled())
+            warn(Instant.ofEpochSecond(0, epochNanos), messageSupplier);
+    }
+
+    /**
+     * Output an error message, specifying the time as a number of nanoseconds since the epoch.  The default
+     * implementation converts the time to an {@link Instant} only if the logging level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   message     the message
+     */
+    default void errorAt(long epochNanos, Object message) {
+        if (isErrorEnabled())
+            error(Instant.ofEpochSecond(0, epochNanos), message);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function, specifying the time as a number of nanoseconds
+     * since the epoch.  The default implementation converts the time to an {@link Instant}, and calls the function,
+     * only if the logging level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   messageSupplier     the message supplier
+     */
+    default void errorAt(long epochNanos, Supplier<Object> messageSupplier) {
+        if (isErrorEnabled())
+            error(Instant.ofEpochSecond(0, epochNanos), messageSupplier);
+    }
+
+    /**
+     * Output an error message along with a {@link Throwable}, specifying the time as a number of nanoseconds since the
+     * epoch.  The default implementation converts the time to an {@link Instant} only if the logging level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   throwable   the {@link Throwable}
+     * @param   message     the message
+     */
+    default void errorAt(long epochNanos, Throwable throwable, Object message) {
+        if (isErrorEnabled())
+            error(Instant.ofEpochSecond(0, epochNanos), throwable, message);
+    }
+
+    /**
+     * Output an error message supplied by a {@link Supplier} function, along with a {@link Throwable}, specifying the
+     * time as a number of nanoseconds since the epoch.  The default implementation converts the time to an {@link
+     * Instant}, and calls the function, only if the logging level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   throwable           the {@link Throwable}
+     * @param   messageSupplier     the message supplier
+     */
+    default void errorAt(long epochNanos, Throwable throwable, Supplier<Object> messageSupplier) {
+        if (isErrorEnabled())
+            error(Instant.ofEpochSecond(0, epochNanos), throwable, messageSupplier);
+    }
+
+    /**
+     * Output a message with a variable level, specifying the time as a number of nanoseconds since the epoch.  The
+     * default implementation converts the time to an {@link Instant} only if the level is enabled.
+     *
+     * @param   epochNanos  the time in nanoseconds since the epoch
+     * @param   level       the {@link Level}
+     * @param   message     the message
+     */
+    default void logAt(long epochNanos, Level level, Object message) {
+        if (isEnabled(level))
+            log(Instant.ofEpochSecond(0, epochNanos), level, message);
+    }
+
+    /**
+     * Output a message supplied by a {@link Supplier} function, with a variable level, specifying the time as a number
+     * of nanoseconds since the epoch.  The default implementation converts the time to an {@link Instant}, and calls
+     * the function, only if the level is enabled.
+     *
+     * @param   epochNanos          the time in nanoseconds since the epoch
+     * @param   level               the {@link Level}
+     * @param   messageSupplier     the message supplier
+     */
+    default void logAt(long epochNanos, Level level, Supplier<Object> messageSupplier) {
+        if (isEnabled(level))
+            log(Instant.ofEpochSecond(0, epochNanos), level, messageSupplier);
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void trace(String pattern, Object a) {
+        if (isTraceEnabled())
+            trace(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void trace(String pattern, Object a, Object b) {
+        if (isTraceEnabled())
+            trace(MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void trace(String pattern, Object a, Object b, Object c) {
+        if (isTraceEnabled())
+            trace(MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void trace(Instant time, String pattern, Object a) {
+        if (isTraceEnabled())
+            trace(time, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void trace(Instant time, String pattern, Object a, Object b) {
+        if (isTraceEnabled())
+            trace(time, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only
+     * if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void trace(Instant time, String pattern, Object a, Object b, Object c) {
+        if (isTraceEnabled())
+            trace(time, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void debug(String pattern, Object a) {
+        if (isDebugEnabled())
+            debug(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void debug(String pattern, Object a, Object b) {
+        if (isDebugEnabled())
+            debug(MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void debug(String pattern, Object a, Object b, Object c) {
+        if (isDebugEnabled())
+            debug(MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void debug(Instant time, String pattern, Object a) {
+        if (isDebugEnabled())
+            debug(time, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void debug(Instant time, String pattern, Object a, Object b) {
+        if (isDebugEnabled())
+            debug(time, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only
+     * if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void debug(Instant time, String pattern, Object a, Object b, Object c) {
+        if (isDebugEnabled())
+            debug(time, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void info(String pattern, Object a) {
+        if (isInfoEnabled())
+            info(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void info(String pattern, Object a, Object b) {
+        if (isInfoEnabled())
+            info(MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void info(String pattern, Object a, Object b, Object c) {
+        if (isInfoEnabled())
+            info(MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void info(Instant time, String pattern, Object a) {
+        if (isInfoEnabled())
+            info(time, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void info(Instant time, String pattern, Object a, Object b) {
+        if (isInfoEnabled())
+            info(time, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only
+     * if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void info(Instant time, String pattern, Object a, Object b, Object c) {
+        if (isInfoEnabled())
+            info(time, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void warn(String pattern, Object a) {
+        if (isWarnEnabled())
+            warn(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void warn(String pattern, Object a, Object b) {
+        if (isWarnEnabled())
+            warn(MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The
+     * message will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void warn(String pattern, Object a, Object b, Object c) {
+        if (isWarnEnabled())
+            warn(MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void warn(Instant time, String pattern, Object a) {
+        if (isWarnEnabled())
+            warn(time, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only
+     * if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void warn(Instant time, String pattern, Object a, Object b) {
+        if (isWarnEnabled())
+            warn(time, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only
+     * if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void warn(Instant time, String pattern, Object a, Object b, Object c) {
+        if (isWarnEnabled())
+            warn(time, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(String pattern, Object a) {
+        if (isErrorEnabled())
+            error(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void error(String pattern, Object a, Object b) {
+        if (isErrorEnabled())
+            error(MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}).  The message
+     * will be formatted only if the logging level is enabled.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void error(String pattern, Object a, Object b, Object c) {
+        if (isErrorEnabled())
+            error(MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(Instant time, String pattern, Object a) {
+        if (isErrorEnabled())
+            error(time, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only if
+     * the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void error(Instant time, String pattern, Object a, Object b) {
+        if (isErrorEnabled())
+            error(time, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant} (the default implementation ignores the time).  The message will be formatted only
+     * if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void error(Instant time, String pattern, Object a, Object b, Object c) {
+        if (isErrorEnabled())
+            error(time, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}), along with a
+     * {@link Throwable}.  The message will be formatted only if the logging level is enabled.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(Throwable throwable, String pattern, Object a) {
+        if (isErrorEnabled())
+            error(throwable, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}), along with a
+     * {@link Throwable}.  The message will be formatted only if the logging level is enabled.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void error(Throwable throwable, String pattern, Object a, Object b) {
+        if (isErrorEnabled())
+            error(throwable, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}), along with a
+     * {@link Throwable}.  The message will be formatted only if the logging level is enabled.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void error(Throwable throwable, String pattern, Object a, Object b, Object c) {
+        if (isErrorEnabled())
+            error(throwable, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one argument (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time), along with a {@link Throwable}.  The
+     * message will be formatted only if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(Instant time, Throwable throwable, String pattern, Object a) {
+        if (isErrorEnabled())
+            error(time, throwable, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and two arguments (see {@link MessageFormatter}), specifying the
+     * time as an {@link Instant} (the default implementation ignores the time), along with a {@link Throwable}.  The
+     * message will be formatted only if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void error(Instant time, Throwable throwable, String pattern, Object a, Object b) {
+        if (isErrorEnabled())
+            error(time, throwable, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and three arguments (see {@link MessageFormatter}), specifying
+     * the time as an {@link Instant} (the default implementation ignores the time), along with a {@link Throwable}.
+     * The message will be formatted only if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   throwable   the {@link Throwable}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void error(Instant time, Throwable throwable, String pattern, Object a, Object b, Object c) {
+        if (isErrorEnabled())
+            error(time, throwable, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one argument (see {@link MessageFormatter}), with a variable level.
+     * The message will be formatted only if the logging level is enabled.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void log(Level level, String pattern, Object a) {
+        if (isEnabled(level))
+            log(level, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and two arguments (see {@link MessageFormatter}), with a variable
+     * level.  The message will be formatted only if the logging level is enabled.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void log(Level level, String pattern, Object a, Object b) {
+        if (isEnabled(level))
+            log(level, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a message formatted from a pattern and three arguments (see {@link MessageFormatter}), with a variable
+     * level.  The message will be formatted only if the logging level is enabled.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void log(Level level, String pattern, Object a, Object b, Object c) {
+        if (isEnabled(level))
+            log(level, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one argument (see {@link MessageFormatter}), with a variable level,
+     * specifying the time as an {@link Instant} (the default implementation ignores the time).  The message will be
+     * formatted only if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void log(Instant time, Level level, String pattern, Object a) {
+        if (isEnabled(level))
+            log(time, level, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and two arguments (see {@link MessageFormatter}), with a variable
+     * level, specifying the time as an {@link Instant} (the default implementation ignores the time).  The message will
+     * be formatted only if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    default void log(Instant time, Level level, String pattern, Object a, Object b) {
+        if (isEnabled(level))
+            log(time, level, MessageFormatter.format(pattern, a, b));
+    }
+
+    /**
+     * Output a message formatted from a pattern and three arguments (see {@link MessageFormatter}), with a variable
+     * level, specifying the time as an {@link Instant} (the default implementation ignores the time).  The message will
+     * be formatted only if the logging level is enabled.
+     *
+     * @param   time        the time
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    default void log(Instant time, Level level, String pattern, Object a, Object b, Object c) {
+        if (isEnabled(level))
+            log(time, level, MessageFormatter.format(pattern, a, b, c));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void trace(String pattern, long a) {
+        if (isTraceEnabled())
+            trace(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void trace(String pattern, double a) {
+        if (isTraceEnabled())
+            trace(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a character, not as
+     * its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void trace(String pattern, char a) {
+        if (isTraceEnabled())
+            trace(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a trace message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a {@code float},
+     * not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void trace(String pattern, float a) {
+        if (isTraceEnabled())
+            trace(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void debug(String pattern, long a) {
+        if (isDebugEnabled())
+            debug(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void debug(String pattern, double a) {
+        if (isDebugEnabled())
+            debug(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a character, not as
+     * its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void debug(String pattern, char a) {
+        if (isDebugEnabled())
+            debug(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a debug message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a {@code float},
+     * not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void debug(String pattern, float a) {
+        if (isDebugEnabled())
+            debug(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void info(String pattern, long a) {
+        if (isInfoEnabled())
+            info(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void info(String pattern, double a) {
+        if (isInfoEnabled())
+            info(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a character, not as
+     * its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void info(String pattern, char a) {
+        if (isInfoEnabled())
+            info(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an info message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a {@code float},
+     * not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void info(String pattern, float a) {
+        if (isInfoEnabled())
+            info(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void warn(String pattern, long a) {
+        if (isWarnEnabled())
+            warn(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void warn(String pattern, double a) {
+        if (isWarnEnabled())
+            warn(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a character, not as
+     * its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void warn(String pattern, char a) {
+        if (isWarnEnabled())
+            warn(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a warning message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a {@code float},
+     * not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void warn(String pattern, float a) {
+        if (isWarnEnabled())
+            warn(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(String pattern, long a) {
+        if (isErrorEnabled())
+            error(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled, and the argument is not boxed.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(String pattern, double a) {
+        if (isErrorEnabled())
+            error(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a character, not as
+     * its numeric value.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(String pattern, char a) {
+        if (isErrorEnabled())
+            error(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output an error message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}).
+     * The message will be formatted only if the logging level is enabled; the argument is output as a {@code float},
+     * not widened to {@code double}.
+     *
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void error(String pattern, float a) {
+        if (isErrorEnabled())
+            error(MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code long} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled, and the argument is not
+     * boxed.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void log(Level level, String pattern, long a) {
+        if (isEnabled(level))
+            log(level, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code double} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled, and the argument is not
+     * boxed.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void log(Level level, String pattern, double a) {
+        if (isEnabled(level))
+            log(level, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code char} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled; the argument is output as a
+     * character, not as its numeric value.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void log(Level level, String pattern, char a) {
+        if (isEnabled(level))
+            log(level, MessageFormatter.format(pattern, a));
+    }
+
+    /**
+     * Output a message formatted from a pattern and one {@code float} argument (see {@link MessageFormatter}), with a
+     * variable level.  The message will be formatted only if the logging level is enabled; the argument is output as a
+     * {@code float}, not widened to {@code double}.
+     *
+     * @param   level       the {@link Level}
+     * @param   pattern     the message pattern
+     * @param   a           the argument
+     */
+    default void log(Level level, String pattern, float a) {
+        if (isEnabled(level))
+            log(level, MessageFormatter.format(pattern, a));
+    }
+
 }
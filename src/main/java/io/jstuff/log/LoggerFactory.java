@@ -2,7 +2,7 @@
  * @(#) LoggerFactory.java
  *
  * log-front-api  Logging Interface API
- * Copyright (c) 2022, 2025 Peter Wall
+ * Copyright (c) 2022, 2025, 2026 Peter Wall
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -26,6 +26,7 @@
 package io.jstuff.log;
 
 import java.time.Clock;
+import java.util.Objects;
 
 /**
  * The {@code LoggerFactory} supplies a {@link Logger} of a particular type.
@@ -124,13 +125,59 @@ public interface LoggerFactory<L extends Logger> {
         return getLogger(javaClass.getName(), getDefaultLevel(), getDefaultClock());
     }
 
+    /**
+     * Get a {@link Logger} with the specified {@link LoggerName}, level and clock.  The default implementation calls
+     * {@link #getLogger(String, Level, Clock)} with the name as a {@link String}; implementations that make use of the
+     * segments or the byte form of the name may override this.
+     *
+     * @param   loggerName  the {@link LoggerName}
+     * @param   level       the level
+     * @param   clock       the clock
+     * @return              the {@link Logger}
+     */
+    default L getLogger(LoggerName loggerName, Level level, Clock clock) {
+        return getLogger(loggerName.toString(), level, clock);
+    }
+
+    /**
+     * Get a {@link Logger} with the specified {@link LoggerName} and level.
+     *
+     * @param   loggerName  the {@link LoggerName}
+     * @param   level       the level
+     * @return              the {@link Logger}
+     */
+    default L getLogger(LoggerName loggerName, Level level) {
+        return getLogger(loggerName, level, getDefaultClock());
+    }
+
+    /**
+     * Get a {@link Logger} with the specified {@link LoggerName} and clock.
+     *
+     * @param   loggerName  the {@link LoggerName}
+     * @param   clock       the clock
+     * @return              the {@link Logger}
+     */
+    default L getLogger(LoggerName loggerName, Clock clock) {
+        return getLogger(loggerName, getDefaultLevel(), clock);
+    }
+
+    /**
+     * Get a {@link Logger} with the specified {@link LoggerName}.
+     *
+     * @param   loggerName  the {@link LoggerName}
+     * @return              the {@link Logger}
+     */
+    default L getLogger(LoggerName loggerName) {
+        return getLogger(loggerName, getDefaultLevel(), getDefaultClock());
+    }
+
     /**
      * Get a {@link Logger} with the name of the calling class.
      *
      * @return          the {@link Logger}
      */
     default L getLogger() {
-        return getLogger(callerInfo().getClassName(), getDefaultLevel(), getDefaultClock());
+        return getLogger(CallerLocator.callerName(), getDefaultLevel(), getDefaultClock());
     }
 
     /**
@@ -141,7 +188,7 @@ public interface LoggerFactory<L extends Logger> {
      * @return          the {@link Logger}
      */
     default L getLogger(Level level, Clock clock) {
-        return getLogger(callerInfo().getClassName(), level, clock);
+        return getLogger(CallerLocator.callerName(), level, clock);
     }
 
     /**
@@ -151,7 +198,7 @@ public interface LoggerFactory<L extends Logger> {
      * @return          the {@link Logger}
      */
     default L getLogger(Level level) {
-        return getLogger(callerInfo().getClassName(), level, getDefaultClock());
+        return getLogger(CallerLocator.callerName(), level, getDefaultClock());
     }
 
     /**
@@ -161,7 +208,7 @@ public interface LoggerFactory<L extends Logger> {
      * @return          the {@link Logger}
      */
     default L getLogger(Clock clock) {
-        return getLogger(callerInfo().getClassName(), getDefaultLevel(), clock);
+        return getLogger(CallerLocator.callerName(), getDefaultLevel(), clock);
     }
 
     /**
@@ -182,22 +229,46 @@ public interface LoggerFactory<L extends Logger> {
         return systemClock;
     }
 
+    /**
+     * Get a {@code LoggerFactory} that delegates to this {@code LoggerFactory}, but uses the specified {@link Clock} as
+     * its default {@link Clock} (for example, a {@link CachedClock}).
+     *
+     * @param   defaultClock    the default {@link Clock}
+     * @return                  the {@code LoggerFactory}
+     */
+    default LoggerFactory<L> withDefaultClock(Clock defaultClock) {
+        Objects.requireNonNull(defaultClock, "Clock must not be null");
+        LoggerFactory<L> loggerFactory = this;
+        return new LoggerFactory<L>() {
+
+            @Override
+            public L getLogger(String name, Level level, Clock clock) {
+                return loggerFactory.getLogger(name, level, clock);
+            }
+
+            @Override
+            public Level getDefaultLevel() {
+                return loggerFactory.getDefaultLevel();
+            }
+
+            @Override
+            public Clock getDefaultClock() {
+                return defaultClock;
+            }
+
+        };
+    }
+
     /**
      * Get the caller information in the form of a {@link StackTraceElement}, to allow the class name of the caller to
-     * be used for the name of the {@link Logger}.
+     * be used for the name of the {@link Logger}.  Frames for classes in this package are skipped, so the first frame
+     * returned will be the first one outside the logging library.  On Java 9 and above, this uses {@code StackWalker}
+     * to avoid materialising the entire stack.
      *
      * @return      the {@link StackTraceElement} for the caller
      */
     static StackTraceElement callerInfo() {
-        StackTraceElement[] callStack = (new Throwable()).getStackTrace();
-        int packageNameLength = logPackageName.length();
-        for (int i = 2, n = callStack.length; i < n; i++) {
-            StackTraceElement element = callStack[i];
-            String className = element.getClassName();
-            if (className.lastIndexOf('.') != packageNameLength || !className.startsWith(logPackageName))
-                return element;
-        }
-        return new StackTraceElement("unknown", "unknown", null, -1);
+        return CallerLocator.callerInfo();
     }
 
     /**
@@ -0,0 +1,232 @@
+/*
+ * @(#) LoggerName.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An interned, validated {@link Logger} name.  The name is validated (see {@link LoggerFactory#validateLoggerName})
+ * once, when the {@code LoggerName} is first created, and the instance holds the hash code, the dot-separated segments
+ * of the name, a reference to the parent name (the name without its last segment), and the name encoded as US-ASCII
+ * bytes (the validation guarantees that the name contains only characters in the range 0x20..0x7E).
+ *
+ * <p>Instances are interned, so there is only one {@code LoggerName} for a given name at any time, and they may be
+ * compared by identity.  The intern table holds the instances by weak reference, so a {@code LoggerName} that is no
+ * longer referenced (directly, or as the parent of another name) may be garbage collected, and its table entry is
+ * removed on a later call to {@link #of(String)}.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class LoggerName implements Comparable<LoggerName> {
+
+    private static final ConcurrentHashMap<String, NameReference> names = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<LoggerName> referenceQueue = new ReferenceQueue<>();
+
+    private final String name;
+    private final int hash;
+    final String[] segments;
+    private final LoggerName parent;
+    final byte[] bytes;
+
+    private LoggerName(String name, LoggerName parent) {
+        this.name = name;
+        hash = name.hashCode();
+        this.parent = parent;
+        int n = parent == null ? 1 : parent.segments.length + 1;
+        segments = new String[n];
+        if (parent != null) {
+            System.arraycopy(parent.segments, 0, segments, 0, n - 1);
+            segments[n - 1] = name.substring(parent.name.length() + 1);
+        }
+        else
+            segments[0] = name;
+        bytes = name.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Get the {@code LoggerName} for the specified name, creating it (after validating the name) if it does not
+     * already exist.
+     *
+     * @param   name    the name
+     * @return          the {@code LoggerName}
+     * @throws  LoggerException if the name is {@code null} or empty, or contains illegal (non-ASCII) characters
+     */
+    public static LoggerName of(String name) {
+        if (name == null)
+            throw new LoggerException("Logger name must not be null");
+        NameReference reference = names.get(name);
+        LoggerName loggerName;
+        if (reference != null && (loggerName = reference.get()) != null)
+            return loggerName;
+        LoggerFactory.validateLoggerName(name);
+        expungeStaleEntries();
+        int lastDot = name.lastIndexOf('.');
+        LoggerName parent = lastDot > 0 ? of(name.substring(0, lastDot)) : null;
+        LoggerName newLoggerName = new LoggerName(name, parent);
+        NameReference newReference = new NameReference(newLoggerName);
+        while (true) {
+            reference = names.putIfAbsent(name, newReference);
+            if (reference == null)
+                return newLoggerName;
+            if ((loggerName = reference.get()) != null)
+                return loggerName;
+            // the existing entry has been cleared but not yet expunged
+            if (names.replace(name, reference, newReference))
+                return newLoggerName;
+        }
+    }
+
+    /**
+     * Get the {@code LoggerName} for the name of the specified {@link Class}.
+     *
+     * @param   javaClass   the {@link Class}
+     * @return              the {@code LoggerName}
+     */
+    public static LoggerName of(Class<?> javaClass) {
+        return of(javaClass.getName());
+    }
+
+    /**
+     * Get the parent name (the name without its last segment).
+     *
+     * @return      the parent {@code LoggerName}, or {@code null} if the name has only one segment
+     */
+    public LoggerName getParent() {
+        return parent;
+    }
+
+    /**
+     * Get the number of dot-separated segments in the name.
+     *
+     * @return      the number of segments
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Get a dot-separated segment of the name.
+     *
+     * @param   index   the index of the segment
+     * @return          the segment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public String getSegment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * Get the number of characters (and bytes) in the name.
+     *
+     * @return      the length
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * Get the name encoded as US-ASCII bytes.
+     *
+     * @return      a new array containing the bytes
+     */
+    public byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    /**
+     * Copy the US-ASCII bytes of the name into an array.
+     *
+     * @param   target  the target array
+     * @param   offset  the offset in the target array
+     * @return          the offset following the copied bytes
+     * @throws  IndexOutOfBoundsException if the target array is too small
+     */
+    public int copyBytes(byte[] target, int offset) {
+        System.arraycopy(bytes, 0, target, offset, bytes.length);
+        return offset + bytes.length;
+    }
+
+    /**
+     * Test whether this name is the same as, or an ancestor of, another name (that is, whether this name is a prefix
+     * of the other name, consisting of complete segments).
+     *
+     * @param   other   the other {@code LoggerName}
+     * @return          {@code true} if this name is the same as, or an ancestor of, the other name
+     */
+    public boolean contains(LoggerName other) {
+        while (other != null) {
+            if (other == this)
+                return true;
+            other = other.parent;
+        }
+        return false;
+    }
+
+    private static void expungeStaleEntries() {
+        Object reference;
+        while ((reference = referenceQueue.poll()) != null)
+            names.remove(((NameReference)reference).name, reference);
+    }
+
+    @Override
+    public int compareTo(LoggerName other) {
+        return name.compareTo(other.name);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof LoggerName && name.equals(((LoggerName)other).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A weak reference to an interned {@code LoggerName}, retaining the name so that the table entry may be removed
+     * when the {@code LoggerName} is garbage collected.
+     */
+    private static final class NameReference extends WeakReference<LoggerName> {
+
+        private final String name;
+
+        private NameReference(LoggerName loggerName) {
+            super(loggerName, referenceQueue);
+            name = loggerName.name;
+        }
+
+    }
+
+}
@@ -0,0 +1,458 @@
+/*
+ * @(#) MappedFileLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A {@link LoggerFactory} that returns {@link MappedFileLogger}s, which write events (encoded by an
+ * {@link EventEncoder}) to an append-only log file, through a {@link MappedByteBuffer}.  Writing an event does not
+ * require a system call or a lock: space in the current segment is reserved by an atomic increment of its position,
+ * and the encoded event is copied directly to the mapped memory.
+ *
+ * <p>The log is written as a series of segment files in the specified directory, named {@code prefix-NNNNNN.log};
+ * when a segment is full, a new segment is created (numbered after any existing segments) and the old one is forced
+ * to disk and truncated to the length actually written.  An event longer than the segment size is truncated.</p>
+ *
+ * <p>The current segment is forced to disk by a background daemon thread at the specified interval, and by the
+ * {@link #force()} function; the {@link #close()} function completes the current segment and stops the thread.  Events
+ * logged after {@link #close()} has been called (or after an error creating a new segment) are discarded.</p>
+ *
+ * <p>An {@link IOException} when creating a new segment or completing an old one is not thrown to the logging thread;
+ * it is recorded (see {@link #getLastException()} and {@link #getErrorCount()}) and passed to the error handler, which
+ * by default does nothing ({@link #printErrorHandler} may be used to write a message to {@link System#err}).</p>
+ *
+ * <p>Each thread holds a view of the mapped buffer of the segment to which it last wrote.  The view is held by weak
+ * reference, and it is replaced when the thread next writes after the segment is rolled, so a thread that stops
+ * logging does not keep a retired segment mapped.</p>
+ *
+ * @author  Peter Wall
+ */
+public class MappedFileLoggerFactory implements LoggerFactory<MappedFileLogger>, AutoCloseable {
+
+    public static final int defaultSegmentSize = 64 * 1024 * 1024;
+    public static final int minimumSegmentSize = 4096;
+    public static final Duration defaultForceInterval = Duration.ofSeconds(1);
+    public static final String suffix = ".log";
+    public static final Consumer<IOException> defaultErrorHandler = e -> {};
+    public static final Consumer<IOException> printErrorHandler =
+            e -> System.err.println("MappedFileLoggerFactory: " + e);
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final Path directory;
+    private final String prefix;
+    private final int segmentSize;
+    private final ThreadLocal<Writer> writers = ThreadLocal.withInitial(Writer::new);
+    private final Thread forceThread;
+    private final long forceIntervalNanos;
+    private final Consumer<? super IOException> errorHandler;
+    private final LongAdder errorCount;
+    private volatile Segment current;
+    private volatile boolean closed;
+    private volatile IOException lastException;
+
+    /**
+     * Construct a {@code MappedFileLoggerFactory} with the default segment size (64MB) and force interval (1 second).
+     *
+     * @param   directory   the directory for the log files
+     * @param   prefix      the prefix of the log file names
+     * @throws  LoggerException if the first segment can not be created
+     */
+    public MappedFileLoggerFactory(Path directory, String prefix) {
+        this(directory, prefix, defaultSegmentSize, defaultForceInterval);
+    }
+
+    /**
+     * Construct a {@code MappedFileLoggerFactory} with the specified segment size and force interval, and the default
+     * error handler.
+     *
+     * @param   directory       the directory for the log files
+     * @param   prefix          the prefix of the log file names
+     * @param   segmentSize     the size of each segment
+     * @param   forceInterval   the interval at which the current segment is to be forced to disk (zero for none)
+     * @throws  LoggerException if the segment size is less than the minimum (4096), the force interval is negative, or
+     *                          the first segment can not be created
+     */
+    public MappedFileLoggerFactory(Path directory, String prefix, int segmentSize, Duration forceInterval) {
+        this(directory, prefix, segmentSize, forceInterval, defaultErrorHandler);
+    }
+
+    /**
+     * Construct a {@code MappedFileLoggerFactory} with the specified segment size, force interval and error handler.
+     *
+     * @param   directory       the directory for the log files
+     * @param   prefix          the prefix of the log file names
+     * @param   segmentSize     the size of each segment
+     * @param   forceInterval   the interval at which the current segment is to be forced to disk (zero for none)
+     * @param   errorHandler    the error handler, called with any {@link IOException} creating or completing a
+     *                          segment after construction (for example, {@link #printErrorHandler})
+     * @throws  LoggerException if the segment size is less than the minimum (4096), the force interval is negative, or
+     *                          the first segment can not be created
+     */
+    public MappedFileLoggerFactory(Path directory, String prefix, int segmentSize, Duration forceInterval,
+            Consumer<? super IOException> errorHandler) {
+        this.directory = Objects.requireNonNull(directory, "Directory must not be null");
+        this.prefix = Objects.requireNonNull(prefix, "Prefix must not be null");
+        if (segmentSize < minimumSegmentSize)
+            throw new LoggerException("Segment size must be at least " + minimumSegmentSize);
+        this.segmentSize = segmentSize;
+        if (Objects.requireNonNull(forceInterval, "Force interval must not be null").isNegative())
+            throw new LoggerException("Force interval must not be negative");
+        forceIntervalNanos = forceInterval.toNanos();
+        this.errorHandler = Objects.requireNonNull(errorHandler, "Error handler must not be null");
+        errorCount = new LongAdder();
+        try {
+            int number = findLastSegmentNumber() + 1;
+            current = Segment.open(segmentPath(number), number, segmentSize);
+        }
+        catch (IOException e) {
+            throw new LoggerException("Error creating log segment", e);
+        }
+        if (forceIntervalNanos > 0) {
+            forceThread = new Thread(this::runForce, "MappedFileLoggerFactory-" + threadNumber.incrementAndGet());
+            forceThread.setDaemon(true);
+            forceThread.start();
+        }
+        else
+            forceThread = null;
+    }
+
+    /**
+     * Get a {@link MappedFileLogger} with the specified name, level and clock.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link MappedFileLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public MappedFileLogger getLogger(String name, Level level, Clock clock) {
+        LoggerFactory.validateLoggerName(name);
+        return new MappedFileLogger(this, name, level, clock);
+    }
+
+    /**
+     * Get the directory for the log files.
+     *
+     * @return      the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the segment size.
+     *
+     * @return      the segment size
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Get the path of the current segment, or {@code null} if the {@code MappedFileLoggerFactory} has been closed.
+     *
+     * @return      the path of the current segment
+     */
+    public Path getCurrentPath() {
+        Segment segment = current;
+        return segment == null ? null : segment.path;
+    }
+
+    /**
+     * Get the most recent exception encountered creating or completing a segment, or {@code null} if there has been
+     * none.
+     *
+     * @return      the exception
+     */
+    public IOException getLastException() {
+        return lastException;
+    }
+
+    /**
+     * Get the number of exceptions encountered creating or completing a segment.
+     *
+     * @return      the number of exceptions
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Force the events written to the current segment to disk.
+     */
+    public void force() {
+        Segment segment = current;
+        if (segment != null)
+            segment.force();
+    }
+
+    /**
+     * Complete the current segment (forcing it to disk and truncating it to the length written), and stop the
+     * background thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (forceThread != null)
+            LockSupport.unpark(forceThread);
+        Segment segment;
+        while ((segment = current) != null) {
+            // reserve more than the remaining space, so that no further events are written to the segment
+            long position = segment.reserved.getAndAdd(segmentSize + 1L);
+            if (position <= segmentSize)
+                roll(segment, position);
+            else
+                awaitRoll(segment);
+            while (!segment.finished.get())
+                Thread.yield();
+        }
+    }
+
+    void write(String name, Level level, long epochNanos, Throwable throwable, Object message) {
+        Writer writer = writers.get();
+        EventEncoder encoder = writer.encoder;
+        encoder.encode(name, level, epochNanos, throwable, message);
+        int length = Math.min(encoder.getLength(), segmentSize);
+        Segment segment;
+        while ((segment = current) != null) {
+            long position = segment.reserved.getAndAdd(length);
+            if (position + length <= segmentSize) {
+                ByteBuffer view = writer.getView(segment);
+                view.position((int)position);
+                if (length < encoder.getLength()) {
+                    view.put(encoder.getBuffer(), 0, length - 1);
+                    view.put((byte)'\n');
+                }
+                else
+                    encoder.copyTo(view);
+                if (segment.complete(length))
+                    finish(segment);
+                return;
+            }
+            if (position <= segmentSize)
+                roll(segment, position);
+            else
+                awaitRoll(segment);
+        }
+    }
+
+    private void roll(Segment segment, long position) {
+        // only one thread can reserve the space that crosses the end of the segment, so only one thread rolls it
+        try {
+            if (!closed) {
+                int number = segment.number + 1;
+                current = Segment.open(segmentPath(number), number, segmentSize);
+            }
+            else
+                current = null;
+        }
+        catch (IOException e) {
+            // the event that caused the roll (and all later events) will be discarded
+            current = null;
+            handleError(e);
+        }
+        if (segment.seal(position))
+            finish(segment);
+    }
+
+    private void finish(Segment segment) {
+        try {
+            segment.finish();
+        }
+        catch (IOException e) {
+            handleError(e);
+        }
+    }
+
+    private void handleError(IOException e) {
+        lastException = e;
+        errorCount.increment();
+        try {
+            errorHandler.accept(e);
+        }
+        catch (RuntimeException ignore) {
+            // the error handler must not cause the logging call to fail
+        }
+    }
+
+    private void awaitRoll(Segment segment) {
+        while (current == segment)
+            Thread.yield();
+    }
+
+    private void runForce() {
+        while (!closed) {
+            LockSupport.parkNanos(this, forceIntervalNanos);
+            force();
+        }
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("%s-%06d%s", prefix, number, suffix));
+    }
+
+    private int findLastSegmentNumber() throws IOException {
+        int last = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "-*" + suffix)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                String number = fileName.substring(prefix.length() + 1, fileName.length() - suffix.length());
+                try {
+                    last = Math.max(last, Integer.parseInt(number));
+                }
+                catch (NumberFormatException ignore) {
+                }
+            }
+        }
+        return last;
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final int number;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicLong reserved = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long end = -1;
+
+        private Segment(Path path, int number, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.number = number;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private static Segment open(Path path, int number, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                return new Segment(path, number, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+            catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Record the completion of a write, and test whether the segment is now ready to be finished.
+         */
+        private boolean complete(int length) {
+            return written.addAndGet(length) == end;
+        }
+
+        /**
+         * Set the end of the segment, and test whether the segment is now ready to be finished.
+         */
+        private boolean seal(long end) {
+            this.end = end;
+            return written.get() == end;
+        }
+
+        /**
+         * Force the segment to disk, unless it has been finished.  The lock ensures that a force by the background
+         * thread can not overlap the truncation and closing of the file by {@link #finish()}.
+         */
+        private void force() {
+            lock.lock();
+            try {
+                if (!finished.get())
+                    buffer.force();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        private void finish() throws IOException {
+            if (finished.compareAndSet(false, true)) {
+                lock.lock();
+                try {
+                    buffer.force();
+                    channel.truncate(end);
+                }
+                finally {
+                    try {
+                        channel.close();
+                    }
+                    finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+
+    }
+
+    private static final class Writer {
+
+        private final EventEncoder encoder = new EventEncoder();
+        private int segmentNumber;
+        private WeakReference<ByteBuffer> viewReference;
+
+        /**
+         * Get a view of the buffer of the specified segment.  The view for the previous segment (if any) is discarded
+         * when the segment changes, and the view is held only by weak reference between calls, so that the mapping of
+         * a retired segment is not retained by a thread that has stopped logging.
+         */
+        private ByteBuffer getView(Segment segment) {
+            ByteBuffer view;
+            if (segmentNumber != segment.number || viewReference == null || (view = viewReference.get()) == null) {
+                view = segment.buffer.duplicate();
+                segmentNumber = segment.number;
+                viewReference = new WeakReference<>(view);
+            }
+            return view;
+        }
+
+    }
+
+}
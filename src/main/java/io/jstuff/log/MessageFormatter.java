@@ -0,0 +1,289 @@
+/*
+ * @(#) MessageFormatter.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+/**
+ * Functions to format a message from a pattern and a small number of arguments, for use by the parameterised logging
+ * functions of {@link Logger}.  Each occurrence of the placeholder {@code {}} in the pattern is replaced by the next
+ * argument (converted to a string as by {@link StringBuilder#append(Object)}); if there are more placeholders than
+ * arguments the surplus placeholders are output unchanged, and if there are more arguments than placeholders the
+ * surplus arguments are ignored.
+ *
+ * <p>There are separate functions for each number of arguments, so that no array is created for the arguments, and
+ * there are versions taking {@code long} and {@code double} arguments, so that primitive values are not boxed.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class MessageFormatter {
+
+    public static final String placeholder = "{}";
+
+    private MessageFormatter() {}
+
+    /**
+     * Format a message with one argument.
+     *
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     * @return              the formatted message
+     */
+    public static String format(String pattern, Object a) {
+        StringBuilder sb = new StringBuilder();
+        appendFormatted(sb, pattern, a);
+        return sb.toString();
+    }
+
+    /**
+     * Format a message with two arguments.
+     *
+     * @param   pattern     the pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @return              the formatted message
+     */
+    public static String format(String pattern, Object a, Object b) {
+        StringBuilder sb = new StringBuilder();
+        appendFormatted(sb, pattern, a, b);
+        return sb.toString();
+    }
+
+    /**
+     * Format a message with three arguments.
+     *
+     * @param   pattern     the pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     * @return              the formatted message
+     */
+    public static String format(String pattern, Object a, Object b, Object c) {
+        StringBuilder sb = new StringBuilder();
+        appendFormatted(sb, pattern, a, b, c);
+        return sb.toString();
+    }
+
+    /**
+     * Format a message with one {@code long} argument.
+     *
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     * @return              the formatted message
+     */
+    public static String format(String pattern, long a) {
+        StringBuilder sb = new StringBuilder();
+        appendFormatted(sb, pattern, a);
+        return sb.toString();
+    }
+
+    /**
+     * Format a message with one {@code double} argument.
+     *
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     * @return              the formatted message
+     */
+    public static String format(String pattern, double a) {
+        StringBuilder sb = new StringBuilder();
+        appendFormatted(sb, pattern, a);
+        return sb.toString();
+    }
+
+    /**
+     * Format a message with one {@code char} argument.
+     *
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     * @return              the formatted message
+     */
+    public static String format(String pattern, char a) {
+        StringBuilder sb = new StringBuilder();
+        appendFormatted(sb, pattern, a);
+        return sb.toString();
+    }
+
+    /**
+     * Format a message with one {@code float} argument.
+     *
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     * @return              the formatted message
+     */
+    public static String format(String pattern, float a) {
+        StringBuilder sb = new StringBuilder();
+        appendFormatted(sb, pattern, a);
+        return sb.toString();
+    }
+
+    /**
+     * Append a message with one argument to a {@link StringBuilder}.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     */
+    public static void appendFormatted(StringBuilder sb, String pattern, Object a) {
+        String p = String.valueOf(pattern);
+        int i = appendLiteral(sb, p, 0);
+        if (i >= 0) {
+            sb.append(a);
+            sb.append(p, i, p.length());
+        }
+    }
+
+    /**
+     * Append a message with two arguments to a {@link StringBuilder}.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     */
+    public static void appendFormatted(StringBuilder sb, String pattern, Object a, Object b) {
+        String p = String.valueOf(pattern);
+        int i = appendLiteral(sb, p, 0);
+        if (i >= 0) {
+            sb.append(a);
+            i = appendLiteral(sb, p, i);
+            if (i >= 0) {
+                sb.append(b);
+                sb.append(p, i, p.length());
+            }
+        }
+    }
+
+    /**
+     * Append a message with three arguments to a {@link StringBuilder}.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   a           the first argument
+     * @param   b           the second argument
+     * @param   c           the third argument
+     */
+    public static void appendFormatted(StringBuilder sb, String pattern, Object a, Object b, Object c) {
+        String p = String.valueOf(pattern);
+        int i = appendLiteral(sb, p, 0);
+        if (i >= 0) {
+            sb.append(a);
+            i = appendLiteral(sb, p, i);
+            if (i >= 0) {
+                sb.append(b);
+                i = appendLiteral(sb, p, i);
+                if (i >= 0) {
+                    sb.append(c);
+                    sb.append(p, i, p.length());
+                }
+            }
+        }
+    }
+
+    /**
+     * Append a message with one {@code long} argument to a {@link StringBuilder}.  The argument is appended directly,
+     * without boxing.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     */
+    public static void appendFormatted(StringBuilder sb, String pattern, long a) {
+        String p = String.valueOf(pattern);
+        int i = appendLiteral(sb, p, 0);
+        if (i >= 0) {
+            sb.append(a);
+            sb.append(p, i, p.length());
+        }
+    }
+
+    /**
+     * Append a message with one {@code double} argument to a {@link StringBuilder}.  The argument is appended
+     * directly, without boxing.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     */
+    public static void appendFormatted(StringBuilder sb, String pattern, double a) {
+        String p = String.valueOf(pattern);
+        int i = appendLiteral(sb, p, 0);
+        if (i >= 0) {
+            sb.append(a);
+            sb.append(p, i, p.length());
+        }
+    }
+
+    /**
+     * Append a message formatted with one {@code char} argument to a {@link StringBuilder}.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     */
+    public static void appendFormatted(StringBuilder sb, String pattern, char a) {
+        String p = String.valueOf(pattern);
+        int i = appendLiteral(sb, p, 0);
+        if (i >= 0) {
+            sb.append(a);
+            sb.append(p, i, p.length());
+        }
+    }
+
+    /**
+     * Append a message formatted with one {@code float} argument to a {@link StringBuilder}.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   a           the argument
+     */
+    public static void appendFormatted(StringBuilder sb, String pattern, float a) {
+        String p = String.valueOf(pattern);
+        int i = appendLiteral(sb, p, 0);
+        if (i >= 0) {
+            sb.append(a);
+            sb.append(p, i, p.length());
+        }
+    }
+
+    /**
+     * Append the literal text of a pattern, starting at the specified index, up to the next placeholder or the end of
+     * the pattern.  This may be used by implementations that wish to format arguments directly into an output
+     * buffer.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   pattern     the pattern
+     * @param   start       the start index
+     * @return              the index following the placeholder, or -1 if the end of the pattern was reached
+     */
+    public static int appendLiteral(StringBuilder sb, String pattern, int start) {
+        int i = pattern.indexOf(placeholder, start);
+        if (i < 0) {
+            sb.append(pattern, start, pattern.length());
+            return -1;
+        }
+        sb.append(pattern, start, i);
+        return i + placeholder.length();
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * @(#) MonotonicClock.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Clock} that produces strictly increasing, nanosecond-resolution times.  The wall-clock time is read from an
+ * underlying {@link Clock} once, and subsequent times are derived from {@link System#nanoTime()}, so there is no call
+ * to the underlying {@link Clock} for each event.
+ *
+ * <p>At intervals (by default, once a second) the derived time is compared with the underlying {@link Clock}, and if
+ * the difference exceeds a threshold (by default, 1 millisecond), the clock is re-anchored to the underlying
+ * {@link Clock}.  The times returned are always strictly increasing, even if the underlying {@link Clock} is moved
+ * backwards: following a backward correction, successive times advance by one nanosecond until the new anchored time
+ * overtakes them.</p>
+ *
+ * <p>A {@code MonotonicClock} obtained from {@link #withZone(ZoneId)} shares the state of the original, so the times
+ * returned by both are strictly increasing when taken together.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class MonotonicClock extends Clock {
+
+    public static final Duration defaultCheckInterval = Duration.ofSeconds(1);
+    public static final Duration defaultDriftThreshold = Duration.ofMillis(1);
+
+    private static final long nanosPerSecond = 1_000_000_000L;
+
+    private final State state;
+    private final ZoneId zone;
+
+    /**
+     * Construct a {@code MonotonicClock} using the system clock in the default time zone, with the default check
+     * interval and drift threshold.
+     */
+    public MonotonicClock() {
+        this(LoggerFactory.systemClock, defaultCheckInterval, defaultDriftThreshold);
+    }
+
+    /**
+     * Construct a {@code MonotonicClock} using the specified underlying {@link Clock} (and its time zone), with the
+     * specified check interval and drift threshold.
+     *
+     * @param   clock           the underlying {@link Clock}
+     * @param   checkInterval   the interval between comparisons with the underlying {@link Clock}
+     * @param   driftThreshold  the difference from the underlying {@link Clock} that will cause re-anchoring
+     * @throws  LoggerException if the check interval or the drift threshold is negative
+     */
+    public MonotonicClock(Clock clock, Duration checkInterval, Duration driftThreshold) {
+        Objects.requireNonNull(clock, "Clock must not be null");
+        Objects.requireNonNull(checkInterval, "Check interval must not be null");
+        Objects.requireNonNull(driftThreshold, "Drift threshold must not be null");
+        if (checkInterval.isNegative())
+            throw new LoggerException("Check interval must not be negative");
+        if (driftThreshold.isNegative())
+            throw new LoggerException("Drift threshold must not be negative");
+        state = new State(clock, checkInterval.toNanos(), driftThreshold.toNanos());
+        zone = clock.getZone();
+    }
+
+    private MonotonicClock(State state, ZoneId zone) {
+        this.state = state;
+        this.zone = zone;
+    }
+
+    /**
+     * Get the time zone.
+     *
+     * @return      the {@link ZoneId}
+     */
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Get a {@code MonotonicClock} with the specified time zone, sharing the state of this clock.
+     *
+     * @param   zone    the {@link ZoneId}
+     * @return          the {@code MonotonicClock}
+     */
+    @Override
+    public MonotonicClock withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "Zone must not be null");
+        return zone.equals(this.zone) ? this : new MonotonicClock(state, zone);
+    }
+
+    /**
+     * Get the current time.
+     *
+     * @return      the time, as an {@link Instant}
+     */
+    @Override
+    public Instant instant() {
+        long nanos = state.epochNanos();
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, nanosPerSecond), Math.floorMod(nanos, nanosPerSecond));
+    }
+
+    /**
+     * Get the current time in milliseconds since the epoch.
+     *
+     * @return      the time in milliseconds
+     */
+    @Override
+    public long millis() {
+        return Math.floorDiv(state.epochNanos(), 1_000_000L);
+    }
+
+    /**
+     * Get the current time in nanoseconds since the epoch.  A {@code long} can hold times in this form up to the year
+     * 2262.
+     *
+     * @return      the time in nanoseconds
+     */
+    public long epochNanos() {
+        return state.epochNanos();
+    }
+
+    @Override
+    public String toString() {
+        return "MonotonicClock[" + zone + ']';
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * nanosPerSecond + instant.getNano();
+    }
+
+    /**
+     * The shared state of a {@code MonotonicClock} and its time zone variants.
+     */
+    private static final class State {
+
+        private final Clock clock;
+        private final long checkInterval;
+        private final long driftThreshold;
+        private final AtomicReference<Anchor> anchor;
+        private final AtomicLong last;
+
+        private State(Clock clock, long checkInterval, long driftThreshold) {
+            this.clock = clock;
+            this.checkInterval = checkInterval;
+            this.driftThreshold = driftThreshold;
+            long nanoTime = System.nanoTime();
+            anchor = new AtomicReference<>(new Anchor(toEpochNanos(clock.instant()), nanoTime,
+                    nanoTime + checkInterval));
+            last = new AtomicLong(Long.MIN_VALUE);
+        }
+
+        private long epochNanos() {
+            long nanoTime = System.nanoTime();
+            Anchor a = anchor.get();
+            if (nanoTime - a.nextCheck >= 0)
+                a = check(a, nanoTime);
+            long computed = a.epochNanos + (nanoTime - a.nanoTime);
+            while (true) {
+                long previous = last.get();
+                long next = computed > previous ? computed : previous + 1;
+                if (last.compareAndSet(previous, next))
+                    return next;
+            }
+        }
+
+        private Anchor check(Anchor a, long nanoTime) {
+            long actual = toEpochNanos(clock.instant());
+            long computed = a.epochNanos + (nanoTime - a.nanoTime);
+            Anchor updated = Math.abs(actual - computed) > driftThreshold ?
+                    new Anchor(actual, nanoTime, nanoTime + checkInterval) :
+                    new Anchor(a.epochNanos, a.nanoTime, nanoTime + checkInterval);
+            // if another thread has updated the anchor, use its version
+            return anchor.compareAndSet(a, updated) ? updated : anchor.get();
+        }
+
+    }
+
+    /**
+     * An anchor point: a wall-clock time and the corresponding {@link System#nanoTime()} value, along with the
+     * {@link System#nanoTime()} value at which the next comparison with the underlying {@link Clock} is due.
+     */
+    private static final class Anchor {
+
+        private final long epochNanos;
+        private final long nanoTime;
+        private final long nextCheck;
+
+        private Anchor(long epochNanos, long nanoTime, long nextCheck) {
+            this.epochNanos = epochNanos;
+            this.nanoTime = nanoTime;
+            this.nextCheck = nextCheck;
+        }
+
+    }
+
+}
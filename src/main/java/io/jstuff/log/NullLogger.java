@@ -25,14 +25,20 @@
 
 package io.jstuff.log;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
- * A null implementation of the {@link Logger} interface (logs nothing).
+ * A null implementation of the {@link Logger} interface (logs nothing).  Every logging function is overridden with an
+ * empty implementation (rather than relying on the default functions of {@link Logger}, which would test the level
+ * and delegate to another function), so that a call to a {@code NullLogger}, once inlined by the JIT compiler, has no
+ * cost beyond the evaluation of its arguments.  The class is {@code final}, so that a call site that sees only
+ * {@code NullLogger} can be devirtualised.
  *
  * @author  Peter Wall
  */
-public class NullLogger implements Logger {
+public final class NullLogger implements Logger {
 
     private final String name;
 
@@ -90,6 +96,511 @@ public class NullLogger implements Logger {
         // ignore
     }
 
+    @Override
+    public void trace(Instant time, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void debug(Instant time, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void info(Instant time, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void warn(Instant time, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, Throwable throwable, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void trace(Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void trace(Instant time, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void debug(Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void debug(Instant time, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void info(Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void info(Instant time, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void warn(Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void warn(Instant time, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void error(Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void error(Throwable throwable, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, Throwable throwable, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void log(Instant time, Level level, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void log(Instant time, Level level, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void traceAt(long epochNanos, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void traceAt(long epochNanos, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void debugAt(long epochNanos, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void debugAt(long epochNanos, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void infoAt(long epochNanos, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void infoAt(long epochNanos, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void warnAt(long epochNanos, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void warnAt(long epochNanos, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void errorAt(long epochNanos, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void errorAt(long epochNanos, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void errorAt(long epochNanos, Throwable throwable, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void errorAt(long epochNanos, Throwable throwable, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void logAt(long epochNanos, Level level, Object message) {
+        // ignore
+    }
+
+    @Override
+    public void logAt(long epochNanos, Level level, Supplier<Object> messageSupplier) {
+        // ignore
+    }
+
+    @Override
+    public void trace(String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void trace(String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void trace(String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void trace(Instant time, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void trace(Instant time, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void trace(Instant time, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void debug(String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void debug(String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void debug(String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void debug(Instant time, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void debug(Instant time, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void debug(Instant time, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void info(String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void info(String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void info(String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void info(Instant time, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void info(Instant time, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void info(Instant time, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void warn(String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void warn(String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void warn(String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void warn(Instant time, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void warn(Instant time, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void warn(Instant time, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void error(String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void error(String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void error(String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void error(Throwable throwable, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void error(Throwable throwable, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void error(Throwable throwable, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, Throwable throwable, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, Throwable throwable, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void error(Instant time, Throwable throwable, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void log(Instant time, Level level, String pattern, Object a) {
+        // ignore
+    }
+
+    @Override
+    public void log(Instant time, Level level, String pattern, Object a, Object b) {
+        // ignore
+    }
+
+    @Override
+    public void log(Instant time, Level level, String pattern, Object a, Object b, Object c) {
+        // ignore
+    }
+
+    @Override
+    public void trace(String pattern, long a) {
+        // ignore
+    }
+
+    @Override
+    public void trace(String pattern, double a) {
+        // ignore
+    }
+
+    @Override
+    public void debug(String pattern, long a) {
+        // ignore
+    }
+
+    @Override
+    public void debug(String pattern, double a) {
+        // ignore
+    }
+
+    @Override
+    public void info(String pattern, long a) {
+        // ignore
+    }
+
+    @Override
+    public void info(String pattern, double a) {
+        // ignore
+    }
+
+    @Override
+    public void warn(String pattern, long a) {
+        // ignore
+    }
+
+    @Override
+    public void warn(String pattern, double a) {
+        // ignore
+    }
+
+    @Override
+    public void error(String pattern, long a) {
+        // ignore
+    }
+
+    @Override
+    public void error(String pattern, double a) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, String pattern, long a) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, String pattern, double a) {
+        // ignore
+    }
+
+    @Override
+    public void trace(String pattern, char a) {
+        // ignore
+    }
+
+    @Override
+    public void trace(String pattern, float a) {
+        // ignore
+    }
+
+    @Override
+    public void debug(String pattern, char a) {
+        // ignore
+    }
+
+    @Override
+    public void debug(String pattern, float a) {
+        // ignore
+    }
+
+    @Override
+    public void info(String pattern, char a) {
+        // ignore
+    }
+
+    @Override
+    public void info(String pattern, float a) {
+        // ignore
+    }
+
+    @Override
+    public void warn(String pattern, char a) {
+        // ignore
+    }
+
+    @Override
+    public void warn(String pattern, float a) {
+        // ignore
+    }
+
+    @Override
+    public void error(String pattern, char a) {
+        // ignore
+    }
+
+    @Override
+    public void error(String pattern, float a) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, String pattern, char a) {
+        // ignore
+    }
+
+    @Override
+    public void log(Level level, String pattern, float a) {
+        // ignore
+    }
+
     @Override
     public boolean isTraceEnabled() {
         return false;
@@ -120,4 +631,34 @@ public class NullLogger implements Logger {
         return false;
     }
 
+    @Override
+    public LogEventBuilder atTrace() {
+        return LogEventBuilder.noop;
+    }
+
+    @Override
+    public LogEventBuilder atDebug() {
+        return LogEventBuilder.noop;
+    }
+
+    @Override
+    public LogEventBuilder atInfo() {
+        return LogEventBuilder.noop;
+    }
+
+    @Override
+    public LogEventBuilder atWarn() {
+        return LogEventBuilder.noop;
+    }
+
+    @Override
+    public LogEventBuilder atError() {
+        return LogEventBuilder.noop;
+    }
+
+    @Override
+    public LogEventBuilder atLevel(Level level) {
+        return LogEventBuilder.noop;
+    }
+
 }
@@ -28,14 +28,20 @@ package io.jstuff.log;
 import java.time.Clock;
 
 /**
- * A null implementation of the {@link LoggerFactory} interface.
+ * A null implementation of the {@link LoggerFactory} interface.  A {@link NullLogger} has no state other than its name,
+ * so the {@link NullLogger}s are interned: all requests for a given name return the same instance.  The intern table
+ * holds the instances by weak reference, so a {@link NullLogger} that is no longer referenced may be garbage collected
+ * (a later request for the same name will return a new instance).
  *
  * @author  Peter Wall
  */
 public class NullLoggerFactory implements LoggerFactory<NullLogger> {
 
+    private final WeakValueCache<String, NullLogger> loggers = new WeakValueCache<>();
+
     /**
-     * Get a {@link NullLogger} with the specified name, level and clock.
+     * Get a {@link NullLogger} with the specified name, level and clock.  The same instance is returned for each call
+     * with a given name, while the instance remains referenced.
      *
      * @param   name    the name
      * @param   level   the level (ignored)
@@ -45,6 +51,12 @@ public class NullLoggerFactory implements LoggerFactory<NullLogger> {
      */
     @Override
     public NullLogger getLogger(String name, Level level, Clock clock) {
+        if (name == null)
+            LoggerFactory.validateLoggerName(null); // throws exception
+        return loggers.computeIfAbsent(name, NullLoggerFactory::createLogger);
+    }
+
+    private static NullLogger createLogger(String name) {
         LoggerFactory.validateLoggerName(name);
         return new NullLogger(name);
     }
@@ -0,0 +1,160 @@
+/*
+ * @(#) RateLimitedLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Logger} returned by {@link RateLimitedLoggerFactory}.  Each event at an enabled level is passed to the
+ * {@link RateLimitedLoggerFactory.Limiter} for that level, and only if it is accepted is it output to the wrapped
+ * {@link Logger}.  The {@link RateLimitedLoggerFactory.Limiter} is consulted from
+ * {@link AbstractLogger#isAllowed(Level) isAllowed()}, so a {@link Supplier} is invoked, a message pattern is formatted
+ * and a {@link LogEventBuilder} event is rendered only for accepted events.
+ *
+ * <p>When an event is accepted after one or more events at the same level have been suppressed, a message of the
+ * form "{@code N messages suppressed}" is output to the wrapped {@link Logger} before the event.  The
+ * {@link RateLimitedLoggerFactory} also outputs any outstanding counts at intervals, and when it is closed.</p>
+ *
+ * @author  Peter Wall
+ */
+public class RateLimitedLogger extends AbstractLogger {
+
+    private static final Level[] levels = Level.values();
+    private static final int numLevels = levels.length;
+
+    private final RateLimitedLoggerFactory rateLimitedLoggerFactory;
+    private final Logger logger;
+    private final RateLimitedLoggerFactory.Limiter[] limiters;
+    private final AtomicLong[] suppressedCounts;
+
+    RateLimitedLogger(RateLimitedLoggerFactory rateLimitedLoggerFactory, Logger logger) {
+        super(logger.getName(), logger.getLevel(), logger.getClock());
+        this.rateLimitedLoggerFactory = rateLimitedLoggerFactory;
+        this.logger = logger;
+        limiters = new RateLimitedLoggerFactory.Limiter[numLevels];
+        suppressedCounts = new AtomicLong[numLevels];
+        for (int i = 0; i < numLevels; i++) {
+            limiters[i] = rateLimitedLoggerFactory.newLimiter();
+            suppressedCounts[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Get the wrapped {@link Logger}.
+     *
+     * @return      the {@link Logger}
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Get the number of events at the specified level suppressed since the last summary was output.
+     *
+     * @param   level   the {@link Level}
+     * @return          the number of events suppressed
+     */
+    public long getSuppressedCount(Level level) {
+        return suppressedCounts[level.ordinal()].get();
+    }
+
+    /**
+     * Set the minimum level to be output by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   level   the new {@link Level}
+     */
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        logger.setLevel(level);
+    }
+
+    /**
+     * Set the {@link Clock} used by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   clock   the new {@link Clock}
+     */
+    @Override
+    public void setClock(Clock clock) {
+        super.setClock(clock);
+        logger.setClock(clock);
+    }
+
+    /**
+     * Output a "{@code N messages suppressed}" message for each level at which events have been suppressed since the
+     * last such message was output.
+     */
+    public void flush() {
+        for (int i = 0; i < numLevels; i++) {
+            long count = suppressedCounts[i].getAndSet(0);
+            if (count != 0)
+                output(levels[i], null, null, suppressedMessage(count));
+        }
+    }
+
+    @Override
+    protected boolean isAllowed(Level level) {
+        int index = level.ordinal();
+        AtomicLong suppressedCount = suppressedCounts[index];
+        if (!limiters[index].tryAcquire()) {
+            suppressedCount.incrementAndGet();
+            rateLimitedLoggerFactory.suppressed();
+            return false;
+        }
+        if (suppressedCount.get() != 0) {
+            long count = suppressedCount.getAndSet(0);
+            if (count != 0)
+                output(level, null, null, suppressedMessage(count));
+        }
+        return true;
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        output(level, time, throwable, message);
+    }
+
+    private static String suppressedMessage(long count) {
+        return count == 1 ? "1 message suppressed" : count + " messages suppressed";
+    }
+
+    private void output(Level level, Instant time, Throwable throwable, Object message) {
+        if (throwable != null) {
+            if (time != null)
+                logger.error(time, throwable, message);
+            else
+                logger.error(throwable, message);
+        }
+        else if (time != null)
+            logger.log(time, level, message);
+        else
+            logger.log(level, message);
+    }
+
+}
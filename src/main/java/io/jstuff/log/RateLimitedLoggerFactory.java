@@ -0,0 +1,294 @@
+/*
+ * @(#) RateLimitedLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and returns {@link RateLimitedLogger}s which limit
+ * the number of events passed to the wrapped {@link Logger}s.  Each {@link RateLimitedLogger} has a separate
+ * {@link Limiter} for each {@link Level}, created by the {@link Supplier} provided to the constructor; the static
+ * functions {@link #tokenBucket}, {@link #oneInN} and {@link #probability} create {@link Supplier}s for the common
+ * forms of rate limiting and sampling.
+ *
+ * <p>Events rejected by a {@link Limiter} are counted, and when an event is next accepted at that level, a message
+ * of the form "{@code N messages suppressed}" is output before it.  So that the count is not held back indefinitely
+ * when no further event is accepted, a daemon thread also outputs any outstanding counts for the
+ * {@link RateLimitedLogger}s created by this factory at a specified interval (by default, 10 seconds); the
+ * {@link #close()} function outputs all outstanding counts and stops the thread.</p>
+ *
+ * <p>The {@link RateLimitedLogger}s are held by weak reference, keyed on name, level and {@link Clock}: while a
+ * {@link RateLimitedLogger} is still referenced, a further request for the same name, level and {@link Clock} returns
+ * the same instance, so that all users of the name share the same {@link Limiter}s.</p>
+ *
+ * <p>All of the {@link Limiter} implementations provided use atomic operations, not locks.</p>
+ *
+ * @author  Peter Wall
+ */
+public class RateLimitedLoggerFactory implements LoggerFactory<RateLimitedLogger>, AutoCloseable {
+
+    /**
+     * A decision function that determines whether an event is to be output.
+     */
+    @FunctionalInterface
+    public interface Limiter {
+
+        /**
+         * Test whether an event is to be output.
+         *
+         * @return      {@code true} if the event is to be output
+         */
+        boolean tryAcquire();
+
+    }
+
+    public static final Duration defaultSummaryInterval = Duration.ofSeconds(10);
+
+    private final LoggerFactory<?> loggerFactory;
+    private final Supplier<? extends Limiter> limiterSupplier;
+    private final LongAdder suppressedCount;
+    private final BackgroundWorker<RateLimitedLogger> worker;
+
+    /**
+     * Construct a {@code RateLimitedLoggerFactory} with the default summary interval.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   limiterSupplier a {@link Supplier} of {@link Limiter}s (called once for each level of each
+     *                          {@link Logger})
+     */
+    public RateLimitedLoggerFactory(LoggerFactory<?> loggerFactory, Supplier<? extends Limiter> limiterSupplier) {
+        this(loggerFactory, limiterSupplier, defaultSummaryInterval);
+    }
+
+    /**
+     * Construct a {@code RateLimitedLoggerFactory} with the specified summary interval.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     * @param   limiterSupplier a {@link Supplier} of {@link Limiter}s (called once for each level of each
+     *                          {@link Logger})
+     * @param   summaryInterval the interval at which outstanding suppressed counts are output
+     * @throws  LoggerException if the summary interval is less than 1 millisecond
+     */
+    public RateLimitedLoggerFactory(LoggerFactory<?> loggerFactory, Supplier<? extends Limiter> limiterSupplier,
+            Duration summaryInterval) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        this.limiterSupplier = Objects.requireNonNull(limiterSupplier, "Limiter supplier must not be null");
+        Objects.requireNonNull(summaryInterval, "Summary interval must not be null");
+        if (summaryInterval.compareTo(Duration.ofMillis(1)) < 0)
+            throw new LoggerException("Summary interval must be at least 1 millisecond");
+        long summaryIntervalNanos = summaryInterval.compareTo(Duration.ofDays(1)) < 0 ? summaryInterval.toNanos() :
+                Duration.ofDays(1).toNanos();
+        suppressedCount = new LongAdder();
+        worker = BackgroundWorker.periodic(RateLimitedLoggerFactory.class, summaryIntervalNanos,
+                RateLimitedLogger::flush);
+    }
+
+    /**
+     * Get a {@link RateLimitedLogger} with the specified name, level and clock.  If a {@link RateLimitedLogger} with
+     * the same name, level and clock has already been created by this factory, and is still referenced, that instance
+     * (with its {@link Limiter}s) is returned.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link RateLimitedLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public RateLimitedLogger getLogger(String name, Level level, Clock clock) {
+        return worker.getLogger(name, level, clock,
+                () -> new RateLimitedLogger(this, loggerFactory.getLogger(name, level, clock)));
+    }
+
+    /**
+     * Get the default {@link Level} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        return loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the wrapped {@link LoggerFactory}.
+     *
+     * @return      the {@link LoggerFactory}
+     */
+    public LoggerFactory<?> getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Get the total number of events suppressed by all {@link RateLimitedLogger}s created by this factory.
+     *
+     * @return      the number of events suppressed
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    /**
+     * Output the outstanding suppressed counts for all {@link RateLimitedLogger}s created by this factory.
+     */
+    public void flush() {
+        worker.forEachLogger(RateLimitedLogger::flush);
+    }
+
+    /**
+     * Stop the summary thread, and output all outstanding suppressed counts.  After this function has been called,
+     * suppressed counts are output only when a later event is accepted, or when {@link #flush()} or
+     * {@link RateLimitedLogger#flush()} is called.
+     */
+    @Override
+    public void close() {
+        worker.close(this::flush);
+    }
+
+    Limiter newLimiter() {
+        return Objects.requireNonNull(limiterSupplier.get(), "Limiter must not be null");
+    }
+
+    void suppressed() {
+        suppressedCount.increment();
+    }
+
+    /**
+     * Create a {@link Supplier} of token bucket {@link Limiter}s, allowing the specified number of events per second
+     * on average, with bursts of up to the specified size.
+     *
+     * @param   eventsPerSecond the average number of events per second
+     * @param   burstSize       the maximum number of events in a burst
+     * @return                  the {@link Limiter} {@link Supplier}
+     * @throws  LoggerException if either parameter is not positive
+     */
+    public static Supplier<Limiter> tokenBucket(double eventsPerSecond, int burstSize) {
+        return tokenBucket(eventsPerSecond, burstSize, System::nanoTime);
+    }
+
+    /**
+     * Create a {@link Supplier} of token bucket {@link Limiter}s, allowing the specified number of events per second
+     * on average, with bursts of up to the specified size, and using the specified source of nanosecond time.
+     *
+     * @param   eventsPerSecond the average number of events per second
+     * @param   burstSize       the maximum number of events in a burst
+     * @param   nanoTime        the source of time, in the form returned by {@link System#nanoTime()}
+     * @return                  the {@link Limiter} {@link Supplier}
+     * @throws  LoggerException if either numeric parameter is not positive
+     */
+    public static Supplier<Limiter> tokenBucket(double eventsPerSecond, int burstSize, LongSupplier nanoTime) {
+        if (!(eventsPerSecond > 0.0))
+            throw new LoggerException("Events per second must be positive");
+        if (burstSize <= 0)
+            throw new LoggerException("Burst size must be positive");
+        Objects.requireNonNull(nanoTime, "Time source must not be null");
+        long interval = Math.max(1L, (long)(1_000_000_000.0 / eventsPerSecond));
+        long limit = interval * burstSize;
+        return () -> new TokenBucket(interval, limit, nanoTime);
+    }
+
+    /**
+     * Create a {@link Supplier} of {@link Limiter}s that accept the first of every {@code n} events.
+     *
+     * @param   n       the sampling interval
+     * @return          the {@link Limiter} {@link Supplier}
+     * @throws  LoggerException if {@code n} is not positive
+     */
+    public static Supplier<Limiter> oneInN(int n) {
+        if (n <= 0)
+            throw new LoggerException("Sampling interval must be positive");
+        return () -> {
+            AtomicLong counter = new AtomicLong();
+            return () -> Math.floorMod(counter.getAndIncrement(), (long)n) == 0;
+        };
+    }
+
+    /**
+     * Create a {@link Supplier} of {@link Limiter}s that accept events at random with the specified probability.
+     *
+     * @param   probability the probability of an event being accepted (0.0 to 1.0)
+     * @return              the {@link Limiter} {@link Supplier}
+     * @throws  LoggerException if the probability is not in the range 0.0 to 1.0
+     */
+    public static Supplier<Limiter> probability(double probability) {
+        if (!(probability >= 0.0 && probability <= 1.0))
+            throw new LoggerException("Probability must be in the range 0.0 to 1.0");
+        Limiter limiter = () -> ThreadLocalRandom.current().nextDouble() < probability;
+        return () -> limiter;
+    }
+
+    /**
+     * A token bucket, implemented as the Generic Cell Rate Algorithm: the state is a single "theoretical arrival
+     * time", advanced by the interval on each accepted event, and an event is accepted if that time would not be more
+     * than the burst allowance ahead of the current time.
+     */
+    private static final class TokenBucket implements Limiter {
+
+        private final long interval;
+        private final long limit;
+        private final LongSupplier nanoTime;
+        private final AtomicLong theoreticalArrivalTime;
+
+        private TokenBucket(long interval, long limit, LongSupplier nanoTime) {
+            this.interval = interval;
+            this.limit = limit;
+            this.nanoTime = nanoTime;
+            theoreticalArrivalTime = new AtomicLong(nanoTime.getAsLong() - limit);
+        }
+
+        @Override
+        public boolean tryAcquire() {
+            long now = nanoTime.getAsLong();
+            while (true) {
+                long tat = theoreticalArrivalTime.get();
+                long newTat = (tat - now > 0 ? tat : now) + interval;
+                if (newTat - now > limit)
+                    return false;
+                if (theoreticalArrivalTime.compareAndSet(tat, newTat))
+                    return true;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * @(#) StreamLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * A {@link Logger} returned by {@link StreamLoggerFactory}, which writes events to an
+ * {@link java.io.OutputStream OutputStream}.  The time of each event is the {@link Instant} (or {@code long} number of
+ * nanoseconds) passed to the logging function, or if none is given, the time from the {@link Clock} of the
+ * {@code Logger}.
+ *
+ * @author  Peter Wall
+ */
+public class StreamLogger extends AbstractLogger {
+
+    private final StreamLoggerFactory streamLoggerFactory;
+
+    StreamLogger(StreamLoggerFactory streamLoggerFactory, String name, Level level, Clock clock) {
+        super(name, level, clock);
+        this.streamLoggerFactory = streamLoggerFactory;
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        streamLoggerFactory.write(getName(), level,
+                EventEncoder.toEpochNanos(time != null ? time : getClock().instant()), throwable, message);
+    }
+
+    @Override
+    protected void write(Level level, long epochNanos, Throwable throwable, Object message) {
+        streamLoggerFactory.write(getName(), level, epochNanos, throwable, message);
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * @(#) StreamLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link LoggerFactory} that returns {@link StreamLogger}s, which write events (encoded by an {@link EventEncoder})
+ * to an {@link OutputStream}, for example the standard output or standard error stream.
+ *
+ * <p>Each event is encoded outside any lock, into an {@link EventEncoder} taken from a small pool; the encoded bytes
+ * are then written to the {@link OutputStream} (and the stream is flushed) while holding a {@link ReentrantLock}, and
+ * the {@link EventEncoder} is returned to the pool.  No {@code synchronized} block is used, so a virtual thread writing
+ * an event does not pin its carrier thread.</p>
+ *
+ * <p>The pool is bounded by the number of processors (an {@link EventEncoder} is needed only while a thread is
+ * running), rather than holding one {@link EventEncoder} for each thread, so a large number of virtual threads does not
+ * cause a corresponding number of buffers to be retained.  If all the pooled encoders are in use, a temporary
+ * {@link EventEncoder} is created for the event.</p>
+ *
+ * <p>The {@link #stdout()} and {@link #stderr()} functions create a {@code StreamLoggerFactory} writing directly to
+ * the file descriptor of the standard output or standard error stream, bypassing the {@code synchronized}
+ * {@link java.io.PrintStream PrintStream} of {@link System#out} and {@link System#err}.</p>
+ *
+ * @author  Peter Wall
+ */
+public class StreamLoggerFactory implements LoggerFactory<StreamLogger> {
+
+    private static final int poolSize = Math.min(Runtime.getRuntime().availableProcessors() * 2, 64);
+
+    private final OutputStream outputStream;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicReferenceArray<EventEncoder> encoders = new AtomicReferenceArray<>(poolSize);
+    private volatile IOException lastException;
+
+    /**
+     * Construct a {@code StreamLoggerFactory} writing to the specified {@link OutputStream}.
+     *
+     * @param   outputStream    the {@link OutputStream}
+     */
+    public StreamLoggerFactory(OutputStream outputStream) {
+        this.outputStream = Objects.requireNonNull(outputStream, "OutputStream must not be null");
+    }
+
+    /**
+     * Create a {@code StreamLoggerFactory} writing to the standard output stream.
+     *
+     * @return      the {@code StreamLoggerFactory}
+     */
+    public static StreamLoggerFactory stdout() {
+        return new StreamLoggerFactory(new FileOutputStream(FileDescriptor.out));
+    }
+
+    /**
+     * Create a {@code StreamLoggerFactory} writing to the standard error stream.
+     *
+     * @return      the {@code StreamLoggerFactory}
+     */
+    public static StreamLoggerFactory stderr() {
+        return new StreamLoggerFactory(new FileOutputStream(FileDescriptor.err));
+    }
+
+    /**
+     * Get a {@link StreamLogger} with the specified name, level and clock.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link StreamLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public StreamLogger getLogger(String name, Level level, Clock clock) {
+        LoggerFactory.validateLoggerName(name);
+        return new StreamLogger(this, name, level, clock);
+    }
+
+    /**
+     * Get the {@link OutputStream}.
+     *
+     * @return      the {@link OutputStream}
+     */
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    /**
+     * Get the most recent exception encountered writing to the {@link OutputStream}, or {@code null} if there has been
+     * none.
+     *
+     * @return      the exception
+     */
+    public IOException getLastException() {
+        return lastException;
+    }
+
+    void write(String name, Level level, long epochNanos, Throwable throwable, Object message) {
+        int start = Thread.currentThread().hashCode();
+        EventEncoder encoder = acquireEncoder(start);
+        encoder.encode(name, level, epochNanos, throwable, message);
+        lock.lock();
+        try {
+            encoder.writeTo(outputStream);
+            outputStream.flush();
+        }
+        catch (IOException e) {
+            lastException = e;
+        }
+        finally {
+            lock.unlock();
+        }
+        releaseEncoder(start, encoder);
+    }
+
+    private EventEncoder acquireEncoder(int start) {
+        for (int i = 0; i < poolSize; i++) {
+            EventEncoder encoder = encoders.getAndSet(Math.floorMod(start + i, poolSize), null);
+            if (encoder != null)
+                return encoder;
+        }
+        return new EventEncoder();
+    }
+
+    private void releaseEncoder(int start, EventEncoder encoder) {
+        for (int i = 0; i < poolSize; i++) {
+            if (encoders.compareAndSet(Math.floorMod(start + i, poolSize), null, encoder))
+                return;
+        }
+        // the pool is full - the encoder will be garbage collected
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * @(#) ThreadLocalLogEvent.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link LogEventBuilder} implementation, used by the default {@code atXxxx()} functions of
+ * {@link Logger}.  An instance is held for each thread, and is reused for each event, so that building an event does
+ * not allocate (after the value arrays have grown to the size required).  On {@link #emit()}, the event is rendered to
+ * a {@link String} of the form "{@code message key=value key=value}" and output using the
+ * {@link Logger#log(Level, Object) log()} functions of the {@link Logger}, or, for an {@link AbstractLogger}, passed
+ * to its {@code write()} function if {@link AbstractLogger#isAllowed(Level) isAllowed()} accepts the event (so that
+ * the event is not rendered if it is to be discarded).
+ *
+ * <p>If the instance for the thread is in use when another event is started (because the other event is built while
+ * the first is being built or rendered, for example in an argument expression of an {@code add()} call or in the
+ * {@code toString()} of a value, or because a builder was abandoned without {@link #emit()}), a new instance is
+ * created for the new event, and becomes the instance held for the thread.  The instance in use is not disturbed.</p>
+ *
+ * @author  Peter Wall
+ */
+final class ThreadLocalLogEvent implements LogEventBuilder {
+
+    private static final int initialCapacity = 8;
+    private static final int maxRetainedCapacity = 8192;
+    private static final byte OBJECT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte SUPPLIER = 4;
+    private static final byte CHAR = 5;
+    private static final byte FLOAT = 6;
+
+    private static final ThreadLocal<ThreadLocalLogEvent> threadLocalEvent =
+            ThreadLocal.withInitial(ThreadLocalLogEvent::new);
+
+    private StringBuilder sb = new StringBuilder(128);
+    private String[] keys = new String[initialCapacity];
+    private byte[] types = new byte[initialCapacity];
+    private long[] primitives = new long[initialCapacity];
+    private Object[] objects = new Object[initialCapacity];
+    private int count;
+    private Logger logger;
+    private Level level;
+    private Object message;
+    private Throwable throwable;
+    private Instant time;
+    private long epochNanos;
+    private boolean epochNanosSet;
+
+    static LogEventBuilder start(Logger logger, Level level) {
+        ThreadLocalLogEvent event = threadLocalEvent.get();
+        if (event.logger != null) {
+            // in use by an enclosing event on this thread, or abandoned without emit()
+            event = new ThreadLocalLogEvent();
+            threadLocalEvent.set(event);
+        }
+        event.logger = logger;
+        event.level = level;
+        return event;
+    }
+
+    @Override
+    public LogEventBuilder add(String key, Object value) {
+        int i = slot(key, OBJECT);
+        objects[i] = value;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder add(String key, char value) {
+        int i = slot(key, CHAR);
+        primitives[i] = value;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder add(String key, long value) {
+        int i = slot(key, LONG);
+        primitives[i] = value;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder add(String key, float value) {
+        int i = slot(key, FLOAT);
+        primitives[i] = Float.floatToRawIntBits(value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder add(String key, double value) {
+        int i = slot(key, DOUBLE);
+        primitives[i] = Double.doubleToRawLongBits(value);
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder add(String key, boolean value) {
+        int i = slot(key, BOOLEAN);
+        primitives[i] = value ? 1 : 0;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder add(String key, Supplier<Object> valueSupplier) {
+        int i = slot(key, SUPPLIER);
+        objects[i] = valueSupplier;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder message(Object message) {
+        this.message = message;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder throwable(Throwable throwable) {
+        this.throwable = throwable;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder time(Instant time) {
+        this.time = time;
+        epochNanosSet = false;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder time(long epochNanos) {
+        this.epochNanos = epochNanos;
+        epochNanosSet = true;
+        time = null;
+        return this;
+    }
+
+    @Override
+    public void emit() {
+        Logger logger = this.logger;
+        if (logger == null)
+            return;
+        try {
+            Level level = this.level;
+            Throwable throwable = level == Level.ERROR ? this.throwable : null;
+            if (logger instanceof AbstractLogger) {
+                // consult the logger before rendering, so that Supplier values of a discarded event are not invoked
+                AbstractLogger abstractLogger = (AbstractLogger)logger;
+                if (!abstractLogger.isAllowed(level))
+                    return;
+                String rendered = render();
+                if (epochNanosSet)
+                    abstractLogger.write(level, epochNanos, throwable, rendered);
+                else
+                    abstractLogger.write(level, time, throwable, rendered);
+                return;
+            }
+            String rendered = render();
+            if (throwable != null) {
+                if (epochNanosSet)
+                    logger.errorAt(epochNanos, throwable, rendered);
+                else if (time != null)
+                    logger.error(time, throwable, rendered);
+                else
+                    logger.error(throwable, rendered);
+            }
+            else if (epochNanosSet)
+                logger.logAt(epochNanos, level, rendered);
+            else if (time != null)
+                logger.log(time, level, rendered);
+            else
+                logger.log(level, rendered);
+        }
+        finally {
+            reset();
+            if (sb.capacity() > maxRetainedCapacity)
+                sb = new StringBuilder(128);
+        }
+    }
+
+    private String render() {
+        StringBuilder sb = this.sb;
+        sb.setLength(0);
+        if (message != null)
+            sb.append(message);
+        for (int i = 0; i < count; i++) {
+            if (sb.length() > 0)
+                sb.append(' ');
+            sb.append(keys[i]).append('=');
+            switch (types[i]) {
+            case LONG:
+                sb.append(primitives[i]);
+                break;
+            case DOUBLE:
+                sb.append(Double.longBitsToDouble(primitives[i]));
+                break;
+            case CHAR:
+                sb.append((char)primitives[i]);
+                break;
+            case FLOAT:
+                sb.append(Float.intBitsToFloat((int)primitives[i]));
+                break;
+            case BOOLEAN:
+                sb.append(primitives[i] != 0);
+                break;
+            case SUPPLIER:
+                @SuppressWarnings("unchecked")
+                Supplier<Object> supplier = (Supplier<Object>)objects[i];
+                sb.append(supplier.get());
+                break;
+            default:
+                sb.append(objects[i]);
+            }
+        }
+        if (throwable != null && level != Level.ERROR) {
+            if (sb.length() > 0)
+                sb.append(' ');
+            sb.append("throwable=").append(throwable);
+        }
+        return sb.toString();
+    }
+
+    private int slot(String key, byte type) {
+        int i = count;
+        if (i == keys.length) {
+            int newLength = i * 2;
+            keys = Arrays.copyOf(keys, newLength);
+            types = Arrays.copyOf(types, newLength);
+            primitives = Arrays.copyOf(primitives, newLength);
+            objects = Arrays.copyOf(objects, newLength);
+        }
+        keys[i] = key;
+        types[i] = type;
+        count = i + 1;
+        return i;
+    }
+
+    private void reset() {
+        Arrays.fill(keys, 0, count, null);
+        Arrays.fill(objects, 0, count, null);
+        count = 0;
+        logger = null;
+        level = null;
+        message = null;
+        throwable = null;
+        time = null;
+        epochNanosSet = false;
+    }
+
+}
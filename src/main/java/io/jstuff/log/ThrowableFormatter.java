@@ -0,0 +1,292 @@
+/*
+ * @(#) ThrowableFormatter.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A formatter for {@link Throwable}s, for use by {@link Logger} implementations that output stack traces.  The output
+ * follows the form of {@link Throwable#printStackTrace()}, including the elision of frames in common with the enclosing
+ * trace for causes and suppressed exceptions, with two optional additions:
+ * <ul>
+ *   <li>consecutive frames from specified packages (for example, reflection or test framework classes) are replaced
+ *   by a single line giving the number of frames trimmed, and</li>
+ *   <li>the number of lines output for each stack trace is limited to a maximum depth.</li>
+ * </ul>
+ *
+ * <p>The rendered text of each stack trace (the lines following the {@link Throwable#toString()} line) is held in a
+ * bounded cache, keyed by a fingerprint of the {@link Throwable} class and the hashes of the stack frames, so that when
+ * the same failure occurs repeatedly (each time with a new {@link Throwable} instance, as in a failure storm), the cost
+ * of formatting it is a hash of the frames rather than a full rendering of the stack trace.  A fingerprint match is
+ * confirmed by comparing the class name and all of the frames, so two different stack traces are never confused.  The
+ * {@link Throwable#toString()} line (which includes the message) is output afresh for each {@link Throwable}.</p>
+ *
+ * <p>The cache is a lock-free, direct-mapped table (a new entry displaces any entry with the same index).  A
+ * {@code ThrowableFormatter} is thread-safe.</p>
+ *
+ * @author  Peter Wall
+ */
+public final class ThrowableFormatter {
+
+    public static final int defaultCacheSize = 256;
+    public static final int defaultMaxDepth = 256;
+    public static final ThrowableFormatter defaultFormatter = new ThrowableFormatter();
+
+    private final int maxDepth;
+    private final String[] trimmedPackages;
+    private final AtomicReferenceArray<Entry> cache;
+    private final int mask;
+    private final LongAdder cacheHits;
+    private final LongAdder cacheMisses;
+
+    /**
+     * Construct a {@code ThrowableFormatter} with the default cache size (256) and maximum depth (256), and no package
+     * trimming.
+     */
+    public ThrowableFormatter() {
+        this(defaultCacheSize, defaultMaxDepth);
+    }
+
+    /**
+     * Construct a {@code ThrowableFormatter} with the specified cache size, maximum depth and trimmed packages.
+     *
+     * @param   cacheSize       the number of rendered stack traces to be cached (will be rounded up to a power of
+     *                          two; zero for no cache)
+     * @param   maxDepth        the maximum number of lines to be output for each stack trace
+     * @param   trimmedPackages the names of packages whose frames are to be trimmed (including sub-packages)
+     * @throws  LoggerException if the cache size is outside the range 0..2^20 or the maximum depth is not positive
+     */
+    public ThrowableFormatter(int cacheSize, int maxDepth, String... trimmedPackages) {
+        if (cacheSize < 0 || cacheSize > 1 << 20)
+            throw new LoggerException("Cache size must be in the range 0..2^20");
+        if (maxDepth <= 0)
+            throw new LoggerException("Maximum depth must be positive");
+        this.maxDepth = maxDepth;
+        this.trimmedPackages = new String[trimmedPackages.length];
+        for (int i = 0; i < trimmedPackages.length; i++)
+            this.trimmedPackages[i] = trimmedPackages[i] + '.';
+        int tableSize = cacheSize <= 1 ? cacheSize : Integer.highestOneBit(cacheSize - 1) << 1;
+        cache = tableSize == 0 ? null : new AtomicReferenceArray<>(tableSize);
+        mask = tableSize - 1;
+        cacheHits = new LongAdder();
+        cacheMisses = new LongAdder();
+    }
+
+    /**
+     * Format a {@link Throwable}, including its stack trace, causes and suppressed exceptions.
+     *
+     * @param   throwable   the {@link Throwable}
+     * @return              the formatted text (each line terminated by a newline)
+     */
+    public String format(Throwable throwable) {
+        StringBuilder sb = new StringBuilder();
+        appendTo(sb, throwable);
+        return sb.toString();
+    }
+
+    /**
+     * Append a formatted {@link Throwable}, including its stack trace, causes and suppressed exceptions, to a
+     * {@link StringBuilder}.
+     *
+     * @param   sb          the {@link StringBuilder}
+     * @param   throwable   the {@link Throwable}
+     */
+    public void appendTo(StringBuilder sb, Throwable throwable) {
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.add(throwable);
+        StackTraceElement[] trace = throwable.getStackTrace();
+        sb.append(throwable).append('\n');
+        appendFrames(sb, throwable, trace, 0, 0);
+        appendRelated(sb, throwable, trace, 0, seen);
+    }
+
+    /**
+     * Get the number of rendered stack traces currently cached.
+     *
+     * @return      the number of cached entries
+     */
+    public int getCacheCount() {
+        int count = 0;
+        if (cache != null) {
+            for (int i = 0, n = cache.length(); i < n; i++) {
+                Entry entry = cache.get(i);
+                if (entry != null)
+                    count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of times a rendered stack trace has been found in the cache.
+     *
+     * @return      the number of cache hits
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Get the number of times a stack trace has had to be rendered (when the cache is in use).
+     *
+     * @return      the number of cache misses
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    private void appendRelated(StringBuilder sb, Throwable throwable, StackTraceElement[] trace, int indent,
+            Set<Throwable> seen) {
+        for (Throwable suppressed : throwable.getSuppressed())
+            appendEnclosed(sb, suppressed, trace, "Suppressed: ", indent + 1, seen);
+        Throwable cause = throwable.getCause();
+        if (cause != null)
+            appendEnclosed(sb, cause, trace, "Caused by: ", indent, seen);
+    }
+
+    private void appendEnclosed(StringBuilder sb, Throwable throwable, StackTraceElement[] enclosingTrace,
+            String caption, int indent, Set<Throwable> seen) {
+        appendIndent(sb, indent);
+        if (!seen.add(throwable)) {
+            sb.append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append("]\n");
+            return;
+        }
+        StackTraceElement[] trace = throwable.getStackTrace();
+        int m = trace.length - 1;
+        int n = enclosingTrace.length - 1;
+        while (m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+            m--;
+            n--;
+        }
+        sb.append(caption).append(throwable).append('\n');
+        appendFrames(sb, throwable, trace, trace.length - 1 - m, indent);
+        appendRelated(sb, throwable, trace, indent, seen);
+    }
+
+    private void appendFrames(StringBuilder sb, Throwable throwable, StackTraceElement[] trace, int framesInCommon,
+            int indent) {
+        if (cache == null) {
+            appendRendered(sb, trace, framesInCommon, indent);
+            return;
+        }
+        String className = throwable.getClass().getName();
+        int hash = fingerprint(className, trace, framesInCommon, indent);
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Entry entry = cache.get(index);
+        if (entry != null && entry.matches(hash, className, trace, framesInCommon, indent)) {
+            cacheHits.increment();
+            sb.append(entry.text);
+            return;
+        }
+        cacheMisses.increment();
+        int start = sb.length();
+        appendRendered(sb, trace, framesInCommon, indent);
+        cache.set(index, new Entry(hash, className, trace, framesInCommon, indent, sb.substring(start)));
+    }
+
+    private void appendRendered(StringBuilder sb, StackTraceElement[] trace, int framesInCommon, int indent) {
+        int n = trace.length - framesInCommon;
+        int lines = 0;
+        int i = 0;
+        while (i < n) {
+            appendIndent(sb, indent);
+            if (lines++ == maxDepth - 1 && n - i > 1) {
+                sb.append("\t... ").append(n - i).append(" frames omitted\n");
+                break;
+            }
+            if (isTrimmed(trace[i])) {
+                int j = i + 1;
+                while (j < n && isTrimmed(trace[j]))
+                    j++;
+                sb.append("\t... ").append(j - i).append(" trimmed\n");
+                i = j;
+            }
+            else
+                sb.append("\tat ").append(trace[i++]).append('\n');
+        }
+        if (framesInCommon != 0) {
+            appendIndent(sb, indent);
+            sb.append("\t... ").append(framesInCommon).append(" more\n");
+        }
+    }
+
+    private boolean isTrimmed(StackTraceElement element) {
+        String className = element.getClassName();
+        for (String trimmedPackage : trimmedPackages)
+            if (className.startsWith(trimmedPackage))
+                return true;
+        return false;
+    }
+
+    private static int fingerprint(String className, StackTraceElement[] trace, int framesInCommon, int indent) {
+        int hash = (className.hashCode() * 31 + framesInCommon) * 31 + indent;
+        for (StackTraceElement element : trace)
+            hash = hash * 31 + element.hashCode();
+        return hash;
+    }
+
+    private static void appendIndent(StringBuilder sb, int indent) {
+        for (int i = 0; i < indent; i++)
+            sb.append('\t');
+    }
+
+    /**
+     * A cache entry: the rendered text of a stack trace, with the fingerprint and the values from which it was
+     * computed, so that a match may be confirmed.
+     */
+    private static final class Entry {
+
+        private final int hash;
+        private final String className;
+        private final StackTraceElement[] trace;
+        private final int framesInCommon;
+        private final int indent;
+        private final String text;
+
+        private Entry(int hash, String className, StackTraceElement[] trace, int framesInCommon, int indent,
+                String text) {
+            this.hash = hash;
+            this.className = className;
+            this.trace = trace;
+            this.framesInCommon = framesInCommon;
+            this.indent = indent;
+            this.text = text;
+        }
+
+        private boolean matches(int hash, String className, StackTraceElement[] trace, int framesInCommon,
+                int indent) {
+            return this.hash == hash && this.framesInCommon == framesInCommon && this.indent == indent &&
+                    this.className.equals(className) && Arrays.equals(this.trace, trace);
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * @(#) TimingLogger.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * A {@link Logger} returned by {@link TimingLoggerFactory}.  Each call to the wrapped {@link Logger} is timed using
+ * {@link System#nanoTime()}, and the elapsed time is recorded in the {@link LatencyHistogram} for the level.  The time
+ * recorded is that of the wrapped {@link Logger} call only; the level check, and the invocation of any
+ * {@link java.util.function.Supplier}, are not included.
+ *
+ * @author  Peter Wall
+ */
+public class TimingLogger extends AbstractLogger {
+
+    private final Logger logger;
+    private final LatencyHistogram[] histograms;
+
+    TimingLogger(Logger logger, LatencyHistogram[] histograms) {
+        super(logger.getName(), logger.getLevel(), logger.getClock());
+        this.logger = logger;
+        this.histograms = histograms;
+    }
+
+    /**
+     * Get the wrapped {@link Logger}.
+     *
+     * @return      the {@link Logger}
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Get the {@link LatencyHistogram} for the specified {@link Level}.
+     *
+     * @param   level   the {@link Level}
+     * @return          the {@link LatencyHistogram}
+     */
+    public LatencyHistogram getHistogram(Level level) {
+        return histograms[level.ordinal()];
+    }
+
+    /**
+     * Set the minimum level to be output by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   level   the new {@link Level}
+     */
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        logger.setLevel(level);
+    }
+
+    /**
+     * Set the {@link Clock} used by this {@code Logger} and the wrapped {@link Logger}.
+     *
+     * @param   clock   the new {@link Clock}
+     */
+    @Override
+    public void setClock(Clock clock) {
+        super.setClock(clock);
+        logger.setClock(clock);
+    }
+
+    @Override
+    protected void write(Level level, Instant time, Throwable throwable, Object message) {
+        long start = System.nanoTime();
+        try {
+            if (throwable != null) {
+                if (time != null)
+                    logger.error(time, throwable, message);
+                else
+                    logger.error(throwable, message);
+            }
+            else if (time != null)
+                logger.log(time, level, message);
+            else
+                logger.log(level, message);
+        }
+        finally {
+            histograms[level.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    protected void write(Level level, long epochNanos, Throwable throwable, Object message) {
+        long start = System.nanoTime();
+        try {
+            if (throwable != null)
+                logger.errorAt(epochNanos, throwable, message);
+            else
+                logger.logAt(epochNanos, level, message);
+        }
+        finally {
+            histograms[level.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * @(#) TimingLoggerFactory.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link LoggerFactory} that wraps another {@link LoggerFactory}, and returns {@link TimingLogger}s which record the
+ * time taken by each call to the wrapped {@link Logger} in a {@link LatencyHistogram}, for each {@link Logger} name
+ * and each {@link Level}.  {@link Logger}s with the same name share the same histograms.
+ *
+ * @author  Peter Wall
+ * @param   <L>     the {@link Logger} type of the wrapped {@link LoggerFactory}
+ */
+public class TimingLoggerFactory<L extends Logger> implements LoggerFactory<TimingLogger> {
+
+    private static final int numLevels = Level.values().length;
+
+    private final LoggerFactory<L> loggerFactory;
+    private final ConcurrentHashMap<String, LatencyHistogram[]> histograms;
+
+    /**
+     * Construct a {@code TimingLoggerFactory}.
+     *
+     * @param   loggerFactory   the {@link LoggerFactory} to be wrapped
+     */
+    public TimingLoggerFactory(LoggerFactory<L> loggerFactory) {
+        this.loggerFactory = Objects.requireNonNull(loggerFactory, "LoggerFactory must not be null");
+        histograms = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get a {@link TimingLogger} with the specified name, level and clock.
+     *
+     * @param   name    the name
+     * @param   level   the level
+     * @param   clock   the clock
+     * @return          the {@link TimingLogger}
+     * @throws  LoggerException if the name is {@code null} or contains illegal (non-ASCII) characters
+     */
+    @Override
+    public TimingLogger getLogger(String name, Level level, Clock clock) {
+        L logger = loggerFactory.getLogger(name, level, clock);
+        return new TimingLogger(logger, histograms.computeIfAbsent(name, k -> newHistograms()));
+    }
+
+    /**
+     * Get the default {@link Level} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Level}
+     */
+    @Override
+    public Level getDefaultLevel() {
+        return loggerFactory.getDefaultLevel();
+    }
+
+    /**
+     * Get the default {@link Clock} of the wrapped {@link LoggerFactory}.
+     *
+     * @return      the default {@link Clock}
+     */
+    @Override
+    public Clock getDefaultClock() {
+        return loggerFactory.getDefaultClock();
+    }
+
+    /**
+     * Get the wrapped {@link LoggerFactory}.
+     *
+     * @return      the {@link LoggerFactory}
+     */
+    public LoggerFactory<L> getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Get the {@link LatencyHistogram} for the specified {@link Logger} name and {@link Level}.
+     *
+     * @param   name    the name
+     * @param   level   the {@link Level}
+     * @return          the {@link LatencyHistogram}, or {@code null} if no {@link Logger} has been created with that
+     *                  name
+     */
+    public LatencyHistogram getHistogram(String name, Level level) {
+        LatencyHistogram[] array = histograms.get(name);
+        return array == null ? null : array[level.ordinal()];
+    }
+
+    /**
+     * Reset all histograms.
+     */
+    public void reset() {
+        for (LatencyHistogram[] array : histograms.values())
+            for (LatencyHistogram histogram : array)
+                histogram.reset();
+    }
+
+    private static LatencyHistogram[] newHistograms() {
+        LatencyHistogram[] array = new LatencyHistogram[numLevels];
+        for (int i = 0; i < numLevels; i++)
+            array[i] = new LatencyHistogram();
+        return array;
+    }
+
+}
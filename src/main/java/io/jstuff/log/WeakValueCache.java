@@ -0,0 +1,115 @@
+/*
+ * @(#) WeakValueCache.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package io.jstuff.log;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A concurrent map that holds its values by weak reference, so that a value that is no longer referenced elsewhere may
+ * be garbage collected.  The entries for collected values are removed on later calls to
+ * {@link #computeIfAbsent(Object, Function) computeIfAbsent()}.
+ *
+ * <p>While a value is referenced, all calls for its key return the same instance; the function to create a value may
+ * be called more than once for the same key if there is contention, in which case only one of the values created is
+ * retained.</p>
+ *
+ * @author  Peter Wall
+ * @param   <K>     the key type
+ * @param   <V>     the value type
+ */
+final class WeakValueCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<K, V>> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> referenceQueue = new ReferenceQueue<>();
+
+    /**
+     * Get the value for the specified key, creating it using the specified function if there is no value, or if the
+     * value has been garbage collected.
+     *
+     * @param   key         the key
+     * @param   function    the function to create the value
+     * @return              the value
+     */
+    V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        Entry<K, V> entry = map.get(key);
+        V value;
+        if (entry != null && (value = entry.get()) != null)
+            return value;
+        expungeStaleEntries();
+        V newValue = function.apply(key);
+        Entry<K, V> newEntry = new Entry<>(key, newValue, referenceQueue);
+        while (true) {
+            entry = map.putIfAbsent(key, newEntry);
+            if (entry == null)
+                return newValue;
+            if ((value = entry.get()) != null)
+                return value;
+            // the existing entry has been cleared but not yet expunged
+            if (map.replace(key, entry, newEntry))
+                return newValue;
+        }
+    }
+
+    /**
+     * Perform the specified action for each value that has not been garbage collected.
+     *
+     * @param   action  the action
+     */
+    void forEach(Consumer<? super V> action) {
+        for (Entry<K, V> entry : map.values()) {
+            V value = entry.get();
+            if (value != null)
+                action.accept(value);
+        }
+        expungeStaleEntries();
+    }
+
+    private void expungeStaleEntries() {
+        Object reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            @SuppressWarnings("unchecked")
+            Entry<K, V> entry = (Entry<K, V>)reference;
+            map.remove(entry.key, entry);
+        }
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+
+        private final K key;
+
+        private Entry(K key, V value, ReferenceQueue<V> referenceQueue) {
+            super(value, referenceQueue);
+            this.key = key;
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * @(#) CallerLocator.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log;
+
+import java.util.Optional;
+
+/**
+ * Locate the caller of a {@link LoggerFactory} function.  This is the Java 9 version, which uses a
+ * {@link StackWalker} to examine only as many frames as are needed to find the caller, without creating a
+ * {@link StackTraceElement} for every frame on the stack.
+ *
+ * @author  Peter Wall
+ */
+final class CallerLocator {
+
+    /** The number of frames to skip: this function, {@link LoggerFactory#callerInfo()} and its immediate caller. */
+    static final int skipFrames = 3;
+
+    private static final StackWalker stackWalker =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private CallerLocator() {}
+
+    /**
+     * Get the caller information in the form of a {@link StackTraceElement}.  The first frame that is not in the
+     * logging package (after the skipped frames) is returned.
+     *
+     * @return      the {@link StackTraceElement} for the caller
+     */
+    static StackTraceElement callerInfo() {
+        Optional<StackWalker.StackFrame> frame = stackWalker.walk(frames -> frames.skip(skipFrames)
+                .filter(f -> !LogPackage.contains(f.getDeclaringClass())).findFirst());
+        return frame.isPresent() ? frame.get().toStackTraceElement() : LogPackage.unknownCaller;
+    }
+
+    /**
+     * Get the {@link Logger} name for the caller, that is, the name of the first class on the stack that is not in the
+     * logging package.  This does not create a {@link StackTraceElement} for any frame, and the test of whether a
+     * class is in the logging package is cached for each class.
+     *
+     * @return      the {@link Logger} name
+     */
+    static String callerName() {
+        Optional<Class<?>> callerClass = stackWalker.walk(frames -> frames.<Class<?>>map(
+                StackWalker.StackFrame::getDeclaringClass).filter(c -> !LogPackage.contains(c)).findFirst());
+        return callerClass.isPresent() ? callerClass.get().getName() : LogPackage.unknownCallerName;
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * @(#) AbstractLoggerTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.jstuff.log.AbstractLogger;
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerFactory;
+
+public class AbstractLoggerTest {
+
+    private static final Instant time = Instant.parse("2025-07-18T02:20:24.123Z");
+
+    @Test
+    public void shouldHoldNameLevelAndClock() {
+        TestLogger logger = new TestLogger("Quokka", Level.INFO, LoggerFactory.systemClock);
+        assertEquals("Quokka", logger.getName());
+        assertEquals(Level.INFO, logger.getLevel());
+        assertSame(LoggerFactory.systemClock, logger.getClock());
+        Clock fixedClock = Clock.fixed(time, ZoneOffset.UTC);
+        logger.setLevel(Level.TRACE);
+        logger.setClock(fixedClock);
+        assertEquals(Level.TRACE, logger.getLevel());
+        assertSame(fixedClock, logger.getClock());
+    }
+
+    @Test
+    public void shouldWriteEnabledLevels() {
+        TestLogger logger = new TestLogger("Quokka", Level.TRACE, LoggerFactory.systemClock);
+        logger.trace("one");
+        logger.debug("two");
+        logger.info("three");
+        logger.warn("four");
+        logger.error("five");
+        assertEquals("TRACE one\nDEBUG two\nINFO three\nWARN four\nERROR five\n", logger.getContents());
+    }
+
+    @Test
+    public void shouldNotWriteDisabledLevels() {
+        TestLogger logger = new TestLogger("Quokka", Level.WARN, LoggerFactory.systemClock);
+        logger.trace("one");
+        logger.debug("two");
+        logger.info("three");
+        logger.warn("four");
+        logger.error("five");
+        logger.log(Level.INFO, "six");
+        logger.log(Level.ERROR, "seven");
+        assertEquals("WARN four\nERROR five\nERROR seven\n", logger.getContents());
+    }
+
+    @Test
+    public void shouldPassTimeAndThrowable() {
+        TestLogger logger = new TestLogger("Quokka", Level.INFO, LoggerFactory.systemClock);
+        Throwable throwable = new RuntimeException("magic");
+        logger.info(time, "hello");
+        logger.error(throwable, "goodbye");
+        logger.error(time, throwable, () -> "farewell");
+        logger.log(time, Level.WARN, () -> "careful");
+        assertEquals("INFO@2025-07-18T02:20:24.123Z hello\nERROR goodbye : magic\n" +
+                "ERROR@2025-07-18T02:20:24.123Z farewell : magic\nWARN@2025-07-18T02:20:24.123Z careful\n",
+                logger.getContents());
+    }
+
+    @Test
+    public void shouldNotInvokeSupplierWhenLevelDisabled() {
+        TestLogger logger = new TestLogger("Quokka", Level.ERROR, LoggerFactory.systemClock);
+        logger.warn(() -> {
+            fail("Should not be called");
+            return null;
+        });
+        logger.log(time, Level.DEBUG, () -> {
+            fail("Should not be called");
+            return null;
+        });
+        assertEquals(0, logger.getContents().length());
+    }
+
+    @Test
+    public void shouldPassEpochNanosTime() {
+        TestLogger logger = new TestLogger("Quokka", Level.INFO, LoggerFactory.systemClock);
+        long epochNanos = time.getEpochSecond() * 1_000_000_000L + time.getNano();
+        logger.infoAt(epochNanos, "hello");
+        logger.debugAt(epochNanos, "ignored");
+        logger.warnAt(epochNanos, () -> "careful");
+        logger.logAt(epochNanos, Level.TRACE, () -> {
+            fail("Should not be called");
+            return null;
+        });
+        assertEquals("INFO#" + epochNanos + " hello\nWARN@2025-07-18T02:20:24.123Z careful\n", logger.getContents());
+    }
+
+    @Test
+    public void shouldTestEnabledUsingThreshold() {
+        TestLogger logger = new TestLogger("Quokka", Level.INFO, LoggerFactory.systemClock);
+        assertFalse(logger.isTraceEnabled());
+        assertFalse(logger.isDebugEnabled());
+        assertTrue(logger.isInfoEnabled());
+        assertTrue(logger.isWarnEnabled());
+        assertTrue(logger.isErrorEnabled());
+        assertFalse(logger.isEnabled(Level.DEBUG));
+        assertTrue(logger.isEnabled(Level.INFO));
+        logger.setLevel(Level.DEBUG);
+        assertTrue(logger.isDebugEnabled());
+        assertTrue(logger.isEnabled(Level.DEBUG));
+        assertFalse(logger.isEnabled(Level.TRACE));
+    }
+
+    @Test
+    public void shouldConsultIsAllowedBeforeFormatting() {
+        TestLogger logger = new TestLogger("Quokka", Level.INFO, LoggerFactory.systemClock) {
+            @Override
+            protected boolean isAllowed(Level level) {
+                return level != Level.WARN;
+            }
+        };
+        Object unformattable = new Object() {
+            @Override
+            public String toString() {
+                fail("Should not be called");
+                return null;
+            }
+        };
+        logger.warn("Value {}", unformattable);
+        logger.warn(() -> {
+            fail("Should not be called");
+            return null;
+        });
+        logger.log(Level.WARN, "Value {}", 1L);
+        logger.info("Value {}", 2L);
+        logger.error(time, "Value {} {}", 'a', "b");
+        assertEquals("INFO Value 2\nERROR@2025-07-18T02:20:24.123Z Value a b\n", logger.getContents());
+    }
+
+    public static class TestLogger extends AbstractLogger {
+
+        private final StringBuilder sb = new StringBuilder();
+
+        public TestLogger(String name, Level level, Clock clock) {
+            super(name, level, clock);
+        }
+
+        @Override
+        protected void write(Level level, long epochNanos, Throwable throwable, Object message) {
+            sb.append(level).append('#').append(epochNanos).append(' ').append(message).append('\n');
+        }
+
+        @Override
+        protected void write(Level level, Instant time, Throwable throwable, Object message) {
+            sb.append(level);
+            if (time != null)
+                sb.append('@').append(time);
+            sb.append(' ').append(message);
+            if (throwable != null)
+                sb.append(" : ").append(throwable.getMessage());
+            sb.append('\n');
+        }
+
+        public String getContents() {
+            return sb.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * @(#) AsyncLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.jstuff.log.AsyncLogger;
+import io.jstuff.log.AsyncLoggerFactory;
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+
+public class AsyncLoggerFactoryTest {
+
+    private static final Clock fixedClock = Clock.fixed(Instant.parse("2025-07-18T02:20:24.123Z"), ZoneOffset.UTC);
+
+    @Test
+    public void shouldOutputEventsWithOriginalTime() {
+        MockLoggerFactory mockLoggerFactory = new MockLoggerFactory();
+        try (AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(mockLoggerFactory)) {
+            AsyncLogger logger = asyncLoggerFactory.getLogger("Platypus", fixedClock);
+            assertEquals("Platypus", logger.getName());
+            assertSame(fixedClock, logger.getClock());
+            logger.info("hello");
+            logger.debug("ignored");
+            logger.error(new RuntimeException("magic"), "goodbye");
+            asyncLoggerFactory.flush();
+            assertEquals("Platypus INFO@2025-07-18T12:20:24.123+10:00 hello\n" +
+                    "Platypus ERROR@2025-07-18T12:20:24.123+10:00 goodbye : magic\n",
+                    ((MockLogger)logger.getLogger()).getContents());
+        }
+    }
+
+    @Test
+    public void shouldEvaluateSupplierInCallingThread() {
+        MockLoggerFactory mockLoggerFactory = new MockLoggerFactory();
+        try (AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(mockLoggerFactory)) {
+            AsyncLogger logger = asyncLoggerFactory.getLogger("Platypus", Level.INFO, fixedClock);
+            Thread caller = Thread.currentThread();
+            logger.info(() -> "same thread = " + (Thread.currentThread() == caller));
+            logger.debug(() -> {
+                fail("Should not be called");
+                return null;
+            });
+            asyncLoggerFactory.flush();
+            assertEquals("Platypus INFO@2025-07-18T12:20:24.123+10:00 same thread = true\n",
+                    ((MockLogger)logger.getLogger()).getContents());
+        }
+    }
+
+    @Test
+    public void shouldOutputRemainingEventsOnClose() {
+        MockLoggerFactory mockLoggerFactory = new MockLoggerFactory();
+        AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(mockLoggerFactory);
+        AsyncLogger logger = asyncLoggerFactory.getLogger("Platypus", fixedClock);
+        for (int i = 0; i < 1000; i++)
+            logger.info(i);
+        asyncLoggerFactory.close();
+        String contents = ((MockLogger)logger.getLogger()).getContents();
+        assertTrue(contents.endsWith("Platypus INFO@2025-07-18T12:20:24.123+10:00 999\n"));
+        assertEquals(1000, contents.split("\n").length);
+        logger.info("after");
+        assertTrue(((MockLogger)logger.getLogger()).getContents().endsWith("after\n"));
+    }
+
+    @Test
+    public void shouldDropNewestEventsWhenFull() throws InterruptedException {
+        BlockingLoggerFactory blockingLoggerFactory = new BlockingLoggerFactory();
+        try (AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(blockingLoggerFactory, 2,
+                AsyncLoggerFactory.OverflowPolicy.DROP_NEWEST)) {
+            AsyncLogger logger = asyncLoggerFactory.getLogger("Echidna", fixedClock);
+            fillQueue(logger, blockingLoggerFactory);
+            logger.info("four");
+            assertEquals(1, asyncLoggerFactory.getDroppedCount());
+            blockingLoggerFactory.release.countDown();
+            asyncLoggerFactory.flush();
+            assertEquals("one\ntwo\nthree\n", blockingLoggerFactory.getMessages());
+        }
+    }
+
+    @Test
+    public void shouldDropOldestEventsWhenFull() throws InterruptedException {
+        BlockingLoggerFactory blockingLoggerFactory = new BlockingLoggerFactory();
+        try (AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(blockingLoggerFactory, 2,
+                AsyncLoggerFactory.OverflowPolicy.DROP_OLDEST)) {
+            AsyncLogger logger = asyncLoggerFactory.getLogger("Echidna", fixedClock);
+            fillQueue(logger, blockingLoggerFactory);
+            logger.info("four");
+            assertEquals(1, asyncLoggerFactory.getDroppedCount());
+            blockingLoggerFactory.release.countDown();
+            asyncLoggerFactory.flush();
+            assertEquals("one\nthree\nfour\n", blockingLoggerFactory.getMessages());
+        }
+    }
+
+    @Test
+    public void shouldOutputSynchronouslyWhenFull() throws InterruptedException {
+        BlockingLoggerFactory blockingLoggerFactory = new BlockingLoggerFactory();
+        try (AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(blockingLoggerFactory, 2,
+                AsyncLoggerFactory.OverflowPolicy.SYNC_FALLBACK)) {
+            AsyncLogger logger = asyncLoggerFactory.getLogger("Echidna", fixedClock);
+            fillQueue(logger, blockingLoggerFactory);
+            logger.info("four");
+            assertEquals(1, asyncLoggerFactory.getSynchronousCount());
+            assertEquals("four\n", blockingLoggerFactory.getMessages());
+            blockingLoggerFactory.release.countDown();
+            asyncLoggerFactory.flush();
+            assertEquals("four\none\ntwo\nthree\n", blockingLoggerFactory.getMessages());
+        }
+    }
+
+    @Test
+    public void shouldCaptureMessageAtTimeOfCall() throws InterruptedException {
+        BlockingLoggerFactory blockingLoggerFactory = new BlockingLoggerFactory();
+        try (AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(blockingLoggerFactory)) {
+            AsyncLogger logger = asyncLoggerFactory.getLogger("Echidna", fixedClock);
+            logger.info("one");
+            assertTrue(blockingLoggerFactory.entered.await(5, TimeUnit.SECONDS));
+            StringBuilder sb = new StringBuilder("two");
+            logger.info(sb);
+            sb.setLength(0);
+            sb.append("changed");
+            blockingLoggerFactory.release.countDown();
+            asyncLoggerFactory.flush();
+            assertEquals("one\ntwo\n", blockingLoggerFactory.getMessages());
+        }
+    }
+
+    @Test
+    public void shouldContinueAfterErrorInLogger() {
+        MockLoggerFactory mockLoggerFactory = new MockLoggerFactory() {
+            @Override
+            public MockLogger getLogger(String name, Level level, Clock clock) {
+                return new MockLogger(name, level, clock) {
+                    @Override
+                    public void info(Instant time, Object message) {
+                        if ("bad".equals(message))
+                            throw new AssertionError("Logger failure");
+                        super.info(time, message);
+                    }
+                };
+            }
+        };
+        try (AsyncLoggerFactory asyncLoggerFactory = new AsyncLoggerFactory(mockLoggerFactory)) {
+            AsyncLogger logger = asyncLoggerFactory.getLogger("Platypus", fixedClock);
+            logger.info("bad");
+            logger.info("good");
+            asyncLoggerFactory.flush();
+            assertEquals("Platypus INFO@2025-07-18T12:20:24.123+10:00 good\n",
+                    ((MockLogger)logger.getLogger()).getContents());
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidCapacity() {
+        LoggerException exception = assertThrows(LoggerException.class,
+                () -> new AsyncLoggerFactory(new MockLoggerFactory(), 0, AsyncLoggerFactory.OverflowPolicy.BLOCK));
+        assertEquals("Capacity must be in the range 1..2^30", exception.getMessage());
+    }
+
+    private static void fillQueue(AsyncLogger logger, BlockingLoggerFactory blockingLoggerFactory)
+            throws InterruptedException {
+        logger.info("one");
+        assertTrue(blockingLoggerFactory.entered.await(5, TimeUnit.SECONDS));
+        logger.info("two");
+        logger.info("three");
+    }
+
+    /**
+     * A {@link MockLoggerFactory} whose loggers block the first time they are called from a thread other than the
+     * test thread, until released.  Messages are recorded in a shared (synchronized) buffer.
+     */
+    private static class BlockingLoggerFactory extends MockLoggerFactory {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final StringBuffer messages = new StringBuffer();
+
+        @Override
+        public MockLogger getLogger(String name, Level level, Clock clock) {
+            return new MockLogger(name, level, clock) {
+                @Override
+                public void info(Instant time, Object message) {
+                    if (entered.getCount() > 0) {
+                        entered.countDown();
+                        try {
+                            release.await();
+                        }
+                        catch (InterruptedException ignore) {
+                        }
+                    }
+                    messages.append(message).append('\n');
+                }
+            };
+        }
+
+        private String getMessages() {
+            return messages.toString();
+        }
+
+    }
+
+}
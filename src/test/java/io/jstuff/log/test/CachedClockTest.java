@@ -0,0 +1,105 @@
+/*
+ * @(#) CachedClockTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.CachedClock;
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.LoggerFactory;
+
+public class CachedClockTest {
+
+    @Test
+    public void shouldReturnSameInstantBetweenUpdates() {
+        Instant instant = Instant.parse("2025-07-18T02:20:24.123Z");
+        try (CachedClock cachedClock = new CachedClock(Clock.fixed(instant, ZoneOffset.UTC), Duration.ofHours(1))) {
+            Instant first = cachedClock.instant();
+            assertEquals(instant, first);
+            assertSame(first, cachedClock.instant());
+            assertEquals(instant.toEpochMilli(), cachedClock.millis());
+            assertEquals(ZoneOffset.UTC, cachedClock.getZone());
+        }
+    }
+
+    @Test
+    public void shouldAdvanceWithSystemClock() throws InterruptedException {
+        try (CachedClock cachedClock = new CachedClock()) {
+            assertEquals(CachedClock.defaultResolution, cachedClock.getResolution());
+            long start = cachedClock.millis();
+            Thread.sleep(50);
+            long elapsed = cachedClock.millis() - start;
+            assertTrue(elapsed > 0);
+            assertTrue(Math.abs(System.currentTimeMillis() - cachedClock.millis()) < 1000);
+        }
+    }
+
+    @Test
+    public void shouldShareTickerWithZoneVariant() {
+        Instant instant = Instant.parse("2025-07-18T02:20:24.123Z");
+        try (CachedClock cachedClock = new CachedClock(Clock.fixed(instant, ZoneOffset.UTC), Duration.ofHours(1))) {
+            ZoneId zone = ZoneId.of("Australia/Sydney");
+            CachedClock zoned = cachedClock.withZone(zone);
+            assertEquals(zone, zoned.getZone());
+            assertSame(cachedClock.instant(), zoned.instant());
+            assertSame(cachedClock, cachedClock.withZone(ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    public void shouldUseUnderlyingClockAfterClose() {
+        Instant instant = Instant.parse("2025-07-18T02:20:24.123Z");
+        CachedClock cachedClock = new CachedClock(Clock.fixed(instant, ZoneOffset.UTC), Duration.ofHours(1));
+        cachedClock.close();
+        assertEquals(instant, cachedClock.instant());
+    }
+
+    @Test
+    public void shouldBeSelectableAsDefaultClock() {
+        try (CachedClock cachedClock = new CachedClock()) {
+            LoggerFactory<MockLogger> loggerFactory = new MockLoggerFactory().withDefaultClock(cachedClock);
+            assertSame(cachedClock, loggerFactory.getDefaultClock());
+            assertSame(cachedClock, loggerFactory.getLogger("Test").getClock());
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidResolution() {
+        LoggerException exception = assertThrows(LoggerException.class, () -> new CachedClock(Duration.ZERO));
+        assertEquals("Resolution must be positive", exception.getMessage());
+    }
+
+}
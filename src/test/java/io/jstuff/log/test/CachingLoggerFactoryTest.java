@@ -0,0 +1,178 @@
+/*
+ * @(#) CachingLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeTrue;
+
+import io.jstuff.log.CachingLoggerFactory;
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.LoggerFactory;
+import io.jstuff.log.NullLoggerFactory;
+
+public class CachingLoggerFactoryTest {
+
+    @Test
+    public void shouldReturnSameLoggerForSameName() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory());
+        MockLogger logger1 = loggerFactory.getLogger("Kookaburra");
+        MockLogger logger2 = loggerFactory.getLogger("Kookaburra");
+        assertSame(logger1, logger2);
+        assertEquals("Kookaburra", logger1.getName());
+        assertEquals(1, loggerFactory.getMissCount());
+        assertEquals(1, loggerFactory.getHitCount());
+        assertEquals(1, loggerFactory.size());
+    }
+
+    @Test
+    public void shouldReturnDifferentLoggersForDifferentLevelOrClock() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory());
+        Clock fixedClock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+        MockLogger logger1 = loggerFactory.getLogger("Kookaburra");
+        MockLogger logger2 = loggerFactory.getLogger("Kookaburra", Level.DEBUG);
+        MockLogger logger3 = loggerFactory.getLogger("Kookaburra", fixedClock);
+        assertNotSame(logger1, logger2);
+        assertNotSame(logger1, logger3);
+        assertNotSame(logger2, logger3);
+        assertEquals(Level.DEBUG, logger2.getLevel());
+        assertSame(fixedClock, logger3.getClock());
+        assertSame(logger2, loggerFactory.getLogger("Kookaburra", Level.DEBUG));
+        assertSame(logger3, loggerFactory.getLogger("Kookaburra", fixedClock));
+        assertEquals(3, loggerFactory.getMissCount());
+        assertEquals(2, loggerFactory.getHitCount());
+        assertEquals(1, loggerFactory.size());
+    }
+
+    @Test
+    public void shouldUseCallerClassNameForDefaultLogger() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory());
+        MockLogger logger = loggerFactory.getLogger();
+        assertEquals("io.jstuff.log.test.CachingLoggerFactoryTest", logger.getName());
+        assertSame(logger, loggerFactory.getLogger(CachingLoggerFactoryTest.class));
+        assertSame(LoggerFactory.systemClock, logger.getClock());
+    }
+
+    @Test
+    public void shouldEvictOldestEntryWhenBounded() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory(), 2,
+                false);
+        MockLogger logger1 = loggerFactory.getLogger("Magpie");
+        MockLogger logger2 = loggerFactory.getLogger("Currawong");
+        loggerFactory.getLogger("Butcherbird");
+        assertEquals(2, loggerFactory.size());
+        assertSame(logger2, loggerFactory.getLogger("Currawong"));
+        assertNotSame(logger1, loggerFactory.getLogger("Magpie"));
+    }
+
+    @Test
+    public void shouldRetainMostRecentNamesWhenBounded() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory(), 4,
+                false);
+        MockLogger[] loggers = new MockLogger[100];
+        for (int i = 0; i < loggers.length; i++) {
+            loggers[i] = loggerFactory.getLogger("Bird" + i);
+            loggerFactory.getLogger("Bird" + i, Level.DEBUG);
+        }
+        assertEquals(4, loggerFactory.size());
+        for (int i = 96; i < 100; i++)
+            assertSame(loggers[i], loggerFactory.getLogger("Bird" + i));
+        assertNotSame(loggers[95], loggerFactory.getLogger("Bird95"));
+        assertEquals(4, loggerFactory.size());
+    }
+
+    @Test
+    public void shouldReturnSameLoggerWhenUsingWeakReferences() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory(), 0,
+                true);
+        MockLogger logger = loggerFactory.getLogger("Pardalote");
+        assertSame(logger, loggerFactory.getLogger("Pardalote"));
+        assertEquals(1, loggerFactory.getHitCount());
+    }
+
+    @Test
+    public void shouldClearCache() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory());
+        MockLogger logger = loggerFactory.getLogger("Wren");
+        loggerFactory.clear();
+        assertEquals(0, loggerFactory.size());
+        assertNotSame(logger, loggerFactory.getLogger("Wren"));
+    }
+
+    @Test
+    public void shouldPassInvalidNameToWrappedFactory() {
+        CachingLoggerFactory<?> loggerFactory = new CachingLoggerFactory<>(new NullLoggerFactory());
+        //noinspection DataFlowIssue
+        LoggerException exception = assertThrows(LoggerException.class, () -> loggerFactory.getLogger((String)null));
+        assertEquals("Logger name must not be null", exception.getMessage());
+        exception = assertThrows(LoggerException.class, () -> loggerFactory.getLogger(""));
+        assertEquals("Logger name must not be empty", exception.getMessage());
+        assertEquals(0, loggerFactory.size());
+    }
+
+    @Test
+    public void shouldValidateNameWhenWrappedFactoryDoesNot() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory(), 4, true);
+        //noinspection DataFlowIssue
+        LoggerException exception = assertThrows(LoggerException.class, () -> loggerFactory.getLogger((String)null));
+        assertEquals("Logger name must not be null", exception.getMessage());
+        assertEquals(0, loggerFactory.size());
+    }
+
+    @Test
+    public void shouldRemoveExpungedNamesFromEvictionOrder() {
+        CachingLoggerFactory<MockLogger> loggerFactory = new CachingLoggerFactory<>(new MockLoggerFactory(), 2, true);
+        WeakReference<MockLogger> reference = new WeakReference<>(loggerFactory.getLogger("Currawong"));
+        for (int i = 0; i < 20 && reference.get() != null; i++)
+            System.gc();
+        assumeTrue("Logger not garbage collected", reference.get() == null);
+        MockLogger butcherbird = loggerFactory.getLogger("Butcherbird");
+        MockLogger currawong = loggerFactory.getLogger("Currawong");
+        MockLogger magpie = loggerFactory.getLogger("Magpie");
+        assertEquals(2, loggerFactory.size());
+        // the eldest name is now Butcherbird - a stale entry for Currawong must not cause it to be evicted instead
+        assertSame(currawong, loggerFactory.getLogger("Currawong"));
+        assertSame(magpie, loggerFactory.getLogger("Magpie"));
+        assertNotSame(butcherbird, loggerFactory.getLogger("Butcherbird"));
+    }
+
+    @Test
+    public void shouldRejectNegativeMaximumSize() {
+        LoggerException exception = assertThrows(LoggerException.class,
+                () -> new CachingLoggerFactory<>(new MockLoggerFactory(), -1, false));
+        assertEquals("Maximum size must not be negative", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * @(#) CallerLocatorTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import io.jstuff.log.LoggerFactory;
+
+/**
+ * Tests for the Java 9 version of {@code CallerLocator}.  The Surefire tests run against the compiled classes
+ * directory, not the multi-release JAR, so the versioned class would otherwise never be exercised; these tests load the
+ * logging package in an isolated {@link ClassLoader} with {@code META-INF/versions/9} ahead of the base classes (or
+ * from the JAR itself, when the tests are run against the packaged artifact).
+ */
+public class CallerLocatorTest {
+
+    private static final String qualifiedClassName = "io.jstuff.log.test.CallerLocatorTest";
+
+    private ClassLoader versionedClassLoader;
+
+    @Before
+    public void createVersionedClassLoader() throws Exception {
+        assumeFalse("StackWalker requires Java 9", System.getProperty("java.specification.version").startsWith("1."));
+        URL location = LoggerFactory.class.getProtectionDomain().getCodeSource().getLocation();
+        if (location.getPath().endsWith(".jar"))
+            versionedClassLoader = new URLClassLoader(new URL[] { location }, null);
+        else {
+            File versionDirectory = new File(new File(location.toURI()), "META-INF/versions/9");
+            assumeTrue("Versioned classes not compiled", versionDirectory.isDirectory());
+            versionedClassLoader = new URLClassLoader(new URL[] { versionDirectory.toURI().toURL(), location }, null);
+        }
+    }
+
+    @Test
+    public void shouldLoadStackWalkerVersion() throws Exception {
+        Class<?> callerLocatorClass = versionedClassLoader.loadClass("io.jstuff.log.CallerLocator");
+        assertEquals("java.lang.StackWalker", callerLocatorClass.getDeclaredField("stackWalker").getType().getName());
+    }
+
+    @Test
+    public void shouldGetCallerNameUsingStackWalker() throws Exception {
+        Class<?> callerLocatorClass = versionedClassLoader.loadClass("io.jstuff.log.CallerLocator");
+        Method callerName = callerLocatorClass.getDeclaredMethod("callerName");
+        callerName.setAccessible(true);
+        assertEquals(qualifiedClassName, callerName.invoke(null));
+    }
+
+    @Test
+    public void shouldGetCallerInfoUsingStackWalker() throws Exception {
+        Class<?> loggerFactoryClass = versionedClassLoader.loadClass("io.jstuff.log.LoggerFactory");
+        StackTraceElement callerInfo = invokeCallerInfo(loggerFactoryClass.getMethod("callerInfo"));
+        assertNotNull(callerInfo);
+        assertEquals(qualifiedClassName, callerInfo.getClassName());
+        assertEquals("shouldGetCallerInfoUsingStackWalker", callerInfo.getMethodName());
+    }
+
+    private static StackTraceElement invokeCallerInfo(Method callerInfo) throws Exception {
+        return (StackTraceElement)callerInfo.invoke(null);
+    }
+
+}
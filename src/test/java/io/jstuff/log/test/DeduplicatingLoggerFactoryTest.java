@@ -0,0 +1,136 @@
+/*
+ * @(#) DeduplicatingLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.DeduplicatingLogger;
+import io.jstuff.log.DeduplicatingLoggerFactory;
+import io.jstuff.log.LoggerException;
+
+public class DeduplicatingLoggerFactoryTest {
+
+    private static final Instant startTime = Instant.parse("2025-07-18T02:20:24.123Z");
+    private static final Clock fixedClock = Clock.fixed(startTime, ZoneOffset.UTC);
+
+    @Test
+    public void shouldCollapseRepeatedEvents() {
+        DeduplicatingLoggerFactory loggerFactory = new DeduplicatingLoggerFactory(new MockLoggerFactory(),
+                Duration.ofSeconds(10));
+        DeduplicatingLogger logger = loggerFactory.getLogger("Quokka", fixedClock);
+        for (int i = 0; i < 1000; i++)
+            logger.error(new IOException("Retry " + i), "Connection failed");
+        logger.info("Something else");
+        logger.flush();
+        assertEquals("Quokka ERROR Connection failed : Retry 0\n" +
+                "Quokka INFO Something else\n" +
+                "Quokka ERROR Connection failed (repeated 999 times)\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldDistinguishThrowableClassAndLevel() {
+        DeduplicatingLoggerFactory loggerFactory = new DeduplicatingLoggerFactory(new MockLoggerFactory(),
+                Duration.ofSeconds(10));
+        DeduplicatingLogger logger = loggerFactory.getLogger("Quokka", fixedClock);
+        logger.error(new IOException("one"), "Failed");
+        logger.error(new IllegalStateException("two"), "Failed");
+        logger.error("Failed");
+        logger.warn("Failed");
+        logger.warn("Failed");
+        logger.flush();
+        assertEquals("Quokka ERROR Failed : one\n" +
+                "Quokka ERROR Failed : two\n" +
+                "Quokka ERROR Failed\n" +
+                "Quokka WARN Failed\n" +
+                "Quokka WARN Failed (repeated 1 time)\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldStartNewWindowWhenWindowCloses() {
+        DeduplicatingLoggerFactory loggerFactory = new DeduplicatingLoggerFactory(new MockLoggerFactory(),
+                Duration.ofSeconds(10), 1);
+        DeduplicatingLogger logger = loggerFactory.getLogger("Quokka", fixedClock);
+        logger.warn(startTime, "Disk full");
+        logger.warn(startTime.plusSeconds(5), "Disk full");
+        logger.warn(startTime.plusSeconds(9), "Disk full");
+        logger.warn(startTime.plusSeconds(10), "Disk full");
+        logger.flush();
+        assertEquals("Quokka WARN@2025-07-18T12:20:24.123+10:00 Disk full\n" +
+                "Quokka WARN Disk full (repeated 2 times)\n" +
+                "Quokka WARN@2025-07-18T12:20:34.123+10:00 Disk full\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldRejectInvalidWindow() {
+        LoggerException exception = assertThrows(LoggerException.class,
+                () -> new DeduplicatingLoggerFactory(new MockLoggerFactory(), Duration.ZERO));
+        assertEquals("Window must be positive", exception.getMessage());
+        exception = assertThrows(LoggerException.class,
+                () -> new DeduplicatingLoggerFactory(new MockLoggerFactory(), Duration.ofNanos(999_999)));
+        assertEquals("Window must be at least 1 millisecond", exception.getMessage());
+    }
+
+    @Test
+    public void shouldOutputRepeatCountsOnClose() {
+        DeduplicatingLoggerFactory loggerFactory = new DeduplicatingLoggerFactory(new MockLoggerFactory(),
+                Duration.ofSeconds(10));
+        DeduplicatingLogger logger = loggerFactory.getLogger("Quokka", fixedClock);
+        logger.warn("Disk full");
+        logger.warn("Disk full");
+        logger.warn("Disk full");
+        loggerFactory.close();
+        assertEquals("Quokka WARN Disk full\n" +
+                "Quokka WARN Disk full (repeated 2 times)\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldOutputRepeatCountsWhenWindowClosesWithoutFurtherEvents() throws InterruptedException {
+        DeduplicatingLoggerFactory loggerFactory = new DeduplicatingLoggerFactory(new MockLoggerFactory(),
+                Duration.ofMillis(20));
+        DeduplicatingLogger logger = loggerFactory.getLogger("Quokka");
+        logger.warn("Disk full");
+        logger.warn("Disk full");
+        MockLogger mockLogger = (MockLogger)logger.getLogger();
+        for (int i = 0; i < 500 && !mockLogger.getContents().contains("repeated"); i++)
+            Thread.sleep(10);
+        assertTrue(mockLogger.getContents().endsWith("Quokka WARN Disk full (repeated 1 time)\n"));
+        loggerFactory.close();
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * @(#) EventEncoderTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.EventEncoder;
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+
+public class EventEncoderTest {
+
+    private static final long epochNanos = EventEncoder.toEpochNanos(Instant.parse("2025-07-18T02:20:24.123Z"));
+
+    @Test
+    public void shouldEncodeEvent() {
+        EventEncoder encoder = new EventEncoder();
+        encoder.encode("Wombat", Level.INFO, epochNanos, null, "Hello");
+        assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Hello\n", encoder.toString());
+        assertEquals(43, encoder.getLength());
+    }
+
+    @Test
+    public void shouldEncodeTimeWithNanosecondPrecisionWhenRequired() {
+        EventEncoder encoder = new EventEncoder();
+        encoder.encode("Wombat", Level.DEBUG, epochNanos + 456_789, null, 27);
+        assertEquals("2025-07-18T02:20:24.123456789Z DEBUG Wombat 27\n", encoder.toString());
+        encoder.encode("Wombat", Level.DEBUG, EventEncoder.toEpochNanos(Instant.parse("1969-12-31T23:59:59Z")), null,
+                "x");
+        assertEquals("1969-12-31T23:59:59.000Z DEBUG Wombat x\n", encoder.toString());
+        encoder.encode("Wombat", Level.DEBUG, EventEncoder.toEpochNanos(Instant.parse("2024-02-29T00:00:00Z")), null,
+                "leap");
+        assertEquals("2024-02-29T00:00:00.000Z DEBUG Wombat leap\n", encoder.toString());
+    }
+
+    @Test
+    public void shouldEncodeLimitsOfTimeRange() {
+        EventEncoder encoder = new EventEncoder();
+        encoder.encode("Wombat", Level.INFO, Long.MAX_VALUE, null, "max");
+        assertEquals(Instant.ofEpochSecond(0, Long.MAX_VALUE) + " INFO Wombat max\n", encoder.toString());
+        encoder.encode("Wombat", Level.INFO, Long.MIN_VALUE, null, "min");
+        assertEquals(Instant.ofEpochSecond(0, Long.MIN_VALUE) + " INFO Wombat min\n", encoder.toString());
+    }
+
+    @Test
+    public void shouldNotRetainOversizedBuffer() {
+        EventEncoder encoder = new EventEncoder();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+            sb.append("large ");
+        encoder.encode("Wombat", Level.INFO, epochNanos, null, sb);
+        assertEquals(43 + 12000 - 5, encoder.getLength());
+        assertTrue(encoder.getBuffer().length > EventEncoder.maxRetainedCapacity);
+        encoder.encode("Wombat", Level.INFO, epochNanos, null, "Hello");
+        assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Hello\n", encoder.toString());
+        assertEquals(EventEncoder.defaultInitialCapacity, encoder.getBuffer().length);
+    }
+
+    @Test
+    public void shouldEncodeNonASCIICharactersAsUTF8() {
+        EventEncoder encoder = new EventEncoder(8);
+        String message = "café € 😀";
+        encoder.encode("Wombat", Level.WARN, epochNanos, null, message);
+        String expected = "2025-07-18T02:20:24.123Z WARN Wombat " + message + "\n";
+        assertEquals(expected, encoder.toString());
+        assertEquals(expected.getBytes(StandardCharsets.UTF_8).length, encoder.getLength());
+    }
+
+    @Test
+    public void shouldEncodeThrowable() {
+        EventEncoder encoder = new EventEncoder();
+        encoder.encode("Wombat", Level.ERROR, epochNanos, new RuntimeException("magic"), "failure");
+        String text = encoder.toString();
+        assertTrue(text.startsWith("2025-07-18T02:20:24.123Z ERROR Wombat failure\njava.lang.RuntimeException: magic"));
+        assertTrue(text.contains("at io.jstuff.log.test.EventEncoderTest.shouldEncodeThrowable"));
+    }
+
+    @Test
+    public void shouldCopyToByteBufferAndOutputStream() throws IOException {
+        EventEncoder encoder = new EventEncoder();
+        encoder.encode("Wombat", Level.INFO, epochNanos, null, "Hello");
+        ByteBuffer byteBuffer = ByteBuffer.allocate(100);
+        encoder.copyTo(byteBuffer);
+        assertEquals(43, byteBuffer.position());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        encoder.writeTo(outputStream);
+        assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Hello\n", outputStream.toString("UTF-8"));
+    }
+
+    @Test(expected = LoggerException.class)
+    public void shouldRejectInvalidCapacity() {
+        new EventEncoder(0);
+    }
+
+}
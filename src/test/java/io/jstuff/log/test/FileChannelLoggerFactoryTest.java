@@ -0,0 +1,168 @@
+/*
+ * @(#) FileChannelLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.FileChannelLogger;
+import io.jstuff.log.FileChannelLoggerFactory;
+import io.jstuff.log.LoggerException;
+
+public class FileChannelLoggerFactoryTest {
+
+    private static final Clock fixedClock = Clock.fixed(Instant.parse("2025-07-18T02:20:24.123Z"), ZoneOffset.UTC);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldWriteEventsToFileOnFlush() throws IOException {
+        Path path = temporaryFolder.getRoot().toPath().resolve("test.log");
+        FileChannelLoggerFactory loggerFactory = new FileChannelLoggerFactory(path);
+        assertEquals(path, loggerFactory.getPath());
+        FileChannelLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        logger.info("Hello");
+        logger.debug("hidden");
+        logger.warn(Instant.parse("2025-07-18T02:20:25Z"), "explicit");
+        loggerFactory.flush();
+        assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Hello\n2025-07-18T02:20:25.000Z WARN Wombat explicit\n",
+                new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        logger.infoAt(1_752_805_224_123_456_789L, "nanos");
+        loggerFactory.close();
+        assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Hello\n2025-07-18T02:20:25.000Z WARN Wombat explicit\n" +
+                "2025-07-18T02:20:24.123456789Z INFO Wombat nanos\n",
+                new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        logger.info("discarded");
+        loggerFactory.flush();
+        assertNull(loggerFactory.getLastException());
+    }
+
+    @Test
+    public void shouldAppendToExistingFile() throws IOException {
+        Path path = temporaryFolder.getRoot().toPath().resolve("test.log");
+        Files.write(path, "existing\n".getBytes(StandardCharsets.UTF_8));
+        FileChannelLoggerFactory loggerFactory = new FileChannelLoggerFactory(path);
+        loggerFactory.getLogger("Wombat", fixedClock).info("appended");
+        loggerFactory.close();
+        assertEquals("existing\n2025-07-18T02:20:24.123Z INFO Wombat appended\n",
+                new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldWriteEventsFromMultipleThreadsAwaitingCommit() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("test.log");
+        FileChannelLoggerFactory loggerFactory = new FileChannelLoggerFactory(path, 4096, Duration.ofMillis(10), true);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            FileChannelLogger logger = loggerFactory.getLogger("Thread" + i, fixedClock);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 250; j++)
+                    logger.info("Event {}", j);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(1000, lines.size());
+        for (String line : lines)
+            assertTrue(line.matches("2025-07-18T02:20:24\\.123Z INFO Thread[0-3] Event [0-9]+"));
+        loggerFactory.close();
+    }
+
+    @Test
+    public void shouldWaitForSpaceWhenCapacityReached() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("test.log");
+        FileChannelLoggerFactory loggerFactory = new FileChannelLoggerFactory(path, 4096, Duration.ofMillis(10), false,
+                2);
+        assertEquals(2, loggerFactory.getCapacity());
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            FileChannelLogger logger = loggerFactory.getLogger("Thread" + i, fixedClock);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++)
+                    logger.info("Event {}", j);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        loggerFactory.close();
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(2000, lines.size());
+        int[] next = new int[threads.length];
+        for (String line : lines) {
+            assertTrue(line.matches("2025-07-18T02:20:24\\.123Z INFO Thread[0-3] Event [0-9]+"));
+            int thread = line.charAt(36) - '0';
+            assertEquals("2025-07-18T02:20:24.123Z INFO Thread" + thread + " Event " + next[thread]++, line);
+        }
+    }
+
+    @Test
+    public void shouldWriteOnlyCompleteEventsWhenClosedWhileLogging() throws Exception {
+        Path path = temporaryFolder.getRoot().toPath().resolve("test.log");
+        FileChannelLoggerFactory loggerFactory = new FileChannelLoggerFactory(path, 4096, Duration.ofMillis(10), true,
+                4);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            FileChannelLogger logger = loggerFactory.getLogger("Thread" + i, fixedClock);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++)
+                    logger.info("Event {}", j);
+            });
+            threads[i].start();
+        }
+        loggerFactory.close();
+        for (Thread thread : threads)
+            thread.join();
+        int[] next = new int[threads.length];
+        for (String line : Files.readAllLines(path)) {
+            int thread = line.charAt(36) - '0';
+            assertEquals("2025-07-18T02:20:24.123Z INFO Thread" + thread + " Event " + next[thread]++, line);
+        }
+    }
+
+    @Test(expected = LoggerException.class)
+    public void shouldRejectInvalidCommitBytes() {
+        new FileChannelLoggerFactory(temporaryFolder.getRoot().toPath().resolve("test.log"), 0, Duration.ZERO, false);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * @(#) FlightRecorderLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import io.jstuff.log.FlightRecorderLogger;
+import io.jstuff.log.FlightRecorderLoggerFactory;
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+
+public class FlightRecorderLoggerFactoryTest {
+
+    private static final Clock fixedClock = Clock.fixed(Instant.parse("2025-07-18T02:20:24.123Z"), ZoneOffset.UTC);
+
+    @Test
+    public void shouldOutputEventsAtLevelImmediately() {
+        FlightRecorderLoggerFactory loggerFactory = new FlightRecorderLoggerFactory(new MockLoggerFactory());
+        FlightRecorderLogger logger = loggerFactory.getLogger("Wombat", Level.INFO, fixedClock);
+        assertEquals(Level.INFO, logger.getLevel());
+        assertEquals(Level.TRACE, logger.getLogger().getLevel());
+        logger.debug("hidden");
+        logger.info("visible");
+        assertEquals("Wombat INFO visible\n", ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldDumpRecordedEventsWithOriginalTimeOnError() {
+        FlightRecorderLoggerFactory loggerFactory = new FlightRecorderLoggerFactory(new MockLoggerFactory());
+        FlightRecorderLogger logger = loggerFactory.getLogger("Wombat", Level.INFO, fixedClock);
+        logger.debug("first");
+        logger.info("second");
+        logger.trace("Value {}", 3);
+        logger.error(new RuntimeException("magic"), "failure");
+        assertEquals("Wombat INFO second\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123+10:00 first\n" +
+                "Wombat TRACE@2025-07-18T12:20:24.123+10:00 Value 3\n" +
+                "Wombat ERROR failure : magic\n", ((MockLogger)logger.getLogger()).getContents());
+        logger.debug("third");
+        logger.error("again");
+        assertEquals("Wombat INFO second\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123+10:00 first\n" +
+                "Wombat TRACE@2025-07-18T12:20:24.123+10:00 Value 3\n" +
+                "Wombat ERROR failure : magic\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123+10:00 third\n" +
+                "Wombat ERROR again\n", ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldDumpEventsFromAllLoggersOnDemand() {
+        FlightRecorderLoggerFactory loggerFactory = new FlightRecorderLoggerFactory(new MockLoggerFactory(), 16, false);
+        FlightRecorderLogger logger1 = loggerFactory.getLogger("Wombat", Level.WARN, fixedClock);
+        FlightRecorderLogger logger2 = loggerFactory.getLogger("Numbat", Level.WARN, fixedClock);
+        logger1.info("one");
+        logger2.debugAt(1_752_805_224_123_456_789L, "two");
+        logger1.error("three");
+        assertEquals("Wombat ERROR three\n", ((MockLogger)logger1.getLogger()).getContents());
+        assertEquals("", ((MockLogger)logger2.getLogger()).getContents());
+        loggerFactory.dump();
+        assertEquals("Wombat ERROR three\nWombat INFO@2025-07-18T12:20:24.123+10:00 one\n",
+                ((MockLogger)logger1.getLogger()).getContents());
+        assertEquals("Numbat DEBUG@2025-07-18T12:20:24.123456789+10:00 two\n",
+                ((MockLogger)logger2.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldRetainOnlyMostRecentEvents() {
+        FlightRecorderLoggerFactory loggerFactory = new FlightRecorderLoggerFactory(new MockLoggerFactory(), 3, false);
+        assertEquals(4, loggerFactory.getCapacity());
+        FlightRecorderLogger logger = loggerFactory.getLogger("Wombat", Level.INFO, fixedClock);
+        for (int i = 0; i < 10; i++)
+            logger.debug("Event {}", i);
+        loggerFactory.dump();
+        assertEquals("Wombat DEBUG@2025-07-18T12:20:24.123+10:00 Event 6\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123+10:00 Event 7\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123+10:00 Event 8\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123+10:00 Event 9\n", ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldChangeOutputLevel() {
+        FlightRecorderLoggerFactory loggerFactory = new FlightRecorderLoggerFactory(new MockLoggerFactory());
+        FlightRecorderLogger logger = loggerFactory.getLogger("Wombat", Level.INFO, fixedClock);
+        logger.setLevel(Level.DEBUG);
+        assertSame(Level.DEBUG, logger.getLevel());
+        logger.debug("visible");
+        assertEquals("Wombat DEBUG visible\n", ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldMergeEventsFromStripesInTimeOrder() throws InterruptedException {
+        FlightRecorderLoggerFactory loggerFactory = new FlightRecorderLoggerFactory(new MockLoggerFactory(), 16, 2,
+                false);
+        assertEquals(2, loggerFactory.getStripes());
+        FlightRecorderLogger logger = loggerFactory.getLogger("Wombat", Level.INFO, fixedClock);
+        logger.debugAt(1_752_805_224_123_000_002L, "two");
+        Thread thread = new Thread(() -> logger.debugAt(1_752_805_224_123_000_001L, "one"));
+        thread.start();
+        thread.join();
+        logger.debugAt(1_752_805_224_123_000_003L, "three");
+        loggerFactory.dump();
+        assertEquals("Wombat DEBUG@2025-07-18T12:20:24.123000001+10:00 one\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123000002+10:00 two\n" +
+                "Wombat DEBUG@2025-07-18T12:20:24.123000003+10:00 three\n",
+                ((MockLogger)logger.getLogger()).getContents());
+        loggerFactory.dump();
+        assertEquals(3, ((MockLogger)logger.getLogger()).getContents().split("\n").length);
+    }
+
+    @Test(expected = LoggerException.class)
+    public void shouldRejectInvalidNumberOfStripes() {
+        new FlightRecorderLoggerFactory(new MockLoggerFactory(), 16, 0, true);
+    }
+
+    @Test(expected = LoggerException.class)
+    public void shouldRejectInvalidCapacity() {
+        new FlightRecorderLoggerFactory(new MockLoggerFactory(), 0, true);
+    }
+
+}
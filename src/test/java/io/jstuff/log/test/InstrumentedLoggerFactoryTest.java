@@ -0,0 +1,117 @@
+/*
+ * @(#) InstrumentedLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.util.Map;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.jstuff.log.InstrumentedLogger;
+import io.jstuff.log.InstrumentedLoggerFactory;
+import io.jstuff.log.Level;
+
+public class InstrumentedLoggerFactoryTest {
+
+    @Test
+    public void shouldCountEmittedAndSuppressedCalls() {
+        InstrumentedLoggerFactory<MockLogger> loggerFactory = new InstrumentedLoggerFactory<>(new MockLoggerFactory());
+        InstrumentedLogger logger = loggerFactory.getLogger("Numbat", Level.INFO);
+        logger.info("one");
+        logger.info(() -> "two");
+        logger.debug("three");
+        logger.debug(() -> {
+            fail("Should not be called");
+            return null;
+        });
+        logger.debug("Value {}", 3);
+        logger.warn("Value {}", 4);
+        logger.error(new RuntimeException("magic"), "five");
+        logger.log(Level.TRACE, "six");
+        InstrumentedLoggerFactory.Snapshot snapshot = loggerFactory.snapshot("Numbat");
+        assertEquals(2, snapshot.getEmitted(Level.INFO));
+        assertEquals(0, snapshot.getSuppressed(Level.INFO));
+        assertEquals(3, snapshot.getSuppressed(Level.DEBUG));
+        assertEquals(1, snapshot.getEmitted(Level.WARN));
+        assertEquals(1, snapshot.getEmitted(Level.ERROR));
+        assertEquals(1, snapshot.getSuppressed(Level.TRACE));
+        assertEquals(4, snapshot.getTotalEmitted());
+        assertEquals(4, snapshot.getTotalSuppressed());
+        assertEquals("Numbat INFO one\nNumbat INFO two\nNumbat WARN Value 4\nNumbat ERROR five : magic\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldNotCountLevelTestsAsSuppressedCalls() {
+        InstrumentedLoggerFactory<MockLogger> loggerFactory = new InstrumentedLoggerFactory<>(new MockLoggerFactory());
+        InstrumentedLogger logger = loggerFactory.getLogger("Numbat", Level.INFO);
+        assertFalse(logger.isDebugEnabled());
+        assertFalse(logger.isEnabled(Level.TRACE));
+        assertTrue(logger.isInfoEnabled());
+        assertEquals(0, loggerFactory.snapshot("Numbat").getTotalSuppressed());
+        if (logger.isDebugEnabled())
+            logger.debug("guarded");
+        logger.debug("unguarded");
+        logger.atDebug().add("x", 1).emit();
+        logger.atInfo().add("y", 2).emit();
+        InstrumentedLoggerFactory.Snapshot snapshot = loggerFactory.snapshot("Numbat");
+        assertEquals(2, snapshot.getSuppressed(Level.DEBUG));
+        assertEquals(1, snapshot.getEmitted(Level.INFO));
+        assertEquals("Numbat INFO y=2\n", ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldFollowLevelOfWrappedLogger() {
+        InstrumentedLoggerFactory<MockLogger> loggerFactory = new InstrumentedLoggerFactory<>(new MockLoggerFactory());
+        InstrumentedLogger logger = loggerFactory.getLogger("Numbat", Level.INFO);
+        logger.setLevel(Level.DEBUG);
+        assertEquals(Level.DEBUG, logger.getLevel());
+        assertEquals(Level.DEBUG, logger.getLogger().getLevel());
+        logger.debug("now visible");
+        assertEquals(1, loggerFactory.snapshot("Numbat").getEmitted(Level.DEBUG));
+    }
+
+    @Test
+    public void shouldShareCountersByNameAndReset() {
+        InstrumentedLoggerFactory<MockLogger> loggerFactory = new InstrumentedLoggerFactory<>(new MockLoggerFactory());
+        loggerFactory.getLogger("Numbat").info("one");
+        loggerFactory.getLogger("Numbat").info("two");
+        loggerFactory.getLogger("Bandicoot").warn("three");
+        Map<String, InstrumentedLoggerFactory.Snapshot> snapshots = loggerFactory.snapshot();
+        assertEquals(2, snapshots.size());
+        assertEquals(2, snapshots.get("Numbat").getEmitted(Level.INFO));
+        assertEquals("Bandicoot TRACE=0/0 DEBUG=0/0 INFO=0/0 WARN=1/0 ERROR=0/0",
+                snapshots.get("Bandicoot").toString());
+        assertNull(loggerFactory.snapshot("Wallaby"));
+        loggerFactory.reset();
+        assertEquals(0, loggerFactory.snapshot("Numbat").getTotalEmitted());
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * @(#) LevelRegistryLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import io.jstuff.log.CachingLoggerFactory;
+import io.jstuff.log.Level;
+import io.jstuff.log.LevelRegistry;
+import io.jstuff.log.LevelRegistryLoggerFactory;
+
+public class LevelRegistryLoggerFactoryTest {
+
+    @Test
+    public void shouldCreateLoggersWithConfiguredLevel() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        levelRegistry.setLevel("com.example", Level.DEBUG);
+        LevelRegistryLoggerFactory<MockLogger> loggerFactory =
+                new LevelRegistryLoggerFactory<>(new MockLoggerFactory(), levelRegistry);
+        MockLogger logger1 = loggerFactory.getLogger("com.example.Thing");
+        MockLogger logger2 = loggerFactory.getLogger("org.example.Thing", Level.WARN);
+        assertSame(Level.DEBUG, logger1.getLevel());
+        assertSame(Level.WARN, logger2.getLevel());
+        levelRegistry.setLevel("org", Level.TRACE);
+        assertSame(Level.TRACE, logger2.getLevel());
+        levelRegistry.setLevel("org", null);
+        assertSame(Level.WARN, logger2.getLevel());
+    }
+
+    @Test
+    public void shouldUseRootLevelAsDefault() {
+        LevelRegistryLoggerFactory<MockLogger> loggerFactory =
+                new LevelRegistryLoggerFactory<>(new MockLoggerFactory(), new LevelRegistry());
+        assertSame(Level.INFO, loggerFactory.getDefaultLevel());
+        loggerFactory.getLevelRegistry().setRootLevel(Level.ERROR);
+        assertSame(Level.ERROR, loggerFactory.getDefaultLevel());
+        assertSame(Level.ERROR, loggerFactory.getLogger("Thing").getLevel());
+    }
+
+    @Test
+    public void shouldRegisterCachedLoggerOnlyOnce() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        LevelRegistryLoggerFactory<MockLogger> loggerFactory =
+                new LevelRegistryLoggerFactory<>(new CachingLoggerFactory<>(new MockLoggerFactory()), levelRegistry);
+        MockLogger logger = loggerFactory.getLogger("com.example.Thing");
+        for (int i = 0; i < 10; i++)
+            assertSame(logger, loggerFactory.getLogger("com.example.Thing"));
+        assertEquals(1, levelRegistry.getRegisteredCount());
+        levelRegistry.setLevel("com.example", Level.DEBUG);
+        assertSame(Level.DEBUG, logger.getLevel());
+        assertSame(logger, loggerFactory.getLogger("com.example.Thing"));
+        levelRegistry.setRootLevel(Level.WARN);
+        assertSame(logger, loggerFactory.getLogger("com.example.Thing"));
+        assertSame(logger, loggerFactory.getLogger("com.example.Thing", Level.ERROR));
+        assertEquals(1, levelRegistry.getRegisteredCount());
+        assertSame(Level.DEBUG, logger.getLevel());
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * @(#) LevelRegistryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import io.jstuff.log.LevelRegistry;
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.LoggerName;
+
+public class LevelRegistryTest {
+
+    @Test
+    public void shouldResolveLongestMatchingPrefix() {
+        LevelRegistry levelRegistry = new LevelRegistry(Level.WARN);
+        levelRegistry.setLevel("com.example", Level.INFO);
+        levelRegistry.setLevel("com.example.db", Level.DEBUG);
+        assertSame(Level.WARN, levelRegistry.getLevel("org.example.Thing"));
+        assertSame(Level.WARN, levelRegistry.getLevel("com"));
+        assertSame(Level.INFO, levelRegistry.getLevel("com.example"));
+        assertSame(Level.INFO, levelRegistry.getLevel("com.example.dbx.Thing"));
+        assertSame(Level.DEBUG, levelRegistry.getLevel("com.example.db"));
+        assertSame(Level.DEBUG, levelRegistry.getLevel("com.example.db.Connection"));
+    }
+
+    @Test
+    public void shouldResolveStringNameAsLoggerName() {
+        LevelRegistry levelRegistry = new LevelRegistry(Level.WARN);
+        levelRegistry.setLevel("com.example", Level.INFO);
+        levelRegistry.setLevel(".hidden", Level.DEBUG);
+        levelRegistry.setLevel("a..b", Level.ERROR);
+        levelRegistry.setLevel("trailing.", Level.TRACE);
+        for (String name : new String[] { "com.example.db.Connection", "com.examplex", ".hidden", ".hidden.Thing",
+                "a..b", "a..b.Thing", "a.b", "trailing", "trailing.", "trailing..x", "." })
+            assertSame(name, levelRegistry.getLevel(LoggerName.of(name)), levelRegistry.getLevel(name));
+        LoggerException exception = assertThrows(LoggerException.class, () -> levelRegistry.getLevel((String)null));
+        assertEquals("Logger name must not be null", exception.getMessage());
+        exception = assertThrows(LoggerException.class, () -> levelRegistry.getLevel("café"));
+        assertEquals("Illegal character in Logger name", exception.getMessage());
+    }
+
+    @Test
+    public void shouldReturnNullWhenNoLevelConfigured() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        assertNull(levelRegistry.getRootLevel());
+        assertNull(levelRegistry.getLevel("com.example.Thing"));
+        levelRegistry.setLevel("com.example", Level.ERROR);
+        assertSame(Level.ERROR, levelRegistry.getLevel("com.example.Thing"));
+        levelRegistry.setLevel("com.example", null);
+        assertNull(levelRegistry.getLevel("com.example.Thing"));
+    }
+
+    @Test
+    public void shouldSetLevelOfRegisteredLogger() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        levelRegistry.setLevel("com.example", Level.DEBUG);
+        MockLogger logger = levelRegistry.register(new MockLogger("com.example.Thing", Level.INFO, null), Level.INFO);
+        assertSame(Level.DEBUG, logger.getLevel());
+    }
+
+    @Test
+    public void shouldPushChangesToAffectedLoggers() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        MockLogger logger1 = levelRegistry.register(new MockLogger("com.example.db.Connection", Level.INFO, null),
+                Level.INFO);
+        MockLogger logger2 = levelRegistry.register(new MockLogger("com.example.web.Handler", Level.INFO, null),
+                Level.INFO);
+        MockLogger logger3 = levelRegistry.register(new MockLogger("com.example.dbx", Level.WARN, null), Level.WARN);
+        levelRegistry.setLevel("com.example.db", Level.TRACE);
+        assertSame(Level.TRACE, logger1.getLevel());
+        assertSame(Level.INFO, logger2.getLevel());
+        assertSame(Level.WARN, logger3.getLevel());
+        levelRegistry.setLevel("com.example", Level.ERROR);
+        assertSame(Level.TRACE, logger1.getLevel());
+        assertSame(Level.ERROR, logger2.getLevel());
+        assertSame(Level.ERROR, logger3.getLevel());
+        levelRegistry.setLevel("com.example.db", null);
+        assertSame(Level.ERROR, logger1.getLevel());
+        levelRegistry.setLevel("com.example", null);
+        assertSame(Level.INFO, logger1.getLevel());
+        assertSame(Level.INFO, logger2.getLevel());
+        assertSame(Level.WARN, logger3.getLevel());
+        levelRegistry.setRootLevel(Level.DEBUG);
+        assertSame(Level.DEBUG, logger1.getLevel());
+        assertSame(Level.DEBUG, logger3.getLevel());
+        levelRegistry.setRootLevel(null);
+        assertSame(Level.WARN, logger3.getLevel());
+    }
+
+    @Test
+    public void shouldRejectInvalidPrefix() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        LoggerException exception = assertThrows(LoggerException.class,
+                () -> levelRegistry.setLevel("com.éxample", Level.INFO));
+        assertEquals("Illegal character in Logger name", exception.getMessage());
+    }
+
+    @Test
+    public void shouldRemoveEmptyNodes() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        levelRegistry.setLevel("com.example.db", Level.DEBUG);
+        assertEquals(3, levelRegistry.getNodeCount());
+        levelRegistry.setLevel("com.example.db", null);
+        assertEquals(0, levelRegistry.getNodeCount());
+        MockLogger logger = levelRegistry.register(new MockLogger("com.example.Thing", Level.INFO, null), Level.INFO);
+        levelRegistry.setLevel("com.example.db", Level.DEBUG);
+        levelRegistry.setLevel("com.example.db", null);
+        assertEquals(3, levelRegistry.getNodeCount());
+        assertEquals(1, levelRegistry.getRegisteredCount());
+        assertSame(Level.INFO, logger.getLevel());
+    }
+
+    @Test
+    public void shouldNotDuplicateRegistration() {
+        LevelRegistry levelRegistry = new LevelRegistry();
+        MockLogger logger = new MockLogger("com.example.Thing", Level.INFO, null);
+        levelRegistry.register(logger, Level.INFO);
+        levelRegistry.register(logger, Level.INFO);
+        MockLogger other = levelRegistry.register(new MockLogger("com.example.Thing", Level.INFO, null), Level.INFO);
+        assertEquals(2, levelRegistry.getRegisteredCount());
+        levelRegistry.setLevel("com", Level.WARN);
+        assertSame(Level.WARN, logger.getLevel());
+        assertSame(Level.WARN, other.getLevel());
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * @(#) LogEventBuilderTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Instant;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.LogEventBuilder;
+import io.jstuff.log.LoggerFactory;
+
+public class LogEventBuilderTest {
+
+    @Test
+    public void shouldRenderKeyValuePairs() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        mockLogger.atInfo().add("userId", "u123").add("latencyNs", 1500L).add("ratio", 0.25).add("ok", true)
+                .message("done").emit();
+        mockLogger.atWarn().add("count", 3).emit();
+        assertEquals("Bilby INFO done userId=u123 latencyNs=1500 ratio=0.25 ok=true\nBilby WARN count=3\n",
+                mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldRenderCharAndFloatValuesAsOriginalType() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        mockLogger.atInfo().add("grade", 'A').add("ratio", 0.1F).emit();
+        assertEquals("Bilby INFO grade=A ratio=0.1\n", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldReturnNoopWhenLevelDisabled() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        LogEventBuilder builder = mockLogger.atDebug();
+        assertSame(LogEventBuilder.noop, builder);
+        assertSame(LogEventBuilder.noop, mockLogger.atLevel(Level.TRACE));
+        builder.add("value", () -> {
+            fail("Should not be called");
+            return null;
+        }).message("hidden").emit();
+        assertEquals("", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldReuseBuilderInSameThread() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        LogEventBuilder builder1 = mockLogger.atInfo();
+        builder1.message("first").emit();
+        LogEventBuilder builder2 = mockLogger.atError();
+        assertSame(builder1, builder2);
+        builder2.message("second").emit();
+        assertEquals("Bilby INFO first\nBilby ERROR second\n", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldDiscardAbandonedBuilder() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        mockLogger.atInfo().add("abandoned", 1);
+        mockLogger.atInfo().add("used", 2).emit();
+        assertEquals("Bilby INFO used=2\n", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldHandleNestedEvent() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        Object value = new Object() {
+            @Override
+            public String toString() {
+                LogEventBuilder nested = mockLogger.atInfo();
+                nested.message("nested").emit();
+                return "outer-value";
+            }
+        };
+        LogEventBuilder builder = mockLogger.atInfo();
+        builder.add("value", value).emit();
+        assertNotSame(builder, LogEventBuilder.noop);
+        assertEquals("Bilby INFO nested\nBilby INFO value=outer-value\n", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldHandleEventBuiltInArgumentOfAnotherEvent() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        mockLogger.atInfo().message("outer").add("inner", logInner(mockLogger)).add("after", 2).emit();
+        assertEquals("Bilby INFO inner value=1\nBilby INFO outer inner=done after=2\n", mockLogger.getContents());
+        mockLogger.atInfo().message("next").emit();
+        assertEquals("Bilby INFO inner value=1\nBilby INFO outer inner=done after=2\nBilby INFO next\n",
+                mockLogger.getContents());
+    }
+
+    private static String logInner(MockLogger mockLogger) {
+        mockLogger.atInfo().message("inner").add("value", 1).emit();
+        return "done";
+    }
+
+    @Test
+    public void shouldPassTimeAndThrowable() {
+        MockLogger mockLogger = new MockLogger("Bilby", Level.INFO, LoggerFactory.systemClock);
+        Instant time = Instant.parse("2025-07-18T02:20:24.123Z");
+        mockLogger.atError().throwable(new RuntimeException("magic")).time(time).message("failed").emit();
+        mockLogger.atWarn().throwable(new RuntimeException("magic")).message("odd").emit();
+        mockLogger.atInfo().time(1752805224_123456789L).message("precise").emit();
+        assertEquals("Bilby ERROR@2025-07-18T12:20:24.123+10:00 failed : magic\n" +
+                "Bilby WARN odd throwable=java.lang.RuntimeException: magic\n" +
+                "Bilby INFO@2025-07-18T12:20:24.123456789+10:00 precise\n", mockLogger.getContents());
+    }
+
+}
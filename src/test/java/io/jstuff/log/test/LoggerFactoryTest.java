@@ -2,7 +2,7 @@
  * @(#) LoggerFactoryTest.java
  *
  * log-front-api  Logging Interface API
- * Copyright (c) 2022, 2025 Peter Wall
+ * Copyright (c) 2022, 2025, 2026 Peter Wall
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -38,6 +38,7 @@ import static org.junit.Assert.assertThrows;
 import io.jstuff.log.Level;
 import io.jstuff.log.Logger;
 import io.jstuff.log.LoggerFactory;
+import io.jstuff.log.LoggerName;
 
 public class LoggerFactoryTest {
 
@@ -52,6 +53,15 @@ public class LoggerFactoryTest {
         assertSame(LoggerFactory.systemClock, logger.getClock());
     }
 
+    @Test
+    public void shouldCreateLoggerWithLoggerName() {
+        MockLoggerFactory mockLoggerFactory = new MockLoggerFactory();
+        Logger logger = mockLoggerFactory.getLogger(LoggerName.of("Manatee"), Level.WARN);
+        assertEquals("Manatee", logger.getName());
+        assertEquals(Level.WARN, logger.getLevel());
+        assertSame(LoggerFactory.systemClock, logger.getClock());
+    }
+
     @Test
     public void shouldCreateLoggerWithSpecifiedNameAndLevel() {
         MockLoggerFactory mockLoggerFactory = new MockLoggerFactory();
@@ -157,6 +167,14 @@ public class LoggerFactoryTest {
         assertSame(fixedClock, logger.getClock());
     }
 
+    @Test
+    public void shouldCreateLoggerWithNameOfNestedClassDeterminedDynamically() {
+        MockLoggerFactory mockLoggerFactory = new MockLoggerFactory();
+        Logger logger = new Nested().getLogger(mockLoggerFactory);
+        assertEquals(qualifiedClassName + "$Nested", logger.getName());
+        assertSame(logger.getName(), new Nested().getLogger(mockLoggerFactory).getName());
+    }
+
     @Test
     public void shouldValidateLoggerName() {
         LoggerFactory.validateLoggerName("abc");
@@ -171,4 +189,12 @@ public class LoggerFactoryTest {
         assertEquals("Illegal character in Logger name", exception.getMessage());
     }
 
+    private static class Nested {
+
+        Logger getLogger(LoggerFactory<?> loggerFactory) {
+            return loggerFactory.getLogger();
+        }
+
+    }
+
 }
@@ -0,0 +1,102 @@
+/*
+ * @(#) LoggerNameTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.LoggerName;
+
+public class LoggerNameTest {
+
+    @Test
+    public void shouldInternNames() {
+        LoggerName loggerName = LoggerName.of("com.example.db.Connection");
+        assertSame(loggerName, LoggerName.of("com.example.db.Connection"));
+        assertSame(loggerName, LoggerName.of(new StringBuilder("com.example.db.").append("Connection").toString()));
+        assertEquals("com.example.db.Connection", loggerName.toString());
+        assertEquals("com.example.db.Connection".hashCode(), loggerName.hashCode());
+    }
+
+    @Test
+    public void shouldSplitSegmentsAndLinkParents() {
+        LoggerName loggerName = LoggerName.of("com.example.db.Connection");
+        assertEquals(4, loggerName.getSegmentCount());
+        assertEquals("com", loggerName.getSegment(0));
+        assertEquals("Connection", loggerName.getSegment(3));
+        LoggerName parent = loggerName.getParent();
+        assertSame(LoggerName.of("com.example.db"), parent);
+        assertEquals(3, parent.getSegmentCount());
+        assertSame(LoggerName.of("com"), parent.getParent().getParent());
+        assertNull(LoggerName.of("com").getParent());
+        assertTrue(LoggerName.of("com.example").contains(loggerName));
+        assertTrue(loggerName.contains(loggerName));
+        assertFalse(LoggerName.of("com.exam").contains(loggerName));
+        assertFalse(loggerName.contains(parent));
+    }
+
+    @Test
+    public void shouldProvideAsciiBytes() {
+        LoggerName loggerName = LoggerName.of(Level.class);
+        byte[] expected = Level.class.getName().getBytes(StandardCharsets.US_ASCII);
+        assertEquals(expected.length, loggerName.length());
+        assertArrayEquals(expected, loggerName.getBytes());
+        byte[] target = new byte[expected.length + 2];
+        assertEquals(expected.length + 1, loggerName.copyBytes(target, 1));
+        assertEquals(expected[0], target[1]);
+    }
+
+    @Test
+    public void shouldReleaseUnreferencedNames() {
+        WeakReference<LoggerName> reference = new WeakReference<>(LoggerName.of("com.example.unreferenced.Thing"));
+        for (int i = 0; i < 20 && reference.get() != null; i++)
+            System.gc();
+        assertNull(reference.get());
+        LoggerName loggerName = LoggerName.of("com.example.unreferenced.Thing");
+        assertSame(loggerName, LoggerName.of("com.example.unreferenced.Thing"));
+        assertEquals("com.example.unreferenced", loggerName.getParent().toString());
+    }
+
+    @Test
+    public void shouldValidateName() {
+        LoggerException exception = assertThrows(LoggerException.class, () -> LoggerName.of("café"));
+        assertEquals("Illegal character in Logger name", exception.getMessage());
+        exception = assertThrows(LoggerException.class, () -> LoggerName.of((String)null));
+        assertEquals("Logger name must not be null", exception.getMessage());
+    }
+
+}
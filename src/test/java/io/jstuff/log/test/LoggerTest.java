@@ -2,7 +2,7 @@
  * @(#) LoggerTest.java
  *
  * log-front-api  Logging Interface API
- * Copyright (c) 2022, 2025 Peter Wall
+ * Copyright (c) 2022, 2025, 2026 Peter Wall
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -152,6 +152,98 @@ public class LoggerTest {
         assertEquals("Budgerigar ERROR@2025-07-18T12:20:24.123+10:00 goodbye : magic\n", mockLogger.getContents());
     }
 
+    @Test
+    public void shouldLogInfoUsingPattern() {
+        MockLogger mockLogger = new MockLogger("Currawong", Level.INFO, LoggerFactory.systemClock);
+        mockLogger.info("Count = {}", 27);
+        mockLogger.info("Name = {}, age = {}", "Fred", 42);
+        mockLogger.warn("{} + {} = {}", 1, 2, 3);
+        assertEquals("Currawong INFO Count = 27\nCurrawong INFO Name = Fred, age = 42\nCurrawong WARN 1 + 2 = 3\n",
+                mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldLogInfoWithTimeUsingPattern() {
+        MockLogger mockLogger = new MockLogger("Currawong", Level.INFO, LoggerFactory.systemClock);
+        OffsetDateTime time = OffsetDateTime.of(2025, 7, 18, 12, 20, 24, 123000000, ZoneOffset.ofHours(10));
+        mockLogger.info(time.toInstant(), "Count = {}", 27);
+        assertEquals("Currawong INFO@2025-07-18T12:20:24.123+10:00 Count = 27\n", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldLogErrorWithThrowableUsingPattern() {
+        MockLogger mockLogger = new MockLogger("Currawong", Level.INFO, LoggerFactory.systemClock);
+        Throwable throwable = new RuntimeException("magic");
+        mockLogger.error(throwable, "Failed after {} attempts", 3);
+        assertEquals("Currawong ERROR Failed after 3 attempts : magic\n", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldLogWithVariableLevelUsingPattern() {
+        MockLogger mockLogger = new MockLogger("Currawong", Level.INFO, LoggerFactory.systemClock);
+        mockLogger.log(Level.WARN, "Count = {}", 27);
+        mockLogger.log(Level.DEBUG, "Count = {}", 28);
+        assertEquals("Currawong WARN Count = 27\n", mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldLogUsingPatternWithPrimitiveArguments() {
+        MockLogger mockLogger = new MockLogger("Currawong", Level.DEBUG, LoggerFactory.systemClock);
+        mockLogger.debug("Latency = {}ns", 123456789L);
+        mockLogger.info("Sent {} of {}", 5, 8);
+        mockLogger.log(Level.WARN, "Ratio = {}", 0.25);
+        mockLogger.trace("Count = {}", 27);
+        assertEquals("Currawong DEBUG Latency = 123456789ns\nCurrawong INFO Sent 5 of 8\nCurrawong WARN Ratio = 0.25\n",
+                mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldLogUsingPatternWithCharAndFloatArguments() {
+        MockLogger mockLogger = new MockLogger("Currawong", Level.TRACE, LoggerFactory.systemClock);
+        mockLogger.info("char {}", 'c');
+        mockLogger.debug("float {}", 0.1F);
+        mockLogger.warn("{} to {}", 'a', 'b');
+        mockLogger.error("{} of {}", 'x', 3);
+        mockLogger.trace("{} of {}", 3L, 'y');
+        mockLogger.log(Level.INFO, "char {}", 'd');
+        mockLogger.log(Level.INFO, "float {}", 2.5F);
+        assertEquals("Currawong INFO char c\nCurrawong DEBUG float 0.1\nCurrawong WARN a to b\n" +
+                "Currawong ERROR x of 3\nCurrawong TRACE 3 of y\nCurrawong INFO char d\nCurrawong INFO float 2.5\n",
+                mockLogger.getContents());
+    }
+
+    @Test
+    public void shouldNotFormatPatternWhenLevelDisabled() {
+        MockLogger mockLogger = new MockLogger("Currawong", Level.WARN, LoggerFactory.systemClock);
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                fail("Should not be called");
+                return null;
+            }
+        };
+        mockLogger.info("Value = {}", argument);
+        mockLogger.debug("Values = {}, {}", argument, argument);
+        mockLogger.trace(Instant.now(), "Values = {}, {}, {}", argument, argument, argument);
+        assertEquals(0, mockLogger.getContents().length());
+    }
+
+    @Test
+    public void shouldOutputWithEpochNanosTime() {
+        MockLogger mockLogger = new MockLogger("Galah", Level.INFO, LoggerFactory.systemClock);
+        long epochNanos = 1752805224_123456789L;
+        mockLogger.infoAt(epochNanos, "hello");
+        mockLogger.debugAt(epochNanos, () -> {
+            fail("Should not be called");
+            return null;
+        });
+        mockLogger.errorAt(epochNanos, new RuntimeException("magic"), () -> "goodbye");
+        mockLogger.logAt(epochNanos, Level.WARN, "careful");
+        assertEquals("Galah INFO@2025-07-18T12:20:24.123456789+10:00 hello\n" +
+                "Galah ERROR@2025-07-18T12:20:24.123456789+10:00 goodbye : magic\n" +
+                "Galah WARN@2025-07-18T12:20:24.123456789+10:00 careful\n", mockLogger.getContents());
+    }
+
     @Test
     public void shouldIgnoreSetterIfNotOverridden() {
         Logger logger = new NullLogger("Emu");
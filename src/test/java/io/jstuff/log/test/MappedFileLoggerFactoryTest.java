@@ -0,0 +1,174 @@
+/*
+ * @(#) MappedFileLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.MappedFileLogger;
+import io.jstuff.log.MappedFileLoggerFactory;
+
+public class MappedFileLoggerFactoryTest {
+
+    private static final Clock fixedClock = Clock.fixed(Instant.parse("2025-07-18T02:20:24.123Z"), ZoneOffset.UTC);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldWriteEventsToFile() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        MappedFileLoggerFactory loggerFactory = new MappedFileLoggerFactory(directory, "test", 4096, Duration.ZERO);
+        Path path = loggerFactory.getCurrentPath();
+        assertEquals(directory.resolve("test-000001.log"), path);
+        MappedFileLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        logger.info("Hello");
+        logger.debug("hidden");
+        logger.warn(Instant.parse("2025-07-18T02:20:25Z"), "explicit");
+        logger.infoAt(1_752_805_224_123_456_789L, "nanos");
+        loggerFactory.force();
+        loggerFactory.close();
+        assertNull(loggerFactory.getCurrentPath());
+        assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Hello\n" +
+                "2025-07-18T02:20:25.000Z WARN Wombat explicit\n" +
+                "2025-07-18T02:20:24.123456789Z INFO Wombat nanos\n",
+                new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        logger.info("discarded");
+    }
+
+    @Test
+    public void shouldRollToNewSegmentWhenFull() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Files.createFile(directory.resolve("test-000007.log"));
+        MappedFileLoggerFactory loggerFactory = new MappedFileLoggerFactory(directory, "test", 4096, Duration.ZERO);
+        assertEquals(directory.resolve("test-000008.log"), loggerFactory.getCurrentPath());
+        MappedFileLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        for (int i = 0; i < 200; i++)
+            logger.info("Event {}", i);
+        loggerFactory.close();
+        List<String> lines = new ArrayList<>();
+        for (int i = 8; i <= 10; i++)
+            lines.addAll(Files.readAllLines(directory.resolve(String.format("test-%06d.log", i))));
+        assertEquals(200, lines.size());
+        for (int i = 0; i < 200; i++)
+            assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Event " + i, lines.get(i));
+        assertTrue(Files.size(directory.resolve("test-000008.log")) <= 4096);
+    }
+
+    @Test
+    public void shouldWriteEventsFromMultipleThreads() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        MappedFileLoggerFactory loggerFactory = new MappedFileLoggerFactory(directory, "test", 8192,
+                Duration.ofMillis(10));
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            MappedFileLogger logger = loggerFactory.getLogger("Thread" + i, fixedClock);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++)
+                    logger.info("Event {}", j);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        loggerFactory.close();
+        int count = 0;
+        for (Path path : Files.newDirectoryStream(directory)) {
+            for (String line : Files.readAllLines(path)) {
+                assertTrue(line.matches("2025-07-18T02:20:24\\.123Z INFO Thread[0-3] Event [0-9]+"));
+                count++;
+            }
+        }
+        assertEquals(4000, count);
+    }
+
+    @Test
+    public void shouldReportErrorCreatingSegmentAndDiscardEvents() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        List<IOException> errors = new ArrayList<>();
+        MappedFileLoggerFactory loggerFactory = new MappedFileLoggerFactory(directory, "test", 4096, Duration.ZERO,
+                errors::add);
+        Files.createDirectory(directory.resolve("test-000002.log"));
+        MappedFileLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        for (int i = 0; i < 200; i++)
+            logger.info("Event {}", i);
+        assertEquals(1, errors.size());
+        assertSame(errors.get(0), loggerFactory.getLastException());
+        assertEquals(1, loggerFactory.getErrorCount());
+        assertNull(loggerFactory.getCurrentPath());
+        loggerFactory.close();
+        List<String> lines = Files.readAllLines(directory.resolve("test-000001.log"));
+        assertTrue(lines.size() > 0 && lines.size() < 200);
+        for (int i = 0; i < lines.size(); i++)
+            assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Event " + i, lines.get(i));
+    }
+
+    @Test
+    public void shouldCountErrorsWithDefaultErrorHandler() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        MappedFileLoggerFactory loggerFactory = new MappedFileLoggerFactory(directory, "test", 4096, Duration.ZERO);
+        Files.createDirectory(directory.resolve("test-000002.log"));
+        MappedFileLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        for (int i = 0; i < 200; i++)
+            logger.info("Event {}", i);
+        assertEquals(1, loggerFactory.getErrorCount());
+        assertNotNull(loggerFactory.getLastException());
+        loggerFactory.close();
+    }
+
+    @Test
+    public void shouldRejectNullForceInterval() {
+        NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> new MappedFileLoggerFactory(temporaryFolder.getRoot().toPath(), "test", 4096, null));
+        assertEquals("Force interval must not be null", exception.getMessage());
+    }
+
+    @Test(expected = LoggerException.class)
+    public void shouldRejectSmallSegmentSize() {
+        new MappedFileLoggerFactory(temporaryFolder.getRoot().toPath(), "test", 100, Duration.ZERO);
+    }
+
+}
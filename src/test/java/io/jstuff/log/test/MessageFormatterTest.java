@@ -0,0 +1,95 @@
+/*
+ * @(#) MessageFormatterTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+import io.jstuff.log.MessageFormatter;
+
+public class MessageFormatterTest {
+
+    @Test
+    public void shouldFormatWithOneArgument() {
+        assertEquals("Count = 27", MessageFormatter.format("Count = {}", 27));
+        assertEquals("27 items", MessageFormatter.format("{} items", 27));
+        assertEquals("[27]", MessageFormatter.format("[{}]", 27));
+        assertEquals("Value = null", MessageFormatter.format("Value = {}", null));
+    }
+
+    @Test
+    public void shouldFormatWithTwoArguments() {
+        assertEquals("Name = Fred, age = 42", MessageFormatter.format("Name = {}, age = {}", "Fred", 42));
+        assertEquals("Fred42", MessageFormatter.format("{}{}", "Fred", 42));
+    }
+
+    @Test
+    public void shouldFormatWithThreeArguments() {
+        assertEquals("1 + 2 = 3", MessageFormatter.format("{} + {} = {}", 1, 2, 3));
+    }
+
+    @Test
+    public void shouldFormatWithPrimitiveArguments() {
+        assertEquals("Latency = 123456789ns", MessageFormatter.format("Latency = {}ns", 123456789L));
+        assertEquals("Sent 5 of 8", MessageFormatter.format("Sent {} of {}", 5L, 8L));
+        assertEquals("Ratio = 0.25", MessageFormatter.format("Ratio = {}", 0.25));
+        assertEquals("Sent 5 of {}", MessageFormatter.format("Sent {} of {}", 5L));
+    }
+
+    @Test
+    public void shouldFormatCharAndFloatArgumentsAsOriginalType() {
+        assertEquals("char c", MessageFormatter.format("char {}", 'c'));
+        assertEquals("float 0.1", MessageFormatter.format("float {}", 0.1F));
+        assertEquals("a to b", MessageFormatter.format("{} to {}", 'a', 'b'));
+        assertEquals("a 5", MessageFormatter.format("{} {}", 'a', 5));
+        assertEquals("5 a", MessageFormatter.format("{} {}", 5, 'a'));
+    }
+
+    @Test
+    public void shouldLeaveSurplusPlaceholdersUnchanged() {
+        assertEquals("1 + {} = {}", MessageFormatter.format("{} + {} = {}", 1));
+        assertEquals("1 + 2 = {}", MessageFormatter.format("{} + {} = {}", 1, 2));
+    }
+
+    @Test
+    public void shouldIgnoreSurplusArguments() {
+        assertEquals("No placeholders", MessageFormatter.format("No placeholders", 1, 2, 3));
+        assertEquals("Only 1", MessageFormatter.format("Only {}", 1, 2));
+    }
+
+    @Test
+    public void shouldFormatNullPattern() {
+        assertEquals("null", MessageFormatter.format(null, 1));
+    }
+
+    @Test
+    public void shouldAppendToStringBuilder() {
+        StringBuilder sb = new StringBuilder("Message: ");
+        MessageFormatter.appendFormatted(sb, "{} and {}", "this", "that");
+        assertEquals("Message: this and that", sb.toString());
+    }
+
+}
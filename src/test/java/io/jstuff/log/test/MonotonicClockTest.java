@@ -0,0 +1,122 @@
+/*
+ * @(#) MonotonicClockTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.MonotonicClock;
+
+public class MonotonicClockTest {
+
+    @Test
+    public void shouldReturnStrictlyIncreasingTimes() {
+        MonotonicClock monotonicClock = new MonotonicClock();
+        long previous = monotonicClock.epochNanos();
+        for (int i = 0; i < 100_000; i++) {
+            long next = monotonicClock.epochNanos();
+            assertTrue(next > previous);
+            previous = next;
+        }
+        Instant first = monotonicClock.instant();
+        Instant second = monotonicClock.instant();
+        assertTrue(second.isAfter(first));
+        assertTrue(Math.abs(System.currentTimeMillis() - monotonicClock.millis()) < 1000);
+    }
+
+    @Test
+    public void shouldRemainMonotonicWhenUnderlyingClockGoesBackwards() {
+        MutableClock mutableClock = new MutableClock(Instant.parse("2025-07-18T02:20:24.123Z"));
+        MonotonicClock monotonicClock = new MonotonicClock(mutableClock, Duration.ZERO, Duration.ofMillis(1));
+        Instant before = monotonicClock.instant();
+        mutableClock.instant = mutableClock.instant.minusSeconds(3600);
+        Instant after = monotonicClock.instant();
+        assertTrue(after.isAfter(before));
+        assertTrue(after.isBefore(before.plusSeconds(1)));
+    }
+
+    @Test
+    public void shouldReanchorWhenDriftExceedsThreshold() {
+        MutableClock mutableClock = new MutableClock(Instant.parse("2025-07-18T02:20:24.123Z"));
+        MonotonicClock monotonicClock = new MonotonicClock(mutableClock, Duration.ZERO, Duration.ofMillis(1));
+        Instant before = monotonicClock.instant();
+        mutableClock.instant = mutableClock.instant.plusSeconds(3600);
+        Instant after = monotonicClock.instant();
+        assertTrue(!after.isBefore(mutableClock.instant));
+        assertTrue(after.isBefore(before.plusSeconds(3601)));
+    }
+
+    @Test
+    public void shouldShareStateWithZoneVariant() {
+        MonotonicClock monotonicClock = new MonotonicClock();
+        MonotonicClock zoned = monotonicClock.withZone(ZoneId.of("Australia/Sydney"));
+        assertEquals(ZoneId.of("Australia/Sydney"), zoned.getZone());
+        long first = monotonicClock.epochNanos();
+        assertTrue(zoned.epochNanos() > first);
+    }
+
+    @Test
+    public void shouldRejectInvalidParameters() {
+        LoggerException exception = assertThrows(LoggerException.class,
+                () -> new MonotonicClock(Clock.systemUTC(), Duration.ofSeconds(-1), Duration.ZERO));
+        assertEquals("Check interval must not be negative", exception.getMessage());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
@@ -25,10 +25,24 @@
 
 package io.jstuff.log.test;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import io.jstuff.log.Level;
+import io.jstuff.log.LogEventBuilder;
 import io.jstuff.log.Logger;
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.NullLogger;
 import io.jstuff.log.NullLoggerFactory;
 
 public class NullLoggerTest {
@@ -40,4 +54,55 @@ public class NullLoggerTest {
         assertEquals("io.jstuff.log.test.NullLoggerTest", logger.getName());
     }
 
+    @Test
+    public void shouldReturnSameInstanceForSameName() {
+        NullLoggerFactory nullLoggerFactory = new NullLoggerFactory();
+        NullLogger logger1 = nullLoggerFactory.getLogger("Wombat");
+        assertSame(logger1, nullLoggerFactory.getLogger("Wombat", Level.TRACE));
+        assertNotSame(logger1, nullLoggerFactory.getLogger("Numbat"));
+        assertEquals("Numbat", nullLoggerFactory.getLogger("Numbat").getName());
+    }
+
+    @Test
+    public void shouldReleaseUnreferencedLoggers() {
+        NullLoggerFactory nullLoggerFactory = new NullLoggerFactory();
+        WeakReference<NullLogger> reference = new WeakReference<>(nullLoggerFactory.getLogger("Wombat"));
+        for (int i = 0; i < 20 && reference.get() != null; i++)
+            System.gc();
+        assertNull(reference.get());
+        NullLogger logger = nullLoggerFactory.getLogger("Wombat");
+        assertSame(logger, nullLoggerFactory.getLogger("Wombat"));
+    }
+
+    @Test(expected = LoggerException.class)
+    public void shouldRejectNullName() {
+        new NullLoggerFactory().getLogger((String)null);
+    }
+
+    @Test
+    public void shouldOverrideAllLoggingFunctions() throws NoSuchMethodException {
+        assertTrue(Modifier.isFinal(NullLogger.class.getModifiers()));
+        for (Method method : Logger.class.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getName().matches("[gs]et(Level|Clock)"))
+                continue;
+            assertSame(method.toString(), NullLogger.class,
+                    NullLogger.class.getMethod(method.getName(), method.getParameterTypes()).getDeclaringClass());
+        }
+    }
+
+    @Test
+    public void shouldIgnoreAllLogging() {
+        Logger logger = new NullLoggerFactory().getLogger("Wombat");
+        logger.info(() -> {
+            fail("Should not be called");
+            return null;
+        });
+        logger.log(Level.ERROR, () -> {
+            fail("Should not be called");
+            return null;
+        });
+        assertSame(LogEventBuilder.noop, logger.atError());
+        assertFalse(logger.isEnabled(Level.ERROR));
+    }
+
 }
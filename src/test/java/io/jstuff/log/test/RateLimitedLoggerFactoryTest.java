@@ -0,0 +1,225 @@
+/*
+ * @(#) RateLimitedLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.jstuff.log.Level;
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.RateLimitedLogger;
+import io.jstuff.log.RateLimitedLoggerFactory;
+
+public class RateLimitedLoggerFactoryTest {
+
+    private static final Clock fixedClock = Clock.fixed(Instant.parse("2025-07-18T02:20:24.123Z"), ZoneOffset.UTC);
+
+    @Test
+    public void shouldLimitEventsUsingTokenBucket() {
+        AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.tokenBucket(10.0, 2, nanoTime::get));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        logger.warn("one");
+        logger.warn("two");
+        logger.warn("three");
+        logger.warn(() -> {
+            fail("Should not be called");
+            return null;
+        });
+        logger.info("info");
+        assertEquals(2, logger.getSuppressedCount(Level.WARN));
+        assertEquals(2, loggerFactory.getSuppressedCount());
+        nanoTime.addAndGet(100_000_000L);
+        logger.warn(() -> "four");
+        logger.warn("five");
+        assertEquals("Wombat WARN one\n" +
+                "Wombat WARN two\n" +
+                "Wombat INFO info\n" +
+                "Wombat WARN 2 messages suppressed\n" +
+                "Wombat WARN four\n",
+                ((MockLogger)logger.getLogger()).getContents());
+        assertEquals(1, logger.getSuppressedCount(Level.WARN));
+        assertEquals(3, loggerFactory.getSuppressedCount());
+    }
+
+    @Test
+    public void shouldShareLimitersBetweenRequestsForSameLogger() {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(2));
+        RateLimitedLogger logger1 = loggerFactory.getLogger("Wombat", fixedClock);
+        RateLimitedLogger logger2 = loggerFactory.getLogger("Wombat", fixedClock);
+        assertSame(logger1, logger2);
+        assertNotSame(logger1, loggerFactory.getLogger("Numbat", fixedClock));
+        assertNotSame(logger1, loggerFactory.getLogger("Wombat", Level.DEBUG, fixedClock));
+        logger1.info("one");
+        logger2.info("two");
+        assertEquals(1, logger1.getSuppressedCount(Level.INFO));
+        loggerFactory.close();
+    }
+
+    @Test
+    public void shouldSampleOneInN() {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(3));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        for (int i = 0; i < 7; i++)
+            logger.info(i);
+        assertEquals("Wombat INFO 0\n" +
+                "Wombat INFO 2 messages suppressed\n" +
+                "Wombat INFO 3\n" +
+                "Wombat INFO 2 messages suppressed\n" +
+                "Wombat INFO 6\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldSampleWithProbability() {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.probability(0.0));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        for (int i = 0; i < 10; i++)
+            logger.error(new RuntimeException(), () -> {
+                fail("Should not be called");
+                return null;
+            });
+        assertEquals(10, loggerFactory.getSuppressedCount());
+        assertEquals("", ((MockLogger)logger.getLogger()).getContents());
+        loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.probability(1.0));
+        logger = loggerFactory.getLogger("Wombat", fixedClock);
+        logger.error("Always");
+        assertEquals("Wombat ERROR Always\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldNotFormatPatternForSuppressedEvent() {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(2));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        Object unformattable = new Object() {
+            @Override
+            public String toString() {
+                fail("Should not be called");
+                return null;
+            }
+        };
+        logger.info("Value {}", 1);
+        logger.info("Value {}", unformattable);
+        logger.warn(fixedClock.instant(), "Value {} {}", "a", "b");
+        logger.warn(fixedClock.instant(), "Value {} {}", unformattable, unformattable);
+        logger.error(new RuntimeException("x"), "Value {}", 'c');
+        logger.error(new RuntimeException("y"), "Value {}", unformattable);
+        logger.log(Level.INFO, "Value {}", 2.5F);
+        assertEquals("Wombat INFO Value 1\n" +
+                "Wombat WARN@2025-07-18T12:20:24.123+10:00 Value a b\n" +
+                "Wombat ERROR Value c : x\n" +
+                "Wombat INFO 1 message suppressed\n" +
+                "Wombat INFO Value 2.5\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldNotRenderBuilderEventForSuppressedEvent() {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(2));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        logger.atInfo().message("first").add("value", () -> 1).emit();
+        logger.atInfo().message("second").add("value", () -> {
+            fail("Should not be called");
+            return null;
+        }).emit();
+        logger.atInfo().message("third").add("value", () -> 3).emit();
+        assertEquals("Wombat INFO first value=1\n" +
+                "Wombat INFO 1 message suppressed\n" +
+                "Wombat INFO third value=3\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldOutputSuppressedCountsOnClose() {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(10));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        for (int i = 0; i < 4; i++)
+            logger.warn("Disk full");
+        loggerFactory.close();
+        assertEquals(0, logger.getSuppressedCount(Level.WARN));
+        assertEquals("Wombat WARN Disk full\n" +
+                "Wombat WARN 3 messages suppressed\n",
+                ((MockLogger)logger.getLogger()).getContents());
+    }
+
+    @Test
+    public void shouldOutputSuppressedCountsAtSummaryInterval() throws InterruptedException {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(10), Duration.ofMillis(20));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        logger.warn("Disk full");
+        logger.warn("Disk full");
+        MockLogger mockLogger = (MockLogger)logger.getLogger();
+        for (int i = 0; i < 500 && !mockLogger.getContents().contains("suppressed"); i++)
+            Thread.sleep(10);
+        assertTrue(mockLogger.getContents().endsWith("Wombat WARN 1 message suppressed\n"));
+        loggerFactory.close();
+    }
+
+    @Test
+    public void shouldPassLevelChangesToWrappedLogger() {
+        RateLimitedLoggerFactory loggerFactory = new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(1));
+        RateLimitedLogger logger = loggerFactory.getLogger("Wombat", Level.WARN, fixedClock);
+        logger.setLevel(Level.DEBUG);
+        assertEquals(Level.DEBUG, logger.getLogger().getLevel());
+    }
+
+    @Test
+    public void shouldRejectInvalidParameters() {
+        LoggerException exception = assertThrows(LoggerException.class,
+                () -> RateLimitedLoggerFactory.tokenBucket(0.0, 1));
+        assertEquals("Events per second must be positive", exception.getMessage());
+        exception = assertThrows(LoggerException.class, () -> RateLimitedLoggerFactory.oneInN(0));
+        assertEquals("Sampling interval must be positive", exception.getMessage());
+        exception = assertThrows(LoggerException.class, () -> RateLimitedLoggerFactory.probability(1.5));
+        assertEquals("Probability must be in the range 0.0 to 1.0", exception.getMessage());
+        exception = assertThrows(LoggerException.class, () -> new RateLimitedLoggerFactory(new MockLoggerFactory(),
+                RateLimitedLoggerFactory.oneInN(1), Duration.ofNanos(1)));
+        assertEquals("Summary interval must be at least 1 millisecond", exception.getMessage());
+    }
+
+}
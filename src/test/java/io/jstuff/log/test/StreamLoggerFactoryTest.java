@@ -0,0 +1,97 @@
+/*
+ * @(#) StreamLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.StreamLogger;
+import io.jstuff.log.StreamLoggerFactory;
+
+public class StreamLoggerFactoryTest {
+
+    private static final Clock fixedClock = Clock.fixed(Instant.parse("2025-07-18T02:20:24.123Z"), ZoneOffset.UTC);
+
+    @Test
+    public void shouldWriteEventsToStream() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamLoggerFactory loggerFactory = new StreamLoggerFactory(outputStream);
+        assertSame(outputStream, loggerFactory.getOutputStream());
+        StreamLogger logger = loggerFactory.getLogger("Wombat", fixedClock);
+        logger.info("Hello");
+        logger.debug("hidden");
+        logger.warn(Instant.parse("2025-07-18T02:20:25Z"), "explicit");
+        logger.infoAt(1_752_805_224_123_456_789L, "nanos");
+        assertEquals("2025-07-18T02:20:24.123Z INFO Wombat Hello\n2025-07-18T02:20:25.000Z WARN Wombat explicit\n" +
+                "2025-07-18T02:20:24.123456789Z INFO Wombat nanos\n", outputStream.toString("UTF-8"));
+        assertNull(loggerFactory.getLastException());
+    }
+
+    @Test
+    public void shouldNotInterleaveEventsFromMultipleThreads() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamLoggerFactory loggerFactory = new StreamLoggerFactory(outputStream);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            StreamLogger logger = loggerFactory.getLogger("Thread" + i, fixedClock);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++)
+                    logger.info("Event {}", j);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        String[] lines = outputStream.toString("UTF-8").split("\n");
+        assertEquals(4000, lines.length);
+        for (String line : lines)
+            assertTrue(line.matches("2025-07-18T02:20:24\\.123Z INFO Thread[0-7] Event [0-9]+"));
+    }
+
+    @Test
+    public void shouldRecordExceptionFromStream() {
+        IOException exception = new IOException("closed");
+        StreamLoggerFactory loggerFactory = new StreamLoggerFactory(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw exception;
+            }
+        });
+        loggerFactory.getLogger("Wombat", fixedClock).info("lost");
+        assertSame(exception, loggerFactory.getLastException());
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * @(#) ThrowableFormatterTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.LoggerException;
+import io.jstuff.log.ThrowableFormatter;
+
+public class ThrowableFormatterTest {
+
+    private static final StackTraceElement[] trace = {
+        new StackTraceElement("com.example.Service", "call", "Service.java", 27),
+        new StackTraceElement("sun.reflect.NativeMethodAccessorImpl", "invoke0", null, -2),
+        new StackTraceElement("sun.reflect.NativeMethodAccessorImpl", "invoke", "NativeMethodAccessorImpl.java", 62),
+        new StackTraceElement("com.example.Main", "run", "Main.java", 12),
+        new StackTraceElement("com.example.Main", "main", "Main.java", 5),
+    };
+
+    @Test
+    public void shouldFormatLikePrintStackTrace() {
+        Throwable cause = new IllegalStateException("inner");
+        RuntimeException throwable = new RuntimeException("outer", cause);
+        throwable.addSuppressed(new IllegalArgumentException("suppressed"));
+        StringWriter stringWriter = new StringWriter();
+        PrintWriter printWriter = new PrintWriter(stringWriter);
+        throwable.printStackTrace(printWriter);
+        printWriter.flush();
+        String expected = stringWriter.toString().replace(System.lineSeparator(), "\n");
+        assertEquals(expected, new ThrowableFormatter().format(throwable));
+    }
+
+    @Test
+    public void shouldElideFramesInCommonWithEnclosingTrace() {
+        RuntimeException cause = new IllegalStateException("inner");
+        StackTraceElement[] causeTrace = new StackTraceElement[3];
+        causeTrace[0] = new StackTraceElement("com.example.Dao", "load", "Dao.java", 99);
+        System.arraycopy(trace, 3, causeTrace, 1, 2);
+        cause.setStackTrace(causeTrace);
+        RuntimeException throwable = new RuntimeException("outer", cause);
+        throwable.setStackTrace(trace);
+        assertEquals("java.lang.RuntimeException: outer\n" +
+                "\tat com.example.Service.call(Service.java:27)\n" +
+                "\tat sun.reflect.NativeMethodAccessorImpl.invoke0(Native Method)\n" +
+                "\tat sun.reflect.NativeMethodAccessorImpl.invoke(NativeMethodAccessorImpl.java:62)\n" +
+                "\tat com.example.Main.run(Main.java:12)\n" +
+                "\tat com.example.Main.main(Main.java:5)\n" +
+                "Caused by: java.lang.IllegalStateException: inner\n" +
+                "\tat com.example.Dao.load(Dao.java:99)\n" +
+                "\t... 2 more\n", new ThrowableFormatter().format(throwable));
+    }
+
+    @Test
+    public void shouldTrimPackagesAndLimitDepth() {
+        RuntimeException throwable = new RuntimeException("outer");
+        throwable.setStackTrace(trace);
+        assertEquals("java.lang.RuntimeException: outer\n" +
+                "\tat com.example.Service.call(Service.java:27)\n" +
+                "\t... 2 trimmed\n" +
+                "\tat com.example.Main.run(Main.java:12)\n" +
+                "\tat com.example.Main.main(Main.java:5)\n",
+                new ThrowableFormatter(16, 10, "sun.reflect").format(throwable));
+        assertEquals("java.lang.RuntimeException: outer\n" +
+                "\tat com.example.Service.call(Service.java:27)\n" +
+                "\tat sun.reflect.NativeMethodAccessorImpl.invoke0(Native Method)\n" +
+                "\t... 3 frames omitted\n", new ThrowableFormatter(16, 3).format(throwable));
+        assertEquals("java.lang.RuntimeException: outer\n" +
+                "\tat com.example.Service.call(Service.java:27)\n" +
+                "\t... 2 trimmed\n" +
+                "\t... 2 frames omitted\n", new ThrowableFormatter(0, 3, "sun").format(throwable));
+    }
+
+    @Test
+    public void shouldCacheStackTraceByFingerprint() {
+        ThrowableFormatter formatter = new ThrowableFormatter(4, 100);
+        for (int i = 0; i < 5; i++) {
+            RuntimeException throwable = new RuntimeException("failure " + i);
+            throwable.setStackTrace(trace);
+            String formatted = formatter.format(throwable);
+            assertTrue(formatted.startsWith("java.lang.RuntimeException: failure " + i +
+                    "\n\tat com.example.Service"));
+        }
+        assertEquals(1, formatter.getCacheMisses());
+        assertEquals(4, formatter.getCacheHits());
+        IllegalStateException otherClass = new IllegalStateException("failure");
+        otherClass.setStackTrace(trace);
+        formatter.format(otherClass);
+        assertEquals(2, formatter.getCacheMisses());
+        RuntimeException otherFrames = new RuntimeException("failure");
+        StackTraceElement[] otherTrace = trace.clone();
+        otherTrace[0] = new StackTraceElement(trace[0].getClassName(), trace[0].getMethodName(),
+                trace[0].getFileName(), trace[0].getLineNumber() + 1);
+        otherFrames.setStackTrace(otherTrace);
+        String formatted = formatter.format(otherFrames);
+        assertEquals(3, formatter.getCacheMisses());
+        assertTrue(formatted.contains("(" + trace[0].getFileName() + ":" + (trace[0].getLineNumber() + 1) + ")"));
+        assertTrue(formatter.getCacheCount() <= 4);
+    }
+
+    @Test
+    public void shouldNotCacheWhenCacheSizeIsZero() {
+        ThrowableFormatter formatter = new ThrowableFormatter(0, 100);
+        RuntimeException throwable = new RuntimeException("failure");
+        throwable.setStackTrace(trace);
+        assertEquals(formatter.format(throwable), formatter.format(throwable));
+        assertEquals(0, formatter.getCacheHits());
+        assertEquals(0, formatter.getCacheMisses());
+        assertEquals(0, formatter.getCacheCount());
+    }
+
+    @Test
+    public void shouldDetectCircularReference() {
+        RuntimeException first = new RuntimeException("first");
+        RuntimeException second = new RuntimeException("second", first);
+        first.initCause(second);
+        String text = new ThrowableFormatter().format(first);
+        assertTrue(text.contains("Caused by: java.lang.RuntimeException: second\n"));
+        assertTrue(text.contains("Caused by: [CIRCULAR REFERENCE: java.lang.RuntimeException: first]\n"));
+    }
+
+    @Test(expected = LoggerException.class)
+    public void shouldRejectInvalidMaxDepth() {
+        new ThrowableFormatter(16, 0);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * @(#) TimingLoggerFactoryTest.java
+ *
+ * log-front-api  Logging Interface API
+ * Copyright (c) 2026 Peter Wall
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.jstuff.log.test;
+
+import java.time.Clock;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.jstuff.log.LatencyHistogram;
+import io.jstuff.log.Level;
+import io.jstuff.log.TimingLogger;
+import io.jstuff.log.TimingLoggerFactory;
+
+public class TimingLoggerFactoryTest {
+
+    @Test
+    public void shouldRecordTimeOfDelegateCalls() {
+        TimingLoggerFactory<MockLogger> loggerFactory = new TimingLoggerFactory<>(new SlowLoggerFactory());
+        TimingLogger logger = loggerFactory.getLogger("Possum");
+        logger.info("one");
+        logger.info("two");
+        logger.debug("ignored");
+        logger.error(new RuntimeException("magic"), "three");
+        LatencyHistogram.Snapshot snapshot = logger.getHistogram(Level.INFO).snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertTrue(snapshot.getP50() >= 2_000_000);
+        assertEquals(0, logger.getHistogram(Level.DEBUG).snapshot().getCount());
+        assertEquals(1, loggerFactory.getHistogram("Possum", Level.ERROR).snapshot().getCount());
+        assertSame(logger.getHistogram(Level.INFO), loggerFactory.getLogger("Possum").getHistogram(Level.INFO));
+        assertNull(loggerFactory.getHistogram("Wallaby", Level.INFO));
+        assertEquals("Possum INFO one\nPossum INFO two\nPossum ERROR three : magic\n",
+                ((MockLogger)logger.getLogger()).getContents());
+        loggerFactory.reset();
+        assertEquals(0, logger.getHistogram(Level.INFO).snapshot().getCount());
+    }
+
+    private static class SlowLoggerFactory extends MockLoggerFactory {
+
+        @Override
+        public MockLogger getLogger(String name, Level level, Clock clock) {
+            return new MockLogger(name, level, clock) {
+                @Override
+                public void info(Object message) {
+                    pause();
+                    super.info(message);
+                }
+            };
+        }
+
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(2);
+        }
+        catch (InterruptedException ignore) {
+        }
+    }
+
+}